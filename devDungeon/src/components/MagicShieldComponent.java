@@ -1,6 +1,7 @@
 package components;
 
 import core.Component;
+import core.game.GameClock;
 
 /**
  * MagicShieldComponent is a class that implements the Component interface. It is responsible for
@@ -72,7 +73,7 @@ public class MagicShieldComponent implements Component {
 
     this.currentStrength -= damage;
     if (isDepleted()) {
-      this.depletionAt = System.currentTimeMillis();
+      this.depletionAt = GameClock.millis();
     }
   }
 
@@ -83,7 +84,7 @@ public class MagicShieldComponent implements Component {
    * @return True if the shield can be recharged, false otherwise.
    */
   public boolean canBeRecharged() {
-    return isDepleted() && System.currentTimeMillis() - depletionAt >= cooldown;
+    return isDepleted() && GameClock.millis() - depletionAt >= cooldown;
   }
 
   /**
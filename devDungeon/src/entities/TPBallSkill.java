@@ -1,7 +1,5 @@
 package entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
 import contrib.utils.components.health.DamageType;
 import contrib.utils.components.skill.DamageProjectile;
@@ -9,6 +7,7 @@ import core.components.PlayerComponent;
 import core.utils.Point;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
+import core.utils.components.sound.SoundManager;
 import java.util.function.Supplier;
 import level.utils.LevelUtils;
 import utils.EntityUtils;
@@ -68,18 +67,12 @@ public final class TPBallSkill extends DamageProjectile {
 
   @Override
   protected void playSound() {
-    Sound soundEffect = Gdx.audio.newSound(Gdx.files.internal(PROJECTILE_SOUND.pathString()));
-
     // Generate a random pitch between 1.5f and 2.0f
     float minPitch = 2f;
     float maxPitch = 3f;
     float randomPitch = MathUtils.random(minPitch, maxPitch);
 
-    // Play the sound with the adjusted pitch
-    long soundId = soundEffect.play();
-    soundEffect.setPitch(soundId, randomPitch);
-
-    // Set the volume
-    soundEffect.setVolume(soundId, 0.05f);
+    // Play the sound with the adjusted pitch and volume
+    SoundManager.play(PROJECTILE_SOUND, 0.05f, randomPitch, SoundManager.NORMAL_PRIORITY);
   }
 }
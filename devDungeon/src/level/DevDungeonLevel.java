@@ -17,7 +17,9 @@ import java.util.List;
 import java.util.Random;
 import java.util.stream.IntStream;
 import level.devlevel.*;
+import level.utils.BinaryLevelFormat;
 import level.utils.ITickable;
+import level.utils.LevelData;
 import level.utils.MissingLevelException;
 import starter.DevDungeon;
 
@@ -103,23 +105,46 @@ public abstract class DevDungeonLevel extends TileLevel implements ITickable {
   /**
    * Loads a DevDungeonLevel from the given path.
    *
+   * <p>Files with the extension {@value BinaryLevelFormat#EXTENSION} are loaded with the {@link
+   * BinaryLevelFormat}, all other files are parsed as text level files.
+   *
    * @param path The path to the level file.
    * @return The loaded DevDungeonLevel.
    */
   public static DevDungeonLevel loadFromPath(IPath path) {
-    try {
-      BufferedReader reader;
-      if (path.pathString().startsWith("jar:")) {
-        InputStream is = DevDungeonLevel.class.getResourceAsStream(path.pathString().substring(4));
-        reader = new BufferedReader(new InputStreamReader(is));
-      } else {
-        File file = new File(path.pathString());
-        if (!file.exists()) {
-          throw new MissingLevelException(path.toString());
-        }
-        reader = new BufferedReader(new FileReader(file));
-      }
+    LevelData data =
+        path.pathString().endsWith(BinaryLevelFormat.EXTENSION)
+            ? BinaryLevelFormat.load(path)
+            : readLevelData(path);
+    DesignLabel designLabel =
+        data.designLabel() != null ? data.designLabel() : DesignLabel.randomDesign();
+
+    DevDungeonLevel newLevel =
+        getDevLevel(
+            DevDungeon.DUNGEON_LOADER.currentLevel(),
+            data.layout(),
+            designLabel,
+            data.customPoints());
+
+    // Set Hero Position
+    Tile heroTile = newLevel.tileAt(data.heroPosition());
+    if (heroTile == null) {
+      throw new RuntimeException("Invalid Hero Position: " + data.heroPosition());
+    }
+    newLevel.startTile(heroTile);
 
+    return newLevel;
+  }
+
+  /**
+   * Reads a text level file from the given path.
+   *
+   * @param path The path to the text level file.
+   * @return The content of the level file. The design label is null if the file does not specify
+   *     one.
+   */
+  public static LevelData readLevelData(IPath path) {
+    try (BufferedReader reader = openLevelFile(path)) {
       // Parse DesignLabel
       String designLabelLine = readLine(reader);
       DesignLabel designLabel = parseDesignLabel(designLabelLine);
@@ -140,23 +165,24 @@ public abstract class DevDungeonLevel extends TileLevel implements ITickable {
       }
       LevelElement[][] layout = loadLevelLayoutFromString(layoutLines);
 
-      DevDungeonLevel newLevel;
-      newLevel =
-          getDevLevel(DevDungeon.DUNGEON_LOADER.currentLevel(), layout, designLabel, customPoints);
-
-      // Set Hero Position
-      Tile heroTile = newLevel.tileAt(heroPos);
-      if (heroTile == null) {
-        throw new RuntimeException("Invalid Hero Position: " + heroPos);
-      }
-      newLevel.startTile(heroTile);
-
-      return newLevel;
+      return new LevelData(designLabel, heroPos, customPoints, layout);
     } catch (IOException e) {
       throw new RuntimeException("Error reading level file", e);
     }
   }
 
+  private static BufferedReader openLevelFile(IPath path) throws IOException {
+    if (path.pathString().startsWith("jar:")) {
+      InputStream is = DevDungeonLevel.class.getResourceAsStream(path.pathString().substring(4));
+      return new BufferedReader(new InputStreamReader(is));
+    }
+    File file = new File(path.pathString());
+    if (!file.exists()) {
+      throw new MissingLevelException(path.toString());
+    }
+    return new BufferedReader(new FileReader(file));
+  }
+
   /**
    * Read a line from the reader, ignoring comments. It skips lines that start with a '#' (comments)
    * and returns the next non-empty line.
@@ -209,7 +235,7 @@ public abstract class DevDungeonLevel extends TileLevel implements ITickable {
   }
 
   private static DesignLabel parseDesignLabel(String line) {
-    if (line.isEmpty()) return DesignLabel.randomDesign();
+    if (line.isEmpty()) return null;
     try {
       return DesignLabel.valueOf(line);
     } catch (IllegalArgumentException e) {
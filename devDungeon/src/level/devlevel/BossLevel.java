@@ -14,6 +14,7 @@ import core.Entity;
 import core.Game;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
+import core.game.GameClock;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
@@ -160,9 +161,9 @@ public class BossLevel extends DevDungeonLevel implements IHealthObserver {
       }
     }
 
-    if (System.currentTimeMillis() - lastAttackChange > getBossAttackChangeDelay()
+    if (GameClock.millis() - lastAttackChange > getBossAttackChangeDelay()
         && isBossNormalAttacking) {
-      this.lastAttackChange = System.currentTimeMillis();
+      this.lastAttackChange = GameClock.millis();
       rangeAI.skill(BossAttackSkills.getFinalBossSkill(boss));
       this.isBossNormalAttacking = false;
     } else if (!isBossNormalAttacking) {
@@ -0,0 +1,255 @@
+package level.utils;
+
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.Point;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import level.DevDungeonLevel;
+
+/**
+ * Reads and writes levels in a compact binary format.
+ *
+ * <p>The text format (see {@link DevDungeonLevel#loadFromPath(IPath)}) is parsed line by line.
+ * The binary format stores the same content without any text, so a level can be loaded with a
+ * single pass over the bytes. Level files in the file system are memory-mapped; level files in a
+ * jar are read into memory at once.
+ *
+ * <p>All numbers are stored in big-endian byte order:
+ *
+ * <pre>
+ * int     magic number "DDLV"
+ * short   format version
+ * short   length of the design label name, 0 for a random design
+ * byte[]  design label name (ASCII)
+ * float   x of the hero position
+ * float   y of the hero position
+ * int     number of custom points
+ * int[2]  x and y of each custom point
+ * int     width of the layout
+ * int     height of the layout
+ * byte[]  layout, row by row in the order of the text format, one element code per tile
+ * </pre>
+ *
+ * <p>The element codes are listed in {@link #ELEMENTS} and do not depend on the order of the
+ * {@link LevelElement} constants. If the format changes, {@link #VERSION} is increased; files with
+ * another version are rejected.
+ *
+ * <p>Use {@link #main(String[])} (or the {@code convertDevDungeonLevels} Gradle task) to convert
+ * level files from the text format.
+ */
+public final class BinaryLevelFormat {
+
+  /** File extension of binary level files. */
+  public static final String EXTENSION = ".blevel";
+
+  /** File extension of text level files. */
+  public static final String TEXT_EXTENSION = ".level";
+
+  /** Current version of the format. */
+  public static final short VERSION = 1;
+
+  private static final Logger LOGGER = Logger.getLogger(BinaryLevelFormat.class.getSimpleName());
+  private static final int MAGIC = 0x44444C56; // "DDLV"
+
+  /** The level elements, indexed by their code in the file. */
+  private static final LevelElement[] ELEMENTS = {
+    LevelElement.SKIP,
+    LevelElement.FLOOR,
+    LevelElement.WALL,
+    LevelElement.HOLE,
+    LevelElement.EXIT,
+    LevelElement.PIT,
+    LevelElement.DOOR
+  };
+
+  private BinaryLevelFormat() {}
+
+  /**
+   * Load a binary level file.
+   *
+   * @param path Path to the level file. Paths in a jar start with "jar:".
+   * @return The content of the level file.
+   * @throws MissingLevelException if the file does not exist.
+   * @throws RuntimeException if the file can not be read or is not a valid binary level file.
+   */
+  public static LevelData load(final IPath path) {
+    String pathString = path.pathString();
+    try {
+      if (pathString.startsWith("jar:")) {
+        String resource = pathString.substring(4);
+        try (InputStream is = BinaryLevelFormat.class.getResourceAsStream(resource)) {
+          if (is == null) throw new MissingLevelException(pathString);
+          return read(ByteBuffer.wrap(is.readAllBytes()));
+        }
+      }
+      Path file = Paths.get(pathString);
+      if (!Files.exists(file)) throw new MissingLevelException(pathString);
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading level file", e);
+    }
+  }
+
+  /**
+   * Read a level from the given buffer.
+   *
+   * @param buffer Buffer that contains the level, positioned at its first byte.
+   * @return The content of the level.
+   * @throws RuntimeException if the buffer does not contain a valid binary level.
+   */
+  public static LevelData read(final ByteBuffer buffer) {
+    try {
+      if (buffer.getInt() != MAGIC) throw new RuntimeException("Not a binary level file");
+      short version = buffer.getShort();
+      if (version != VERSION)
+        throw new RuntimeException("Unsupported binary level version: " + version);
+
+      DesignLabel designLabel = null;
+      byte[] name = new byte[buffer.getShort()];
+      if (name.length > 0) {
+        buffer.get(name);
+        designLabel = DesignLabel.valueOf(new String(name, StandardCharsets.US_ASCII));
+      }
+
+      Point heroPosition = new Point(buffer.getFloat(), buffer.getFloat());
+
+      int customPointCount = buffer.getInt();
+      List<Coordinate> customPoints = new ArrayList<>(customPointCount);
+      for (int i = 0; i < customPointCount; i++) {
+        customPoints.add(new Coordinate(buffer.getInt(), buffer.getInt()));
+      }
+
+      int width = buffer.getInt();
+      int height = buffer.getInt();
+      LevelElement[][] layout = new LevelElement[height][width];
+      byte[] row = new byte[width];
+      for (int y = 0; y < height; y++) {
+        buffer.get(row);
+        for (int x = 0; x < width; x++) {
+          int code = row[x];
+          if (code < 0 || code >= ELEMENTS.length)
+            throw new RuntimeException("Invalid element code in level layout: " + code);
+          layout[y][x] = ELEMENTS[code];
+        }
+      }
+      return new LevelData(designLabel, heroPosition, customPoints, layout);
+    } catch (BufferUnderflowException e) {
+      throw new RuntimeException("Binary level file is truncated", e);
+    } catch (IllegalArgumentException e) {
+      throw new RuntimeException("Invalid DesignLabel in binary level file", e);
+    }
+  }
+
+  /**
+   * Write a level in the binary format.
+   *
+   * @param level The content of the level.
+   * @param out Stream to write to. The stream is not closed.
+   * @throws IOException if the stream can not be written.
+   * @throws IllegalArgumentException if the layout is empty, not rectangular, or contains an
+   *     element that can not be stored.
+   */
+  public static void write(final LevelData level, final OutputStream out) throws IOException {
+    LevelElement[][] layout = level.layout();
+    if (layout.length == 0 || layout[0].length == 0)
+      throw new IllegalArgumentException("The level layout is empty.");
+    int width = layout[0].length;
+
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeShort(VERSION);
+    byte[] name =
+        level.designLabel() == null
+            ? new byte[0]
+            : level.designLabel().name().getBytes(StandardCharsets.US_ASCII);
+    data.writeShort(name.length);
+    data.write(name);
+    data.writeFloat(level.heroPosition().x);
+    data.writeFloat(level.heroPosition().y);
+    data.writeInt(level.customPoints().size());
+    for (Coordinate point : level.customPoints()) {
+      data.writeInt(point.x);
+      data.writeInt(point.y);
+    }
+    data.writeInt(width);
+    data.writeInt(layout.length);
+    byte[] row = new byte[width];
+    for (LevelElement[] elements : layout) {
+      if (elements.length != width)
+        throw new IllegalArgumentException("The level layout is not rectangular.");
+      for (int x = 0; x < width; x++) row[x] = code(elements[x]);
+      data.write(row);
+    }
+    data.flush();
+  }
+
+  /**
+   * Convert a text level file to a binary level file.
+   *
+   * @param textFile Path to the text level file.
+   * @param binaryFile Path to the binary level file that is created or overwritten.
+   * @throws IOException if the binary level file can not be written.
+   */
+  public static void convert(final Path textFile, final Path binaryFile) throws IOException {
+    LevelData level = DevDungeonLevel.readLevelData(new SimpleIPath(textFile.toString()));
+    try (OutputStream out = Files.newOutputStream(binaryFile)) {
+      write(level, out);
+    }
+  }
+
+  /**
+   * Convert text level files to binary level files.
+   *
+   * <p>Each argument is a text level file or a directory that is searched for text level files.
+   * The binary file is written next to the text file, with the extension {@value #EXTENSION}.
+   *
+   * @param args Paths to the text level files or directories.
+   * @throws IOException if a file can not be read or written.
+   */
+  public static void main(String[] args) throws IOException {
+    for (String arg : args) {
+      List<Path> files;
+      try (var paths = Files.walk(Paths.get(arg))) {
+        files =
+            paths
+                .filter(Files::isRegularFile)
+                .filter(file -> file.toString().endsWith(TEXT_EXTENSION))
+                .toList();
+      }
+      for (Path textFile : files) {
+        String name = textFile.getFileName().toString();
+        Path binaryFile =
+            textFile.resolveSibling(
+                name.substring(0, name.length() - TEXT_EXTENSION.length()) + EXTENSION);
+        convert(textFile, binaryFile);
+        LOGGER.info("Converted " + textFile + " to " + binaryFile);
+      }
+    }
+  }
+
+  private static byte code(final LevelElement element) {
+    for (byte code = 0; code < ELEMENTS.length; code++) {
+      if (ELEMENTS[code] == element) return code;
+    }
+    throw new IllegalArgumentException("Level element can not be stored: " + element);
+  }
+}
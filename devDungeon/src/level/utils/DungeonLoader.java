@@ -87,27 +87,45 @@ public class DungeonLoader {
     parseLevelFiles(path, true);
   }
 
+  /**
+   * Find all level files in the given directory.
+   *
+   * <p>If a level variant exists as text file and as binary file (see {@link BinaryLevelFormat}),
+   * only the binary file is used, because it loads faster. The variants of each level are sorted by
+   * their file name.
+   */
   private static void parseLevelFiles(Path path, boolean isJar) throws IOException {
+    // file name without extension -> path of the file
+    Map<String, String> variants = new TreeMap<>();
     try (Stream<Path> paths = Files.walk(path)) {
       paths
           .filter(Files::isRegularFile)
           .forEach(
               file -> {
                 String fileName = file.getFileName().toString();
-                if (fileName.endsWith(".level")) {
-                  String[] parts = fileName.split("_");
-                  if (parts.length == 2) {
-                    String levelName = parts[0];
-                    String levelFilePath = file.toString();
-                    LEVELS
-                        .computeIfAbsent(levelName, k -> new ArrayList<>())
-                        .add(isJar ? "jar:" + levelFilePath : levelFilePath);
-                  } else {
-                    LOGGER.warning("Invalid level file name: " + fileName);
-                  }
+                String levelFilePath = isJar ? "jar:" + file : file.toString();
+                if (fileName.endsWith(BinaryLevelFormat.EXTENSION)) {
+                  String variant =
+                      fileName.substring(
+                          0, fileName.length() - BinaryLevelFormat.EXTENSION.length());
+                  variants.put(variant, levelFilePath);
+                } else if (fileName.endsWith(BinaryLevelFormat.TEXT_EXTENSION)) {
+                  String variant =
+                      fileName.substring(
+                          0, fileName.length() - BinaryLevelFormat.TEXT_EXTENSION.length());
+                  variants.putIfAbsent(variant, levelFilePath);
                 }
               });
     }
+    variants.forEach(
+        (variant, levelFilePath) -> {
+          String[] parts = variant.split("_");
+          if (parts.length == 2) {
+            LEVELS.computeIfAbsent(parts[0], k -> new ArrayList<>()).add(levelFilePath);
+          } else {
+            LOGGER.warning("Invalid level file name: " + levelFilePath);
+          }
+        });
   }
 
   /**
@@ -0,0 +1,23 @@
+package level.utils;
+
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.Point;
+import java.util.List;
+
+/**
+ * The content of a level file, independent of the file format.
+ *
+ * @param designLabel The design label of the level, or null if a random design should be used.
+ * @param heroPosition The start position of the hero.
+ * @param customPoints The custom points of the level.
+ * @param layout The layout of the level, indexed by {@code [y][x]}.
+ * @see level.DevDungeonLevel#loadFromPath(core.utils.components.path.IPath)
+ * @see BinaryLevelFormat
+ */
+public record LevelData(
+    DesignLabel designLabel,
+    Point heroPosition,
+    List<Coordinate> customPoints,
+    LevelElement[][] layout) {}
@@ -29,6 +29,11 @@ public class DevHealthSystem extends HealthSystem {
    */
   public DevHealthSystem() {
     super();
+    writes(
+        HealthComponent.class,
+        DrawComponent.class,
+        MagicShieldComponent.class,
+        ReviveComponent.class);
   }
 
   @Override
@@ -7,8 +7,9 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
-import core.level.utils.LevelUtils;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.*;
@@ -19,9 +20,14 @@ import utils.EntityUtils;
  *
  * <p>The fog of war is a game mechanic where areas of the game world that are not in the player's
  * line of sight are obscured. This class maintains a set of tiles that are currently darkened (not
- * visible to the player) and a list of entities that are hidden. It also keeps track of the last
- * known position of the hero (player character) and whether the fog of war system is currently
- * active.
+ * visible to the player) and a set of entities that are hidden. It also keeps track of the last
+ * known tile of the hero (player character) and whether the fog of war system is currently active.
+ *
+ * <p>The visibility is only recomputed if the hero moved to another tile, the view distance
+ * changed, or a tile that was checked by the last computation changed whether it can be seen
+ * through (e.g. a door was opened). The result of each computation is stored in bitsets and an
+ * array of fog values, indexed by the tile coordinates of the current level. Only the tiles whose
+ * fog value changed get a new tint color.
  */
 public class FogOfWarSystem extends System {
   private static final int DISTANCE_TRANSITION_SIZE = 2; // size of distance transition (in tiles)
@@ -42,9 +48,22 @@ public class FogOfWarSystem extends System {
   private static final int MAX_VIEW_DISTANCE = 25;
 
   private final Map<Tile, Integer> darkenedTiles = new HashMap<>();
-  private final List<Entity> hiddenEntities = new ArrayList<>();
+  private final Set<Entity> hiddenEntities = new LinkedHashSet<>();
   private boolean active = true;
 
+  // state of the last computation, indexed by y * width + x of the tile coordinates
+  private ILevel level = null;
+  private int width = 0;
+  private int height = 0;
+  private final BitSet lit = new BitSet(); // tiles reached by the light of the hero
+  private final BitSet checked = new BitSet(); // tiles checked by the shadowcasting
+  private final BitSet opaque = new BitSet(); // checked tiles that could not be seen through
+  private final BitSet fogged = new BitSet(); // tiles with a fog value other than 0
+  private int[] fog = new int[0]; // applied fog alpha + 1, 0 if the tile is not darkened
+  private Coordinate lastHeroTile = null;
+  private int lastViewDistance = -1;
+  private boolean dirty = true;
+
   /**
    * Resets the FogOfWarSystem.
    *
@@ -57,6 +76,8 @@ public class FogOfWarSystem extends System {
   public void reset(boolean revert) {
     darkenedTiles.clear();
     hiddenEntities.clear();
+    clearFog();
+    level = null;
     if (revert) {
       revert();
     }
@@ -77,7 +98,9 @@ public class FogOfWarSystem extends System {
 
   /** Reverts the FogOfWarSystem. This reveals all darkened tiles and hidden entities. */
   public void revert() {
-    revertTilesBackToLight(darkenedTiles.keySet().stream().toList());
+    darkenedTiles.forEach((tile, tint) -> tile.tintColor(tint));
+    darkenedTiles.clear();
+    clearFog();
     revealHiddenEntities();
   }
 
@@ -136,11 +159,19 @@ public class FogOfWarSystem extends System {
     }
   }
 
-  private List<Tile> castLight(
-      int row, float start, float end, int radius, int xx, int xy, int yx, int yy, Point heroPos) {
-    List<Tile> visibleTiles = new ArrayList<>();
+  private void castLight(
+      final Tile[][] layout,
+      int row,
+      float start,
+      float end,
+      int radius,
+      int xx,
+      int xy,
+      int yx,
+      int yy,
+      final Coordinate heroTile) {
     if (start < end) {
-      return visibleTiles;
+      return;
     }
     float newStart = 0.0f;
     for (int i = row; i <= radius; i++) {
@@ -150,8 +181,8 @@ public class FogOfWarSystem extends System {
       while (dx <= 0) {
         dx += 1;
         // Translate the dx, dy coordinates into map coordinates
-        int X = (int) (heroPos.x + (dx * xx + dy * xy));
-        int Y = (int) (heroPos.y + (dx * yx + dy * yy));
+        int X = heroTile.x + (dx * xx + dy * xy);
+        int Y = heroTile.y + (dx * yx + dy * yy);
         // l_slope and r_slope store the slopes of the left and right extremities of the square
         // we're considering
         float lSlope = (dx - 0.5f) / (dy + 0.5f);
@@ -161,18 +192,21 @@ public class FogOfWarSystem extends System {
         } else if (end > lSlope) {
           break;
         } else {
-          // Our light beam is touching this square; light it
-          if (dx * dx + dy * dy < radius * radius) {
-            Tile tile = Game.tileAT(new Point(X, Y));
-            visibleTiles.add(tile);
-          }
-          Tile tile = Game.tileAT(new Point(X, Y));
+          Tile tile = tileAt(layout, X, Y);
           if (tile == null) {
             continue;
           }
+          int index = Y * width + X;
+          // Our light beam is touching this square; light it
+          if (dx * dx + dy * dy < radius * radius) {
+            lit.set(index);
+          }
+          boolean seeThrough = tile.canSeeThrough();
+          checked.set(index);
+          opaque.set(index, !seeThrough);
           if (blocked) { // previous step was a blocking square
 
-            if (!tile.canSeeThrough()) { // this step is a blocking square
+            if (!seeThrough) { // this step is a blocking square
               newStart = rSlope;
               continue;
             } else {
@@ -180,9 +214,9 @@ public class FogOfWarSystem extends System {
               start = newStart;
             }
           } else {
-            if (!tile.canSeeThrough() && i < radius) { // this step is a blocking square
+            if (!seeThrough && i < radius) { // this step is a blocking square
               blocked = true;
-              visibleTiles.addAll(castLight(i + 1, start, lSlope, radius, xx, xy, yx, yy, heroPos));
+              castLight(layout, i + 1, start, lSlope, radius, xx, xy, yx, yy, heroTile);
               newStart = rSlope;
             }
           }
@@ -190,67 +224,191 @@ public class FogOfWarSystem extends System {
       }
       if (blocked) break;
     }
-    return visibleTiles;
   }
 
-  private void darkenTile(Tile tile, int maxDistance, float scale, Point heroPos) {
-    int newTint = getTintColor(tile.coordinate().toPoint(), maxDistance, scale, heroPos);
+  private Tile tileAt(final Tile[][] layout, int x, int y) {
+    if (x < 0 || y < 0 || x >= width || y >= height) return null;
+    return layout[y][x];
+  }
+
+  /**
+   * Recomputes the visibility around the hero and applies the changed fog values.
+   *
+   * <p>Tiles that are lit but not in the view distance are darkened by distance, tiles that are in
+   * the maximum view distance but not lit are darkened as "behind a wall". All other tiles are
+   * reverted to their original tint color.
+   */
+  private void update(final Point heroPos, final Coordinate heroTile) {
+    Tile[][] layout = level.layout();
+    lit.clear();
+    checked.clear();
+    opaque.clear();
+    if (tileAt(layout, heroTile.x, heroTile.y) != null) lit.set(heroTile.y * width + heroTile.x);
+    // Cast light into the surrounding tiles
+    for (int octant = 0; octant < 8; octant++) {
+      castLight(
+          layout,
+          1,
+          1.0f,
+          0.0f,
+          MAX_VIEW_DISTANCE,
+          mult[octant][0],
+          mult[octant][1],
+          mult[octant][2],
+          mult[octant][3],
+          heroTile);
+    }
+
+    int minX = Math.max(0, heroTile.x - MAX_VIEW_DISTANCE - 1);
+    int minY = Math.max(0, heroTile.y - MAX_VIEW_DISTANCE - 1);
+    int maxX = Math.min(width - 1, heroTile.x + MAX_VIEW_DISTANCE + 1);
+    int maxY = Math.min(height - 1, heroTile.y + MAX_VIEW_DISTANCE + 1);
+
+    // Revert all darkened tiles back to light that are not in view
+    for (int i = fogged.nextSetBit(0); i >= 0; i = fogged.nextSetBit(i + 1)) {
+      int x = i % width;
+      int y = i / width;
+      if (x < minX || x > maxX || y < minY || y > maxY) applyFog(layout, x, y, 0);
+    }
+
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        applyFog(layout, x, y, fogValue(x, y, heroPos, heroTile));
+      }
+    }
+
+    lastHeroTile = heroTile;
+    lastViewDistance = currentViewDistance;
+    dirty = false;
+  }
+
+  private int fogValue(int x, int y, final Point heroPos, final Coordinate heroTile) {
+    boolean isHeroTile = x == heroTile.x && y == heroTile.y;
+    if (lit.get(y * width + x)) {
+      if (isHeroTile || isInRange(heroPos, currentViewDistance, x, y)) return 0;
+      // Handle tiles that are beyond the view distance
+      int maxDistance = currentViewDistance + DISTANCE_TRANSITION_SIZE;
+      return getFogAlpha(x, y, maxDistance, TINT_COLOR_DISTANCE_SCALE, heroTile) + 1;
+    }
+    if (isHeroTile || isInRange(heroPos, MAX_VIEW_DISTANCE, x, y)) {
+      // Darken tiles that are behind walls
+      return getFogAlpha(x, y, currentViewDistance, TINT_COLOR_WALL_DISTANCE_SCALE, heroTile) + 1;
+    }
+    return 0;
+  }
+
+  private void applyFog(final Tile[][] layout, int x, int y, int value) {
+    int index = y * width + x;
+    if (fog[index] == value) return;
+    fog[index] = value;
+    fogged.set(index, value != 0);
+    Tile tile = layout[y][x];
+    if (tile == null) return;
+    if (value == 0) revertTile(tile);
+    else darkenTile(tile, value - 1);
+  }
+
+  /**
+   * Checks if any corner of the tile at the given coordinate is in the given radius around the
+   * center, or if the circle only barely reaches into the tile.
+   *
+   * <p>This is the same check {@link core.level.utils.LevelUtils#tilesInRange(Point, float)} uses,
+   * without creating any objects.
+   */
+  private static boolean isInRange(final Point center, float radius, int x, int y) {
+    float squaredRadius = radius * radius;
+    for (int cornerY = y; cornerY <= y + 1; cornerY++) {
+      for (int cornerX = x; cornerX <= x + 1; cornerX++) {
+        float dx = center.x - cornerX;
+        float dy = center.y - cornerY;
+        if (dx * dx + dy * dy <= squaredRadius) return true;
+      }
+    }
+    return isPointInTile(center.x - radius, center.y, x, y)
+        || isPointInTile(center.x + radius, center.y, x, y)
+        || isPointInTile(center.x, center.y - radius, x, y)
+        || isPointInTile(center.x, center.y + radius, x, y);
+  }
+
+  private static boolean isPointInTile(float px, float py, int x, int y) {
+    return x < px && px < x + 1 && y < py && py < y + 1;
+  }
+
+  private void darkenTile(Tile tile, int alpha) {
     int orgTint = tile.tintColor();
-    int mixedTint = orgTint == -1 ? newTint : (orgTint & 0xFFFFFF00) | (newTint & 0x000000FF);
+    int mixedTint = orgTint == -1 ? 0xFFFFFF00 | alpha : (orgTint & 0xFFFFFF00) | alpha;
     if (!darkenedTiles.containsKey(tile)) {
       darkenedTiles.put(tile, orgTint);
     }
     tile.tintColor(mixedTint);
   }
 
+  private void revertTile(Tile tile) {
+    Integer originalTint = darkenedTiles.remove(tile);
+    if (originalTint != null) tile.tintColor(originalTint);
+  }
+
   /**
-   * Calculates the tint color for a tile based on its distance from the hero's position. The tint
-   * color is represented as an ARGB integer, where the alpha component is adjusted based on the
-   * distance. The closer the tile is to the hero, the more transparent (closer to white) it
-   * becomes. If the tile is beyond the view distance, it is fully opaque.
+   * Calculates the fog alpha for a tile based on its distance from the hero's tile. The alpha is
+   * the lowest byte of the ARGB tint color of the tile. The closer the tile is to the hero, the
+   * more transparent (closer to white) it becomes. If the tile is beyond the view distance, it is
+   * fully opaque.
    *
-   * @param tilePos The position of the tile for which to calculate the tint color.
+   * @param x The x-coordinate of the tile for which to calculate the alpha.
+   * @param y The y-coordinate of the tile for which to calculate the alpha.
    * @param maxDistance The maximum distance from the hero's position at which the tile is fully
    *     opaque.
    * @param scale The scale factor for the distance. The larger the scale, the more transparent the
    *     tiles will be.
-   * @param heroPos The position of the hero.
-   * @return The calculated tint color as an ARGB integer.
+   * @param heroTile The tile coordinate of the hero.
+   * @return The calculated alpha, between 0 and 255.
    */
-  private int getTintColor(Point tilePos, int maxDistance, float scale, Point heroPos) {
-    float distance =
-        (float)
-            heroPos
-                .toCoordinate()
-                .toPoint()
-                .distance(tilePos); // point -> coordinate -> point to floor the value
+  private int getFogAlpha(int x, int y, int maxDistance, float scale, Coordinate heroTile) {
+    int dx = x - heroTile.x;
+    int dy = y - heroTile.y;
+    float distance = (float) Math.sqrt(dx * dx + dy * dy);
     if (distance > maxDistance) {
-      return 0xFFFFFF00;
+      return 0;
     }
     float distanceFactor = Math.min(1, distance * scale / (maxDistance));
-    int alpha = (int) (255 * (1 - distanceFactor));
-
-    return 0xFFFFFF00 | alpha;
+    return (int) (255 * (1 - distanceFactor));
   }
 
-  private void revertTilesBackToLight(List<Tile> visibleTiles) {
-    Iterator<Tile> iterator = darkenedTiles.keySet().iterator();
-    while (iterator.hasNext()) {
-      Tile darkenTile = iterator.next();
-      Integer originalTint = darkenedTiles.get(darkenTile);
-      // match non-current tile or tile that are far away
-      if (visibleTiles.contains(darkenTile)) {
-        darkenTile.tintColor(originalTint);
-        iterator.remove();
-      }
+  /**
+   * Checks if a tile that was checked by the last computation changed whether it can be seen
+   * through, for example, because a door was opened or a wall was removed.
+   */
+  private boolean opacityChanged() {
+    Tile[][] layout = level.layout();
+    for (int i = checked.nextSetBit(0); i >= 0; i = checked.nextSetBit(i + 1)) {
+      Tile tile = layout[i / width][i % width];
+      if (tile != null && tile.canSeeThrough() == opaque.get(i)) return true;
     }
+    return false;
+  }
+
+  private void clearFog() {
+    Arrays.fill(fog, 0);
+    fogged.clear();
+    dirty = true;
+  }
+
+  private void loadLevel(final ILevel newLevel) {
+    revert(); // tiles of the previous level
+    Tile[][] layout = newLevel.layout();
+    level = newLevel;
+    height = layout.length;
+    width = height == 0 ? 0 : layout[0].length;
+    fog = new int[width * height];
+    lit.clear();
+    checked.clear();
+    opaque.clear();
+    lastHeroTile = null;
   }
 
   private void hideAllHiddenEntities() {
-    darkenedTiles.keySet().stream()
-        .filter(tile -> tile.tintColor() < HIDE_ENTITY_THRESHOLD)
-        .flatMap(Game::entityAtTile)
-        .filter(entity -> entity.isPresent(DrawComponent.class))
+    Game.entityStream(Set.of(DrawComponent.class, PositionComponent.class))
+        .filter(this::isInFog)
         .filter(entity -> !isAntiTorchAndLit(entity)) // Ignore anti-torches
         .filter(entity -> !entity.name().contains("tpball")) // Ignore tpballs
         .forEach(
@@ -265,6 +423,17 @@ public class FogOfWarSystem extends System {
             });
   }
 
+  private boolean isInFog(Entity entity) {
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    Tile tile = Game.tileAT(pc.position());
+    return tile != null
+        && darkenedTiles.containsKey(tile)
+        && tile.tintColor() < HIDE_ENTITY_THRESHOLD;
+  }
+
   private boolean isAntiTorchAndLit(Entity entity) {
     return entity.name().contains("anti_torch")
         && entity
@@ -274,7 +443,9 @@ public class FogOfWarSystem extends System {
   }
 
   private void revealHiddenEntities() {
-    for (Entity entity : hiddenEntities) {
+    Iterator<Entity> iterator = hiddenEntities.iterator();
+    while (iterator.hasNext()) {
+      Entity entity = iterator.next();
       PositionComponent pc =
           entity
               .fetch(PositionComponent.class)
@@ -286,6 +457,7 @@ public class FogOfWarSystem extends System {
                 .fetch(DrawComponent.class)
                 .orElseThrow(() -> MissingComponentException.build(entity, DrawComponent.class));
         dc.setVisible(true);
+        iterator.remove();
       }
     }
   }
@@ -296,51 +468,15 @@ public class FogOfWarSystem extends System {
 
     Point heroPos = EntityUtils.getHeroPosition();
     if (heroPos == null) return; // no hero, no fog of war
+    ILevel currentLevel = Game.currentLevel();
+    if (currentLevel == null) return;
 
-    List<Tile> allTilesInView = LevelUtils.tilesInRange(heroPos, MAX_VIEW_DISTANCE);
-    // Revert all darkened tiles back to light that are not in view
-    List<Tile> tilesOutsideView = new ArrayList<>(darkenedTiles.keySet());
-    tilesOutsideView.removeAll(allTilesInView);
-    revertTilesBackToLight(tilesOutsideView);
-
-    List<Tile> visibleTiles = new ArrayList<>();
-    visibleTiles.add(Game.tileAT(heroPos));
-    // Cast light into the surrounding tiles
-    for (int octant = 0; octant < 8; octant++) {
-      visibleTiles.addAll(
-          castLight(
-              1,
-              1.0f,
-              0.0f,
-              MAX_VIEW_DISTANCE,
-              mult[octant][0],
-              mult[octant][1],
-              mult[octant][2],
-              mult[octant][3],
-              heroPos));
-    }
-    List<Tile> distancedTiles = new ArrayList<>(visibleTiles.stream().toList()); // copy
-
-    // Handle tiles that are beyond the view distance
-    distancedTiles.removeAll(LevelUtils.tilesInRange(heroPos, currentViewDistance));
-    distancedTiles.forEach(
-        (tile) ->
-            darkenTile(
-                tile,
-                currentViewDistance + DISTANCE_TRANSITION_SIZE,
-                TINT_COLOR_DISTANCE_SCALE,
-                heroPos));
-    visibleTiles.removeAll(distancedTiles); // remove distanced tiles from visible tiles
-    allTilesInView.removeAll(distancedTiles); // and from tile behind walls
-
-    allTilesInView.removeAll(visibleTiles); // remove visible tiles from tiles behind walls
-
-    // Darken tiles that are behind walls
-    allTilesInView.forEach(
-        (tile) -> darkenTile(tile, currentViewDistance, TINT_COLOR_WALL_DISTANCE_SCALE, heroPos));
-
-    // Revert all visible tiles back to light
-    revertTilesBackToLight(visibleTiles);
+    if (currentLevel != level || currentLevel.layout().length != height) loadLevel(currentLevel);
+    Coordinate heroTile = heroPos.toCoordinate();
+    if (dirty
+        || !heroTile.equals(lastHeroTile)
+        || currentViewDistance != lastViewDistance
+        || opacityChanged()) update(heroPos, heroTile);
 
     // Hide entities in the fog of war
     hideAllHiddenEntities();
@@ -357,6 +493,9 @@ public class FogOfWarSystem extends System {
    * core.level.elements.ILevel#changeTileElementType(Tile, LevelElement) changing the tile element
    * type}.
    *
+   * <p>The fog of war will be recomputed in the next frame, so the new tile gets the tint color of
+   * the fog.
+   *
    * @param oldTile The old tile.
    * @param newTile The new tile.
    */
@@ -365,5 +504,13 @@ public class FogOfWarSystem extends System {
       int tint = darkenedTiles.remove(oldTile);
       darkenedTiles.put(newTile, tint);
     }
+    Coordinate coordinate = newTile.coordinate();
+    if (newTile.level() == level && coordinate.x < width && coordinate.y < height) {
+      int index = coordinate.y * width + coordinate.x;
+      fog[index] = 0; // the new tile is not tinted yet
+      fogged.clear(index);
+    }
+    dirty = true;
   }
 }
+
@@ -6,12 +6,12 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.game.GameClock;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelUtils;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -103,7 +103,7 @@ public class MobSpawnerSystem extends System {
 
     Tile spawnTile = possibleSpawns.get(Game.currentLevel().RANDOM.nextInt(possibleSpawns.size()));
     mobSpawner.spawnRandomMonster(spawnTile.coordinate().toCenteredPoint());
-    lastSpawnTimes.put(mobSpawner, java.lang.System.currentTimeMillis());
+    lastSpawnTimes.put(mobSpawner, GameClock.millis());
   }
 
   /**
@@ -136,11 +136,11 @@ public class MobSpawnerSystem extends System {
    */
   private boolean canSpawnMonster(Point position, MobSpawnerComponent mobSpawner) {
     if (!lastSpawnTimes.containsKey(mobSpawner)) {
-      lastSpawnTimes.put(mobSpawner, java.lang.System.currentTimeMillis());
+      lastSpawnTimes.put(mobSpawner, GameClock.millis());
     }
 
     long lastSpawnTime = lastSpawnTimes.get(mobSpawner);
-    long currentTime = java.lang.System.currentTimeMillis();
+    long currentTime = GameClock.millis();
     long timeSinceLastSpawn = currentTime - lastSpawnTime;
 
     if (timeSinceLastSpawn < mobSpawner.spawnDelay()) {
@@ -149,7 +149,7 @@ public class MobSpawnerSystem extends System {
 
     List<Entity> entitiesAround = getEntitiesAround(position, mobSpawner.maxSpawnRadius() * 2);
     if (entitiesAround.size() >= mobSpawner.maxMobCount()) {
-      lastSpawnTimes.put(mobSpawner, java.lang.System.currentTimeMillis());
+      lastSpawnTimes.put(mobSpawner, GameClock.millis());
       return false;
     }
 
@@ -164,16 +164,8 @@ public class MobSpawnerSystem extends System {
    * @return A list of entities around the given position within the given radius.
    */
   private List<Entity> getEntitiesAround(Point position, int radius) {
-    return Game.entityStream(Collections.singleton(AIComponent.class)) // mobs
-        .filter(
-            entity -> {
-              PositionComponent entityPosition =
-                  entity
-                      .fetch(PositionComponent.class)
-                      .orElseThrow(
-                          () -> MissingComponentException.build(entity, PositionComponent.class));
-              return entityPosition.position().distance(position) <= radius;
-            })
+    return Game.entitiesInRadius(position, radius)
+        .filter(entity -> entity.isPresent(AIComponent.class)) // mobs
         .toList();
   }
 }
@@ -5,20 +5,25 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.game.TimerScheduler;
 import core.level.Tile;
 import core.level.elements.tile.PitTile;
 import core.utils.components.MissingComponentException;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 /**
  * Manages the pit system. A pit is a open or closed hole in the ground. If it is open, the player
  * dies (see {@link FallingSystem}). If it is closed, the player can walk over it, but the pit gets
  * opened up after a certain amount of time. The pit system will manage the opening of the pits.
+ *
+ * <p>If an entity steps on a pit, a timer is scheduled in the {@link TimerScheduler}, which opens
+ * the pit after its {@link PitTile#timeToOpen() time to open} in game time. If the timer is
+ * cancelled (e.g. because all timers were cleared), the pit is scheduled again the next time an
+ * entity steps on it.
  */
 public class PitSystem extends System {
-  private final Map<PitTile, Long> pitTimes = new HashMap<>();
+  private final Map<PitTile, TimerScheduler.Timer> openings = new HashMap<>();
 
   /**
    * Constructor for the PitSystem class. This system processes entities with the PositionComponent.
@@ -30,10 +35,9 @@ public class PitSystem extends System {
   @Override
   public void execute() {
     processEntities();
-    openPits();
   }
 
-  /** Process each entity and add it to the pitTimes map if it's on a PitTile. */
+  /** Process each entity and schedule the opening of the pit if it's on a PitTile. */
   private void processEntities() {
     filteredEntityStream()
         .filter(entity -> !entity.isPresent(ProjectileComponent.class))
@@ -42,26 +46,31 @@ public class PitSystem extends System {
               PositionComponent positionComponent = getPositionComponent(entity);
               Tile currentTile = Game.tileAT(positionComponent.position());
 
-              if (currentTile instanceof PitTile pitTile) {
-                pitTimes.putIfAbsent(pitTile, java.lang.System.currentTimeMillis());
+              if (currentTile instanceof PitTile pitTile && !isOpeningScheduled(pitTile)) {
+                scheduleOpening(pitTile);
               }
             });
   }
 
-  /** Open pits that have been stepped on for more than their timeToOpen. */
-  private void openPits() {
-    Iterator<Map.Entry<PitTile, Long>> pitIterator = pitTimes.entrySet().iterator();
-
-    while (pitIterator.hasNext()) {
-      Map.Entry<PitTile, Long> pitEntry = pitIterator.next();
-      PitTile pitTile = pitEntry.getKey();
-      Long stepOnTime = pitEntry.getValue();
+  /**
+   * Open the given pit after its time to open.
+   *
+   * @param pitTile The pit that was stepped on.
+   */
+  private void scheduleOpening(PitTile pitTile) {
+    openings.put(
+        pitTile,
+        TimerScheduler.schedule(
+            pitTile.timeToOpen() / 1000f,
+            () -> {
+              pitTile.open();
+              openings.remove(pitTile);
+            }));
+  }
 
-      if (hasPitOpenTimeElapsed(stepOnTime, pitTile.timeToOpen())) {
-        pitTile.open();
-        pitIterator.remove();
-      }
-    }
+  private boolean isOpeningScheduled(PitTile pitTile) {
+    TimerScheduler.Timer timer = openings.get(pitTile);
+    return timer != null && !timer.isCancelled();
   }
 
   /**
@@ -76,16 +85,4 @@ public class PitSystem extends System {
         .fetch(PositionComponent.class)
         .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
   }
-
-  /**
-   * Check if the time elapsed since the pit was stepped on is greater than the time to open the
-   * pit.
-   *
-   * @param stepOnTime The time the pit was stepped on.
-   * @param timeToOpen The time it takes for the pit to open.
-   * @return true if the time elapsed is greater than the time to open, false otherwise.
-   */
-  private boolean hasPitOpenTimeElapsed(long stepOnTime, long timeToOpen) {
-    return java.lang.System.currentTimeMillis() - stepOnTime > timeToOpen;
-  }
 }
@@ -6,6 +6,7 @@ import contrib.components.HealthComponent;
 import contrib.components.SpikyComponent;
 import core.Entity;
 import core.System;
+import core.game.GameClock;
 import core.utils.components.MissingComponentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -50,8 +51,7 @@ public class ReviveSystem extends System {
 
               if (healthComponent.isDead() && reviveComponent.reviveCount() > 0) {
                 if (deadEntities.containsKey(entity)) {
-                  if (java.lang.System.currentTimeMillis() - deadEntities.get(entity)
-                      >= REVIVE_DELAY) {
+                  if (GameClock.millis() - deadEntities.get(entity) >= REVIVE_DELAY) {
                     reviveEntity(entity, healthComponent, reviveComponent);
                   }
                 } else {
@@ -62,7 +62,7 @@ public class ReviveSystem extends System {
                   entity
                       .fetch(SpikyComponent.class)
                       .ifPresent((spiky) -> spiky.active(false)); // while dead, spiky is inactive
-                  deadEntities.put(entity, java.lang.System.currentTimeMillis());
+                  deadEntities.put(entity, GameClock.millis());
                 }
               }
             });
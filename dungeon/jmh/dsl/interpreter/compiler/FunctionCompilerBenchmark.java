@@ -0,0 +1,102 @@
+package dsl.interpreter.compiler;
+
+import dsl.helpers.Helpers;
+import dsl.interpreter.DSLInterpreter;
+import dsl.runtime.value.ListValue;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.analyzer.SemanticAnalyzer;
+import dsl.semanticanalysis.environment.GameEnvironment;
+import dsl.semanticanalysis.scope.IScope;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.ListType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares calls of a user defined DSL function executed by the {@link FunctionCompiler} with calls
+ * interpreted by the {@link DSLInterpreter}.
+ *
+ * <p>Run with {@code ./gradlew :dungeon:runDslBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FunctionCompilerBenchmark {
+  private static final int LIST_SIZE = 64;
+  private static final String PROGRAM =
+      """
+      fn select(int first, int a, int b) -> int {
+          if first {
+              return a;
+          } else {
+              return b;
+          }
+      }
+
+      fn work(int[] values) -> int {
+          var result : int;
+          for int value in values count i {
+              var selected : int;
+              selected = select(value, value, i);
+              if selected {
+                  result = selected;
+              }
+          }
+          return result;
+      }
+      """;
+
+  /** Execute the compiled function (true) or interpret it (false). */
+  @Param({"true", "false"})
+  public boolean compiled;
+
+  private DSLInterpreter interpreter;
+  private FunctionSymbol function;
+  private List<Value> arguments;
+
+  /** Analyze the program and create the arguments of the benchmarked call. */
+  @Setup
+  public void setup() {
+    GameEnvironment environment = new GameEnvironment();
+    SemanticAnalyzer analyzer = new SemanticAnalyzer();
+    analyzer.setup(environment);
+    analyzer.walk(Helpers.getASTFromString(PROGRAM));
+
+    interpreter = new DSLInterpreter();
+    interpreter.initializeRuntime(environment);
+    interpreter.setFunctionCompilationEnabled(compiled);
+
+    IScope globalScope = interpreter.getRuntimeEnvironment().getGlobalScope();
+    function = (FunctionSymbol) globalScope.resolve("work");
+    ListValue values = new ListValue((ListType) globalScope.resolve("int[]"));
+    for (int i = 0; i < LIST_SIZE; i++) {
+      values.addValue(new Value(BuiltInType.intType, i % 3));
+    }
+    arguments = List.of(values);
+  }
+
+  /**
+   * Call the benchmarked function once.
+   *
+   * @return The return value of the call.
+   */
+  @Benchmark
+  public Value call() {
+    return interpreter.callCallableWithValues(function, arguments);
+  }
+}
@@ -1,34 +1,190 @@
 package contrib.systems;
 
 import contrib.components.AIComponent;
+import contrib.components.HealthComponent;
 import core.Entity;
+import core.Game;
 import core.System;
+import core.components.DrawComponent;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.utils.Point;
 import core.utils.components.MissingComponentException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Controls the AI.
  *
  * <p>Entities with the {@link AIComponent} will be processed by this system.
+ *
+ * <p>The AI of entities far away from the hero is updated less often (level of detail). The
+ * entities are sorted into {@link Tier tiers} by their distance to the hero: an entity belongs to
+ * the first tier whose {@link Tier#maxDistance()} is not smaller than its distance, or to the last
+ * tier if it is farther away. The {@link AIComponent#shouldFight()} function and the chosen
+ * behavior of an entity, which decides where to go and recomputes the path if needed, are executed
+ * every {@link Tier#interval()} frames. The frames of the entities of a tier are staggered by their
+ * id, so each frame updates about the same share of them. Entities without a position, or if there
+ * is no hero, are updated every frame. New entities start to move with their first update.
+ *
+ * <p>In the frames between two updates, the velocity the behavior set in its last update is set
+ * again, because the {@link core.systems.VelocitySystem} reduces the velocity by the friction of
+ * the tile each frame. So the entities keep following their path at the same speed in all tiers.
+ * Behaviors that count frames (e.g. to wait before choosing a new path) count the updates, so
+ * their timers run slower in the farther tiers.
+ *
+ * <p>Use {@link #tierCounts()} to get the number of entities per tier in the last frame.
  */
 public final class AISystem extends System {
 
-  /** Create a new AISystem. */
+  /**
+   * Default tiers: every frame up to 15 tiles, every 4th frame up to 30 tiles, every 16th frame
+   * beyond.
+   */
+  public static final List<Tier> DEFAULT_TIERS =
+      List.of(new Tier(15, 1), new Tier(30, 4), new Tier(Float.POSITIVE_INFINITY, 16));
+
+  private final Tier[] tiers;
+  private final int[] tierCounts;
+  // velocity set by the behavior of each entity in its last update
+  private final Map<Entity, Steering> steering = new HashMap<>();
+  private long frame = 0;
+
+  /** Create a new AISystem with the {@link #DEFAULT_TIERS}. */
   public AISystem() {
+    this(DEFAULT_TIERS);
+  }
+
+  /**
+   * Create a new AISystem with the given level of detail tiers.
+   *
+   * @param tiers Tiers, sorted by their maximum distance in ascending order.
+   * @throws IllegalArgumentException if no tier is given or the tiers are not sorted.
+   */
+  public AISystem(final List<Tier> tiers) {
     super(AIComponent.class);
+    reads(PositionComponent.class, HealthComponent.class, PlayerComponent.class);
+    writes(AIComponent.class, VelocityComponent.class, DrawComponent.class);
+    // the behaviors use skills (sounds, new entities), the hero lookup and the shared FlowField
+    pinToMainThread();
+    if (tiers.isEmpty()) throw new IllegalArgumentException("At least one tier is needed.");
+    for (int i = 1; i < tiers.size(); i++) {
+      if (tiers.get(i).maxDistance() < tiers.get(i - 1).maxDistance())
+        throw new IllegalArgumentException("The tiers must be sorted by their maximum distance.");
+    }
+    this.tiers = tiers.toArray(Tier[]::new);
+    this.tierCounts = new int[this.tiers.length];
+    onEntityRemove = steering::remove;
   }
 
   @Override
   public void execute() {
-    filteredEntityStream(AIComponent.class).forEach(this::executeAI);
+    frame++;
+    Arrays.fill(tierCounts, 0);
+    Point hero =
+        Game.hero()
+            .flatMap(h -> h.fetch(PositionComponent.class))
+            .map(PositionComponent::position)
+            .orElse(null);
+    filteredEntityStream(AIComponent.class)
+        .forEach(
+            entity -> {
+              int tier = tier(entity, hero);
+              tierCounts[tier]++;
+              if ((frame + entity.id()) % tiers[tier].interval() == 0) executeAI(entity);
+              else followPath(entity);
+            });
   }
 
-  private void executeAI(Entity entity) {
+  /**
+   * Get the level of detail tiers of this system.
+   *
+   * @return The tiers, sorted by their maximum distance.
+   */
+  public List<Tier> tiers() {
+    return List.of(tiers);
+  }
+
+  /**
+   * Get the number of entities in each tier in the last frame.
+   *
+   * @return Number of entities per tier, in the order of {@link #tiers()}.
+   */
+  public int[] tierCounts() {
+    return tierCounts.clone();
+  }
+
+  private int tier(final Entity entity, final Point hero) {
+    if (hero == null) return 0;
+    PositionComponent pc = entity.fetch(PositionComponent.class).orElse(null);
+    if (pc == null) return 0;
+    float dx = pc.position().x - hero.x;
+    float dy = pc.position().y - hero.y;
+    float distanceSquared = dx * dx + dy * dy;
+    for (int i = 0; i < tiers.length - 1; i++) {
+      float max = tiers[i].maxDistance();
+      if (distanceSquared <= max * max) return i;
+    }
+    return tiers.length - 1;
+  }
+
+  private void executeAI(final Entity entity) {
     AIComponent ai =
         entity
             .fetch(AIComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, AIComponent.class));
+    VelocityComponent vc = entity.fetch(VelocityComponent.class).orElse(null);
+    float x = vc == null ? 0 : vc.currentXVelocity();
+    float y = vc == null ? 0 : vc.currentYVelocity();
 
     if (ai.shouldFight().apply(entity)) ai.fightBehavior().accept(entity);
     else ai.idleBehavior().accept(entity);
+
+    // a behavior that did not set a velocity lets the entity stop
+    if (vc != null && (vc.currentXVelocity() != x || vc.currentYVelocity() != y))
+      steering.put(entity, new Steering(vc.currentXVelocity(), vc.currentYVelocity()));
+    else steering.remove(entity);
+  }
+
+  private void followPath(final Entity entity) {
+    AIComponent ai = entity.fetch(AIComponent.class).orElse(null);
+    Steering last = steering.get(entity);
+    if (ai == null || !ai.active() || last == null) {
+      steering.remove(entity);
+      return;
+    }
+    entity
+        .fetch(VelocityComponent.class)
+        .ifPresent(
+            vc -> {
+              vc.currentXVelocity(last.xVelocity());
+              vc.currentYVelocity(last.yVelocity());
+            });
+  }
+
+  private record Steering(float xVelocity, float yVelocity) {}
+
+  /**
+   * A level of detail tier of the {@link AISystem}.
+   *
+   * @param maxDistance Maximum distance in tiles between an entity of this tier and the hero.
+   * @param interval Number of frames between two updates of the {@link
+   *     AIComponent#shouldFight()} function and the behavior of an entity of this tier, 1 to
+   *     update them every frame.
+   */
+  public record Tier(float maxDistance, int interval) {
+    /**
+     * Create a new tier.
+     *
+     * @throws IllegalArgumentException if the distance is negative or the interval is not
+     *     positive.
+     */
+    public Tier {
+      if (maxDistance < 0) throw new IllegalArgumentException("The distance can not be negative.");
+      if (interval < 1) throw new IllegalArgumentException("The interval must be positive.");
+    }
   }
 }
@@ -3,11 +3,16 @@ package contrib.systems;
 import contrib.components.CollideComponent;
 import core.Entity;
 import core.System;
+import core.components.PositionComponent;
 import core.level.Tile;
+import core.utils.Point;
 import core.utils.components.MissingComponentException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Set;
 
 /**
  * System to check for collisions between two entities.
@@ -21,40 +26,122 @@ import java.util.stream.Stream;
  * with all currently active collisions is stored and allows informing the entities when a collision
  * ended.
  *
+ * <p>To avoid testing every pair of entities, the system uses a spatial hash as broadphase. Each
+ * hitbox is stored in every tile-sized cell it overlaps. Only entities that share a cell are tested
+ * for a collision. The cells of an entity are updated whenever its hitbox moved to other cells.
+ * Collisions that were active in the last check are always tested again, so that onLeave is called
+ * even if the entities moved apart by more than one cell.
+ *
  * <p>Entities with the {@link CollideComponent} will be processed by this system.
  */
 public final class CollisionSystem extends System {
 
   private final Map<CollisionKey, CollisionData> collisions = new HashMap<>();
+  // broadphase: the colliders in each cell and the cells of each collider
+  private final Map<Long, List<Entity>> cells = new HashMap<>();
+  private final Map<Entity, CellRange> cellRanges = new HashMap<>();
+  // reused in each execution
+  private final List<CollisionData> candidates = new ArrayList<>();
+  private final Set<CollisionKey> checked = new HashSet<>();
 
   /** Create a new CollisionSystem. */
   public CollisionSystem() {
     super(CollideComponent.class);
+    onEntityRemove = this::removeFromCells;
   }
 
   /**
-   * Test every CollideEntity with every other CollideEntity for collision.
+   * Test every CollideEntity with every other CollideEntity in the same cell for collision.
    *
    * <p>The collision check will be performed only once for a given tuple of entities, i.e. when
    * entity A does collide with entity B, it also means B collides with A.
    */
   @Override
   public void execute() {
-    filteredEntityStream(CollideComponent.class)
-        .flatMap(this::createDataPairs)
-        .forEach(this::onEnterLeaveCheck);
+    forEachEntity(this::updateCells);
+
+    candidates.clear();
+    forEachEntity(this::createDataPairs);
+    checked.clear();
+    candidates.forEach(data -> checked.add(new CollisionKey(data.ea.id(), data.eb.id())));
+    // active collisions of entities that no longer share a cell need to be checked for onLeave
+    collisions.forEach(
+        (key, data) -> {
+          if (!checked.contains(key)
+              && cellRanges.containsKey(data.ea)
+              && cellRanges.containsKey(data.eb)) candidates.add(data);
+        });
+
+    candidates.forEach(this::onEnterLeaveCheck);
   }
 
   /**
-   * Create a stream of pairs of entities.
+   * Update the cells of the given entity in the broadphase.
    *
-   * <p>Pair a given entity with every other entity with a higher ID.
+   * <p>The entity will only be moved in the broadphase if its hitbox overlaps other cells than in
+   * the last check. Entities without a position can't collide and are removed from the broadphase.
+   *
+   * @param entity Entity to update.
+   */
+  private void updateCells(final Entity entity) {
+    if (!entity.isPresent(PositionComponent.class)) {
+      removeFromCells(entity);
+      return;
+    }
+    CollideComponent cc =
+        entity
+            .fetch(CollideComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, CollideComponent.class));
+    CellRange range = CellRange.of(cc.bottomLeft(entity), cc.topRight(entity));
+    if (range.equals(cellRanges.get(entity))) return;
+
+    removeFromCells(entity);
+    cellRanges.put(entity, range);
+    for (int x = range.minX; x <= range.maxX; x++)
+      for (int y = range.minY; y <= range.maxY; y++)
+        cells.computeIfAbsent(cellKey(x, y), k -> new ArrayList<>()).add(entity);
+  }
+
+  /**
+   * Remove the given entity from the broadphase.
+   *
+   * @param entity Entity to remove.
+   */
+  private void removeFromCells(final Entity entity) {
+    CellRange range = cellRanges.remove(entity);
+    if (range == null) return;
+    for (int x = range.minX; x <= range.maxX; x++)
+      for (int y = range.minY; y <= range.maxY; y++) {
+        long key = cellKey(x, y);
+        List<Entity> cell = cells.get(key);
+        cell.remove(entity);
+        if (cell.isEmpty()) cells.remove(key);
+      }
+  }
+
+  /**
+   * Pair a given entity with every other entity with a higher ID that shares a cell with it.
+   *
+   * <p>If two entities share more than one cell, the pair is only created in the shared cell with
+   * the lowest coordinates.
    *
    * @param a Entity which is the lower ID partner.
-   * @return The stream which contains every valid pair of Entities.
    */
-  private Stream<CollisionData> createDataPairs(final Entity a) {
-    return filteredEntityStream().filter(b -> isSmallerThen(a, b)).map(b -> newDataPair(a, b));
+  private void createDataPairs(final Entity a) {
+    CellRange ra = cellRanges.get(a);
+    if (ra == null) return;
+    for (int x = ra.minX; x <= ra.maxX; x++)
+      for (int y = ra.minY; y <= ra.maxY; y++)
+        for (Entity b : cells.get(cellKey(x, y))) {
+          if (!isSmallerThen(a, b)) continue;
+          CellRange rb = cellRanges.get(b);
+          if (x == Math.max(ra.minX, rb.minX) && y == Math.max(ra.minY, rb.minY))
+            candidates.add(newDataPair(a, b));
+        }
+  }
+
+  private static long cellKey(int x, int y) {
+    return ((long) x << 32) | (y & 0xFFFFFFFFL);
   }
 
   /**
@@ -190,5 +277,23 @@ public final class CollisionSystem extends System {
 
   private record CollisionKey(int a, int b) {}
 
+  /**
+   * The cells overlapped by a hitbox, each cell has the size of one tile.
+   *
+   * @param minX Smallest x-coordinate of the cells.
+   * @param minY Smallest y-coordinate of the cells.
+   * @param maxX Largest x-coordinate of the cells.
+   * @param maxY Largest y-coordinate of the cells.
+   */
+  private record CellRange(int minX, int minY, int maxX, int maxY) {
+    private static CellRange of(final Point bottomLeft, final Point topRight) {
+      return new CellRange(
+          (int) Math.floor(bottomLeft.x),
+          (int) Math.floor(bottomLeft.y),
+          (int) Math.floor(topRight.x),
+          (int) Math.floor(topRight.y));
+    }
+  }
+
   protected record CollisionData(Entity ea, CollideComponent a, Entity eb, CollideComponent b) {}
 }
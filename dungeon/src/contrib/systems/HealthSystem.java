@@ -28,6 +28,9 @@ public class HealthSystem extends System {
   /** Create a new HealthSystem. */
   public HealthSystem() {
     super(HealthComponent.class, DrawComponent.class);
+    writes(HealthComponent.class, DrawComponent.class);
+    // the death callbacks play sounds and open dialogs
+    pinToMainThread();
   }
 
   @Override
@@ -6,6 +6,7 @@ import contrib.components.UIComponent;
 import core.Entity;
 import core.Game;
 import core.System;
+import core.game.GameClock;
 import core.utils.components.MissingComponentException;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,6 +17,10 @@ import java.util.Optional;
  * allow EventHandling.
  *
  * <p>Entities with the {@link UIComponent} will be processed by this system.
+ *
+ * <p>While a visible UI {@link UIComponent#willPauseGame() pauses the game}, all other systems are
+ * stopped and the {@link GameClock} is paused, so no timer of the {@link
+ * core.game.TimerScheduler} is executed either.
  */
 public final class HudSystem extends System {
 
@@ -27,6 +32,9 @@ public final class HudSystem extends System {
 
   private final Map<Entity, UIComponent> entityUIComponentMap = new HashMap<>();
 
+  // true while a UI pauses the game, so the game clock is only resumed if this system paused it
+  private boolean pausedGame = false;
+
   /** Create a new HudSystem. */
   public HudSystem() {
     super(UIComponent.class);
@@ -104,10 +112,19 @@ public final class HudSystem extends System {
 
   private void pauseGame() {
     Game.systems().values().forEach(System::stop);
+    if (!pausedGame) {
+      // stops the timers of the TimerScheduler as well
+      GameClock.paused(true);
+      pausedGame = true;
+    }
   }
 
   private void unpauseGame() {
     Game.systems().values().forEach(System::run);
+    if (pausedGame) {
+      GameClock.paused(false);
+      pausedGame = false;
+    }
   }
 
   /** HudSystem can´t be paused. */
@@ -1,14 +1,13 @@
 package contrib.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import contrib.components.IdleSoundComponent;
-import core.Entity;
 import core.Game;
 import core.System;
+import core.components.PlayerComponent;
 import core.components.PositionComponent;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
+import core.utils.components.sound.SoundManager;
 import java.util.Random;
 
 /**
@@ -18,6 +17,10 @@ import java.util.Random;
  * <p>Use this if you want to add some white noise monster sounds to your game.
  *
  * <p>Note: The chance that the sound is played is very low, so it shouldn't be too much noise.
+ *
+ * <p>Only entities near the hero are considered. They are found with a single radius lookup around
+ * the hero (see {@link Game#entitiesInRadius(Point, float)}). The sounds are loaded once, when the
+ * entity is added to this system, and played with a low priority by the {@link SoundManager}.
  */
 public final class IdleSoundSystem extends System {
 
@@ -27,19 +30,14 @@ public final class IdleSoundSystem extends System {
   /** Create a new {@link IdleSoundSystem}. */
   public IdleSoundSystem() {
     super(IdleSoundComponent.class);
-  }
-
-  private static boolean isEntityNearby(Point heroPos, Entity entity) {
-    Point entityPosition =
-        entity.fetch(PositionComponent.class).map(PositionComponent::position).orElse(null);
-
-    if (heroPos == null || entityPosition == null) {
-      return false;
-    }
-
-    double distance = heroPos.distance(entityPosition);
-
-    return distance < DISTANCE_THRESHOLD;
+    reads(IdleSoundComponent.class, PositionComponent.class, PlayerComponent.class);
+    // the sounds are played with the audio backend of the main thread
+    pinToMainThread();
+    onEntityAdd =
+        entity ->
+            entity
+                .fetch(IdleSoundComponent.class)
+                .ifPresent(component -> SoundManager.preload(component.soundEffect()));
   }
 
   @Override
@@ -48,8 +46,9 @@ public final class IdleSoundSystem extends System {
         Game.hero()
             .flatMap(e -> e.fetch(PositionComponent.class).map(PositionComponent::position))
             .orElse(null);
-    filteredEntityStream(IdleSoundComponent.class)
-        .filter(e -> isEntityNearby(heroPos, e))
+    if (heroPos == null) return;
+    Game.entitiesInRadius(heroPos, DISTANCE_THRESHOLD)
+        .filter(e -> e.isPresent(IdleSoundComponent.class))
         .forEach(
             e ->
                 playSound(
@@ -61,11 +60,7 @@ public final class IdleSoundSystem extends System {
   private void playSound(final IdleSoundComponent component) {
     float chanceToPlaySound = 0.001f;
     if (RANDOM.nextFloat(0f, 1f) < chanceToPlaySound) {
-      Sound soundEffect =
-          Gdx.audio.newSound(Gdx.files.internal(component.soundEffect().pathString()));
-      long soundID = soundEffect.play();
-      soundEffect.setLooping(soundID, false);
-      soundEffect.setVolume(soundID, 0.35f);
+      SoundManager.play(component.soundEffect(), 0.35f, 1f, SoundManager.LOW_PRIORITY);
     }
   }
 }
@@ -28,6 +28,8 @@ public final class ProjectileSystem extends System {
   /** Create a new ProjectileSystem. */
   public ProjectileSystem() {
     super(ProjectileComponent.class, PositionComponent.class, VelocityComponent.class);
+    reads(ProjectileComponent.class, PositionComponent.class);
+    writes(VelocityComponent.class);
   }
 
   /** Sets the velocity and removes entities that have reached their endpoints. */
@@ -6,6 +6,7 @@ import core.Game;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
 import core.level.Tile;
+import core.level.utils.FlowField;
 import core.level.utils.LevelUtils;
 import core.utils.components.MissingComponentException;
 
@@ -46,19 +47,42 @@ public final class AIUtils {
       return;
     }
 
-    switch (currentTile.directionTo(nextTile)[0]) {
-      case N -> vc.currentYVelocity(vc.yVelocity());
-      case S -> vc.currentYVelocity(-vc.yVelocity());
-      case E -> vc.currentXVelocity(vc.xVelocity());
-      case W -> vc.currentXVelocity(-vc.xVelocity());
-    }
-    if (currentTile.directionTo(nextTile).length > 1)
-      switch (currentTile.directionTo(nextTile)[1]) {
+    step(vc, currentTile, nextTile);
+  }
+
+  /**
+   * Sets the velocity of the passed entity so that it takes the next necessary step to get to the
+   * hero.
+   *
+   * <p>The next step is read from the shared {@link FlowField}, so this is an O(1) operation for
+   * each entity. If the hero can not be reached or the entity is already on the tile of the hero,
+   * the velocity will not be changed.
+   *
+   * @param entity Entity moving to the hero.
+   */
+  public static void moveToHero(final Entity entity) {
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    VelocityComponent vc =
+        entity
+            .fetch(VelocityComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, VelocityComponent.class));
+    Tile currentTile = Game.tileAT(pc.position());
+    FlowField.nextStepToHero(currentTile).ifPresent(nextTile -> step(vc, currentTile, nextTile));
+  }
+
+  private static void step(
+      final VelocityComponent vc, final Tile currentTile, final Tile nextTile) {
+    for (Tile.Direction direction : currentTile.directionTo(nextTile)) {
+      switch (direction) {
         case N -> vc.currentYVelocity(vc.yVelocity());
         case S -> vc.currentYVelocity(-vc.yVelocity());
         case E -> vc.currentXVelocity(vc.xVelocity());
         case W -> vc.currentXVelocity(-vc.xVelocity());
       }
+    }
   }
 
   /**
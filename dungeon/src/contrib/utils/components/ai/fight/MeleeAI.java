@@ -1,12 +1,9 @@
 package contrib.utils.components.ai.fight;
 
-import com.badlogic.gdx.ai.pfa.GraphPath;
 import contrib.utils.components.ai.AIUtils;
 import contrib.utils.components.skill.ISkillUser;
 import contrib.utils.components.skill.Skill;
 import core.Entity;
-import core.Game;
-import core.level.Tile;
 import core.level.utils.LevelUtils;
 import java.util.function.Consumer;
 
@@ -18,10 +15,7 @@ import java.util.function.Consumer;
  */
 public class MeleeAI implements Consumer<Entity>, ISkillUser {
   private final float attackRange;
-  private final int delay = Game.frameRate();
   private Skill fightSkill;
-  private int timeSinceLastUpdate = 0;
-  private GraphPath<Tile> path;
 
   /**
    * Attacks the player if he is within the given range. Otherwise, it will move towards the player.
@@ -39,12 +33,7 @@ public class MeleeAI implements Consumer<Entity>, ISkillUser {
     if (LevelUtils.playerInRange(entity, attackRange)) {
       useSkill(fightSkill, entity);
     } else {
-      if (path == null || timeSinceLastUpdate >= delay) {
-        path = LevelUtils.calculatePathToHero(entity);
-        timeSinceLastUpdate = -1;
-      }
-      timeSinceLastUpdate++;
-      AIUtils.move(entity, path);
+      AIUtils.moveToHero(entity);
     }
   }
 
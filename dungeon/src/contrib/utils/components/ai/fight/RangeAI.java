@@ -73,8 +73,7 @@ public final class RangeAI implements Consumer<Entity>, ISkillUser {
         useSkill(skill, entity);
       }
     } else {
-      path = LevelUtils.calculatePathToHero(entity);
-      AIUtils.move(entity, path);
+      AIUtils.moveToHero(entity);
     }
   }
 
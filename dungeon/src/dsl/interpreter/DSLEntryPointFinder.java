@@ -1,6 +1,5 @@
 package dsl.interpreter;
 
-import dsl.parser.DungeonASTConverter;
 import dsl.parser.ast.*;
 import dsl.semanticanalysis.environment.GameEnvironment;
 import dsl.semanticanalysis.symbol.Symbol;
@@ -9,7 +8,7 @@ import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
 import entrypoint.*;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +18,6 @@ public class DSLEntryPointFinder implements AstVisitor<Object> {
   private ParsedFile parsedFile;
   private final GameEnvironment environment;
   private AggregateType questConfigDataType;
-  private final HashMap<Path, ParsedFile> parsedFiles;
 
   /**
    * Constructor.
@@ -28,7 +26,6 @@ public class DSLEntryPointFinder implements AstVisitor<Object> {
    */
   public DSLEntryPointFinder() {
     this.environment = new GameEnvironment();
-    this.parsedFiles = new HashMap<>();
     var symbols = environment.getGlobalScope().getSymbols();
     for (Symbol symbol : symbols) {
       if (symbol instanceof AggregateType aggregateType) {
@@ -43,26 +40,38 @@ public class DSLEntryPointFinder implements AstVisitor<Object> {
    * Creates an AST vor the file of the passed filePath, searches it for quest_config definitions
    * and creates {@link DSLEntryPoint} instances for each one.
    *
+   * <p>The AST is taken from the {@link ParsedFileCache}, if the file did not change since it was
+   * parsed the last time.
+   *
    * @param filePath the path of the file to search for quest_config definitions in
    * @return an empty optional, if reading the file caused an error or it does not contain any
    *     quest_config definitions, the list of found quest_config objects otherwise
    */
   public Optional<List<DSLEntryPoint>> getEntryPoints(Path filePath) {
-    Node programAST;
-    if (this.parsedFiles.containsKey(filePath)) {
-      this.parsedFile = this.parsedFiles.get(filePath);
-      programAST = parsedFile.rootASTNode();
-    } else {
-      String content = DSLFileLoader.fileToString(filePath);
-      programAST = DungeonASTConverter.getProgramAST(content);
-      ParsedFile parsedFile = new ParsedFile(filePath, programAST);
-      this.parsedFiles.put(filePath, parsedFile);
-      this.parsedFile = parsedFile;
+    return getEntryPoints(ParsedFileCache.parse(filePath));
+  }
+
+  /**
+   * Creates the ASTs for the files of the passed filePaths in parallel, searches them for
+   * quest_config definitions and creates {@link DSLEntryPoint} instances for each one.
+   *
+   * @param filePaths the paths of the files to search for quest_config definitions in
+   * @return the list of found quest_config objects of all files, empty if none was found
+   */
+  public List<DSLEntryPoint> getEntryPoints(Collection<Path> filePaths) {
+    List<DSLEntryPoint> list = new ArrayList<>();
+    for (ParsedFile parsedFile : ParsedFileCache.parseAll(filePaths)) {
+      getEntryPoints(parsedFile).ifPresent(list::addAll);
     }
+    return list;
+  }
+
+  private Optional<List<DSLEntryPoint>> getEntryPoints(ParsedFile parsedFile) {
+    this.parsedFile = parsedFile;
     // we don't want to do the whole interpretation here...
     // we only want to know, which (well formed) entry points exist
     // would be enough to do this in a light AST-Visitor..
-    List<DSLEntryPoint> list = findEntryPoints(programAST);
+    List<DSLEntryPoint> list = findEntryPoints(parsedFile.rootASTNode());
     if (list.size() != 0) {
       return Optional.of(list);
     }
@@ -2,12 +2,15 @@ package dsl.interpreter;
 
 import antlr.main.DungeonDSLLexer;
 import antlr.main.DungeonDSLParser;
+import dsl.interpreter.compiler.CompiledFunction;
+import dsl.interpreter.compiler.FunctionCompiler;
 import dsl.interpreter.taskgraph.Interpreter;
 import dsl.parser.DungeonASTConverter;
 import dsl.parser.ast.*;
 import dsl.runtime.callable.ICallable;
 import dsl.runtime.callable.NativeFunction;
 import dsl.runtime.environment.RuntimeEnvironment;
+import dsl.runtime.memoryspace.ArrayMemorySpace;
 import dsl.runtime.memoryspace.EncapsulatedObject;
 import dsl.runtime.memoryspace.IMemorySpace;
 import dsl.runtime.memoryspace.MemorySpace;
@@ -17,6 +20,8 @@ import dsl.semanticanalysis.analyzer.SemanticAnalyzer;
 import dsl.semanticanalysis.environment.GameEnvironment;
 import dsl.semanticanalysis.environment.IEnvironment;
 import dsl.semanticanalysis.scope.IScope;
+import dsl.semanticanalysis.scope.Scope;
+import dsl.semanticanalysis.scope.VariableSlot;
 import dsl.semanticanalysis.symbol.FunctionSymbol;
 import dsl.semanticanalysis.symbol.PropertySymbol;
 import dsl.semanticanalysis.symbol.ScopedSymbol;
@@ -73,9 +78,15 @@ public class DSLInterpreter implements AstVisitor<Object> {
   private final ArrayDeque<Node> statementStack;
 
   private static final String RETURN_VALUE_NAME = "$return_value$";
+  private static final String ARGUMENT_NAME_PREFIX = "$argument_";
 
   private final ScenarioBuilderStorage scenarioBuilderStorage;
 
+  private FunctionCompiler functionCompiler;
+  private boolean functionCompilationEnabled = true;
+  // IdNodes referencing the arguments bound by callCallableWithValues, reused for all calls
+  private final List<Node> argumentNodes = new ArrayList<>();
+
   /** Constructor. WTF? . */
   public DSLInterpreter() {
     memoryStack = new ArrayDeque<>();
@@ -387,6 +398,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
     this.memoryStack.push(this.globalSpace);
 
     this.environment = new RuntimeEnvironment(environment, this);
+    this.functionCompiler = new FunctionCompiler(this.environment.getSymbolTable());
 
     evaluateGlobalSymbols();
     initializeScenarioBuilderStorage();
@@ -637,7 +649,14 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return (AggregateType) returnType;
   }
 
-  static boolean isBooleanTrue(Value value) {
+  /**
+   * Check, if a {@link Value} is considered true in a condition.
+   *
+   * @param value The {@link Value} to check.
+   * @return false, if the value is {@link Value#NONE}, an empty aggregate value, an enum value
+   *     without a variant, or a basic value, which is false or zero; true otherwise.
+   */
+  public static boolean isBooleanTrue(Value value) {
     var valuesType = value.getDataType();
     var typeKind = valuesType.getTypeKind();
 
@@ -781,7 +800,53 @@ public class DSLInterpreter implements AstVisitor<Object> {
       return new FunctionValue(functionSymbol.getFunctionType(), functionSymbol);
     }
 
-    return this.getCurrentMemorySpace().resolve(node.getName(), true);
+    return resolveVariable(node, this.getCurrentMemorySpace());
+  }
+
+  /**
+   * Resolve the value of a variable, which is referenced by an identifier.
+   *
+   * <p>Local variables are read from the slot, which was resolved by the semantic analysis. The
+   * memory spaces of functions, blocks and loops mirror the scopes of the semantic analysis, so
+   * the variable is stored in the {@link ArrayMemorySpace} {@link VariableSlot#depth()} memory
+   * spaces up. If this is not the case (e.g. if the identifier is resolved in the memory space of
+   * an aggregate value), or for other variables, the name is resolved.
+   *
+   * @param node the identifier
+   * @param memorySpace the memory space to resolve the identifier in
+   * @return the resolved value or Value.NONE, if the name could not be resolved
+   */
+  private Value resolveVariable(IdNode node, IMemorySpace memorySpace) {
+    VariableSlot slot = this.symbolTable().getVariableSlot(node);
+    if (slot != VariableSlot.NONE) {
+      IMemorySpace ms = memorySpace;
+      for (int i = 0; i < slot.depth() && ms instanceof ArrayMemorySpace arrayMs; i++) {
+        ms = arrayMs.getParent();
+      }
+      if (ms instanceof ArrayMemorySpace arrayMs && arrayMs.getScope() == slot.scope()) {
+        Value value = arrayMs.getSlotValue(slot.index());
+        if (value != null) {
+          return value;
+        }
+      }
+    }
+    return memorySpace.resolve(node.getName(), true);
+  }
+
+  /**
+   * Create the memory space for the scope, which the semantic analysis created for a node (e.g. a
+   * block or a loop).
+   *
+   * @param node the node, which opens the scope
+   * @return an {@link ArrayMemorySpace} for the scope of the node, or a {@link MemorySpace}, if
+   *     there is no scope for the node
+   */
+  private IMemorySpace createScopeMemorySpace(Node node) {
+    IScope scope = this.symbolTable().getScopeOfNode(node);
+    if (scope == Scope.NULL) {
+      return new MemorySpace(this.getCurrentMemorySpace());
+    }
+    return new ArrayMemorySpace(this.getCurrentMemorySpace(), scope);
   }
 
   @Override
@@ -807,7 +872,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
     statementStack.addFirst(new Node(Node.Type.ScopeExitMark));
 
     // push new MemorySpace on top of memory stack
-    MemorySpace ms = new MemorySpace(this.getCurrentMemorySpace());
+    IMemorySpace ms = createScopeMemorySpace(node);
     this.memoryStack.push(ms);
 
     // push statements in reverse order onto the statement stack
@@ -869,7 +934,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
       // if we only got one statement (no block), we need to create a new MemorySpace
       // here
       if (!node.getIfStmt().type.equals(Node.Type.Block)) {
-        MemorySpace ms = new MemorySpace(this.getCurrentMemorySpace());
+        IMemorySpace ms = createScopeMemorySpace(node.getIfStmt());
         memoryStack.push(ms);
         statementStack.push(new Node(Node.Type.ScopeExitMark));
       }
@@ -887,7 +952,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
       // if we only got one statement (no block), we need to create a new MemorySpace
       // here
       if (!node.getIfStmt().type.equals(Node.Type.Block)) {
-        MemorySpace ms = new MemorySpace(this.getCurrentMemorySpace());
+        IMemorySpace ms = createScopeMemorySpace(node.getIfStmt());
         memoryStack.push(ms);
         statementStack.push(new Node(Node.Type.ScopeExitMark));
       }
@@ -896,7 +961,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
       // if we only got one statement (no block), we need to create a new MemorySpace
       // here
       if (!node.getElseStmt().type.equals(Node.Type.Block)) {
-        MemorySpace ms = new MemorySpace(this.getCurrentMemorySpace());
+        IMemorySpace ms = createScopeMemorySpace(node.getElseStmt());
         memoryStack.push(ms);
         statementStack.push(new Node(Node.Type.ScopeExitMark));
       }
@@ -933,8 +998,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
         assert rhsSymbol.getDataType().getTypeKind().equals(IType.Kind.EnumType);
         rhsValue = new EnumValue(enumType, rhsSymbol);
       } else if (lhs.type.equals(Node.Type.Identifier)) {
-        String nameToResolve = ((IdNode) lhs).getName();
-        lhsValue = memorySpaceToUse.resolve(nameToResolve);
+        lhsValue = resolveVariable((IdNode) lhs, memorySpaceToUse);
       } else if (lhs.type.equals(Node.Type.FuncCall)) {
         this.instanceMemoryStack.push(memorySpaceToUse);
         lhsValue = (Value) lhs.accept(this);
@@ -1231,7 +1295,15 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return true;
   }
 
-  private boolean setValue(Value assignee, Value valueToAssign) {
+  /**
+   * Set the {@link Value} {@code assignee} to {@code valueToAssign}, as an assignment in a DSL
+   * program does it.
+   *
+   * @param assignee The {@link Value} to set.
+   * @param valueToAssign The {@link Value} to set the assignee to.
+   * @return true, if the value was set, false if the assignee is {@link Value#NONE}.
+   */
+  public boolean setValue(Value assignee, Value valueToAssign) {
     if (assignee == Value.NONE) {
       return false;
     }
@@ -1347,7 +1419,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
     Iterator<Value> loopIterator = node.getInternalIterator();
     if (loopIterator.hasNext()) {
       // create loops-memory space for next iteration
-      MemorySpace newLoopMemorySpace = new MemorySpace(this.getCurrentMemorySpace());
+      IMemorySpace newLoopMemorySpace = createScopeMemorySpace(loopNode);
 
       // update loop variable
       Value nextIterationValue = loopIterator.next();
@@ -1383,7 +1455,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
         Value conditionValue = (Value) whileLoopStmtNode.getExpressionNode().accept(this);
         if (isBooleanTrue(conditionValue)) {
           // setup memory space for next iteration
-          MemorySpace newIterationMemorySpace = new MemorySpace(this.getCurrentMemorySpace());
+          IMemorySpace newIterationMemorySpace = createScopeMemorySpace(loopNode);
           this.memoryStack.push(newIterationMemorySpace);
 
           // prepare execution of next iteration
@@ -1476,6 +1548,82 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return null;
   }
 
+  /**
+   * Call an {@link ICallable} with already evaluated parameters.
+   *
+   * <p>Used by {@link CompiledFunction}s. User defined functions are called directly with the
+   * passed {@link Value}s. For native functions, the values are bound in a temporary {@link
+   * IMemorySpace} and passed as {@link IdNode}s, which reference them.
+   *
+   * @param callable The {@link ICallable} to call.
+   * @param parameterValues The evaluated parameters of the call.
+   * @return The returned {@link Value} of the call.
+   */
+  public Value callCallableWithValues(ICallable callable, List<Value> parameterValues) {
+    if (callable instanceof FunctionSymbol functionSymbol) {
+      return executeUserDefinedFunctionWithValues(functionSymbol, parameterValues);
+    }
+
+    IMemorySpace argumentMemorySpace = new MemorySpace(getCurrentMemorySpace());
+    for (int i = 0; i < parameterValues.size(); i++) {
+      argumentMemorySpace.bindValue(argumentName(i), parameterValues.get(i));
+    }
+
+    // copy the nodes, a nested call may add more argument nodes while the native function still
+    // uses its list of arguments
+    List<Node> arguments = List.copyOf(argumentNodes.subList(0, parameterValues.size()));
+    this.memoryStack.push(argumentMemorySpace);
+    Value returnValue = callCallable(callable, arguments);
+    this.memoryStack.pop();
+
+    return returnValue;
+  }
+
+  private String argumentName(int index) {
+    while (argumentNodes.size() <= index) {
+      String name = ARGUMENT_NAME_PREFIX + argumentNodes.size() + "$";
+      argumentNodes.add(new IdNode(name, SourceFileReference.NULL));
+    }
+    return ((IdNode) argumentNodes.get(index)).getName();
+  }
+
+  /**
+   * Enable or disable the compilation of user defined functions.
+   *
+   * <p>If enabled (the default), user defined functions are compiled by a {@link FunctionCompiler}
+   * on their first call, and the {@link CompiledFunction} is executed instead of interpreting the
+   * AST of the function. Functions, which can not be compiled, are always interpreted.
+   *
+   * @param enabled true to compile user defined functions, false to always interpret them.
+   */
+  public void setFunctionCompilationEnabled(boolean enabled) {
+    this.functionCompilationEnabled = enabled;
+  }
+
+  /**
+   * Check, if user defined functions are compiled.
+   *
+   * @return true, if user defined functions are compiled, false otherwise.
+   * @see #setFunctionCompilationEnabled(boolean)
+   */
+  public boolean isFunctionCompilationEnabled() {
+    return this.functionCompilationEnabled;
+  }
+
+  /**
+   * Get the compiled version of a user defined function.
+   *
+   * @param symbol The symbol corresponding to the function.
+   * @return An Optional containing the compiled function, or an empty Optional, if compilation is
+   *     disabled or the function could not be compiled.
+   */
+  public Optional<CompiledFunction> getCompiledFunction(FunctionSymbol symbol) {
+    if (!this.functionCompilationEnabled || this.functionCompiler == null) {
+      return Optional.empty();
+    }
+    return this.functionCompiler.compile(symbol);
+  }
+
   /**
    * This implements a call to a user defined dsl-function.
    *
@@ -1485,14 +1633,8 @@ public class DSLInterpreter implements AstVisitor<Object> {
    */
   protected Object executeUserDefinedFunctionRawParameters(
       FunctionSymbol symbol, List<Object> parameterObjects) {
-    IMemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
-    setupFunctionParametersRaw(symbol, functionMemorySpace, parameterObjects);
-
-    this.memoryStack.push(functionMemorySpace);
-    executeUserDefinedFunctionBody(symbol);
-    functionMemorySpace = memoryStack.pop();
-
-    return getReturnValueFromMemorySpace(functionMemorySpace);
+    return executeUserDefinedFunctionWithValues(
+        symbol, translateParameterObjects(symbol, parameterObjects));
   }
 
   /**
@@ -1503,11 +1645,21 @@ public class DSLInterpreter implements AstVisitor<Object> {
    * @return The return value of the function call
    */
   public Object executeUserDefinedFunction(FunctionSymbol symbol, List<Node> parameterNodes) {
+    // evaluate the arguments before pushing the function's memory space! If a passed argument
+    // has the same identifier as a parameter, the name would be resolved in the new memory space
+    // and not the enclosing memory space, containing the argument
+    return executeUserDefinedFunctionWithValues(symbol, evaluateNodes(parameterNodes));
+  }
+
+  private Value executeUserDefinedFunctionWithValues(
+      FunctionSymbol symbol, List<Value> parameterValues) {
+    Optional<CompiledFunction> compiledFunction = getCompiledFunction(symbol);
+    if (compiledFunction.isPresent()) {
+      return compiledFunction.get().invoke(this, parameterValues);
+    }
+
     IMemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
-    // can't push memory space yet! If a passed argument has the same identifier
-    // as a parameter, the name will be resolved in the new memory space and not
-    // the enclosing memory space, containing the argument
-    setupFunctionParameters(symbol, functionMemorySpace, parameterNodes);
+    setupFunctionParameters(symbol, functionMemorySpace, parameterValues);
 
     this.memoryStack.push(functionMemorySpace);
     executeUserDefinedFunctionBody(symbol);
@@ -1528,44 +1680,55 @@ public class DSLInterpreter implements AstVisitor<Object> {
       ScopedSymbol functionSymbol,
       IMemorySpace functionsMemorySpace,
       List<Object> parameterObjects) {
+    setupFunctionParameters(
+        functionSymbol,
+        functionsMemorySpace,
+        translateParameterObjects(functionSymbol, parameterObjects));
+  }
+
+  /**
+   * Translate raw objects into DSL-Values of the types of the corresponding function parameters.
+   *
+   * @param functionSymbol The symbol corresponding to the function definition
+   * @param parameterObjects Raw objects to use as values for the function's parameters
+   * @return The translated values, in the same order as the passed objects
+   */
+  private List<Value> translateParameterObjects(
+      ScopedSymbol functionSymbol, List<Object> parameterObjects) {
     var currentMemorySpace = getCurrentMemorySpace();
-    // bind all parameter-symbols as values in the function's memory space and set their values
     var parameterSymbols = functionSymbol.getSymbols();
+    List<Value> parameterValues = new ArrayList<>(parameterObjects.size());
     for (int i = 0; i < parameterObjects.size(); i++) {
-      var parameterSymbol = parameterSymbols.get(i);
-      bindFromSymbol(parameterSymbol, functionsMemorySpace);
-
-      Object parameterObject = parameterObjects.get(i);
       Value paramValue =
           (Value)
               this.environment.translateRuntimeObject(
-                  parameterObject, currentMemorySpace, parameterSymbol.getDataType());
-      Value assigneeValue = functionsMemorySpace.resolve(parameterSymbol.getName());
-      setValue(assigneeValue, paramValue);
+                  parameterObjects.get(i),
+                  currentMemorySpace,
+                  parameterSymbols.get(i).getDataType());
+      parameterValues.add(paramValue);
     }
+    return parameterValues;
   }
 
   /**
-   * This function evaluates all passed nodes as values and binds them as parameters in the current
-   * memory space.
+   * This function binds all passed values as parameters in the function's memory space.
    *
    * @param functionSymbol The symbol corresponding to the function definition
    * @param functionsMemorySpace foo
-   * @param parameterNodes AST-Nodes representing the passed parameters
+   * @param parameterValues Evaluated values of the passed parameters
    */
   private void setupFunctionParameters(
-      FunctionSymbol functionSymbol, IMemorySpace functionsMemorySpace, List<Node> parameterNodes) {
+      ScopedSymbol functionSymbol,
+      IMemorySpace functionsMemorySpace,
+      List<Value> parameterValues) {
     // bind all parameter-symbols as values in the function's memory space and set their values
     var parameterSymbols = functionSymbol.getSymbols();
-    for (int i = 0; i < parameterNodes.size(); i++) {
+    for (int i = 0; i < parameterValues.size(); i++) {
       var parameterSymbol = parameterSymbols.get(i);
       bindFromSymbol(parameterSymbol, functionsMemorySpace);
 
-      var paramValueNode = parameterNodes.get(i);
-      Value paramValue = (Value) paramValueNode.accept(this);
-
       Value assigneeValue = functionsMemorySpace.resolve(parameterSymbol.getName());
-      setValue(assigneeValue, paramValue);
+      setValue(assigneeValue, parameterValues.get(i));
     }
   }
 
@@ -1578,7 +1741,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
    */
   private IMemorySpace createFunctionMemorySpace(ScopedSymbol functionSymbol) {
     // push new memorySpace and parameters on spaceStack
-    var functionMemSpace = new MemorySpace(memoryStack.peek());
+    var functionMemSpace = new ArrayMemorySpace(memoryStack.peek(), functionSymbol);
 
     // create and bind the return value
     var functionType = (FunctionType) functionSymbol.getDataType();
@@ -0,0 +1,85 @@
+package dsl.interpreter.compiler;
+
+import dsl.interpreter.DSLInterpreter;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A user defined DSL function, compiled by the {@link FunctionCompiler}.
+ *
+ * <p>The body of the function is a tree of {@link Statement}s and {@link Expression}s, in which all
+ * symbols are already resolved. Parameters and local variables are stored in an array of slots
+ * instead of a {@link dsl.runtime.memoryspace.MemorySpace}, so a call neither creates memory spaces
+ * nor looks up names.
+ */
+public final class CompiledFunction {
+  private final FunctionSymbol symbol;
+  private final IType[] parameterTypes;
+  private final IType returnType;
+  private final int slotCount;
+  private final Statement body;
+
+  CompiledFunction(
+      final FunctionSymbol symbol,
+      final IType[] parameterTypes,
+      final int slotCount,
+      final Statement body) {
+    this.symbol = symbol;
+    this.parameterTypes = parameterTypes;
+    this.returnType = symbol.getFunctionType().getReturnType();
+    this.slotCount = slotCount;
+    this.body = body;
+  }
+
+  /**
+   * Get the symbol of the compiled function.
+   *
+   * @return The {@link FunctionSymbol} of the compiled function.
+   */
+  public FunctionSymbol symbol() {
+    return symbol;
+  }
+
+  /**
+   * Get the number of slots of the function.
+   *
+   * @return Number of parameters and local variables of the function.
+   */
+  public int slotCount() {
+    return slotCount;
+  }
+
+  /**
+   * Call the function.
+   *
+   * <p>The arguments are copied into the parameters of the function, like the {@link
+   * DSLInterpreter} does it for interpreted functions.
+   *
+   * @param interpreter The interpreter, which is used for calls to other functions and for names,
+   *     which are not defined in the function (e.g. global objects).
+   * @param arguments The evaluated arguments of the call.
+   * @return The return value of the call, or {@link Value#NONE}, if the function does not return
+   *     anything.
+   */
+  public Value invoke(final DSLInterpreter interpreter, final List<Value> arguments) {
+    Value[] slots = new Value[slotCount];
+    Arrays.fill(slots, Value.NONE);
+    for (int i = 0; i < arguments.size() && i < parameterTypes.length; i++) {
+      Value parameter = interpreter.createDefaultValue(parameterTypes[i]);
+      interpreter.setValue(parameter, arguments.get(i));
+      slots[i] = parameter;
+    }
+
+    Value returnValue = Value.NONE;
+    if (returnType != BuiltInType.noType) {
+      returnValue = interpreter.createDefaultValue(returnType);
+    }
+
+    body.execute(new Frame(interpreter, slots, returnValue));
+    return returnValue;
+  }
+}
@@ -0,0 +1,15 @@
+package dsl.interpreter.compiler;
+
+import dsl.runtime.value.Value;
+
+/** A compiled expression of a DSL function. */
+@FunctionalInterface
+interface Expression {
+  /**
+   * Evaluate the expression.
+   *
+   * @param frame The frame of the current call.
+   * @return The {@link Value} of the expression.
+   */
+  Value evaluate(Frame frame);
+}
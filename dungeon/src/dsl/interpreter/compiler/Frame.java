@@ -0,0 +1,30 @@
+package dsl.interpreter.compiler;
+
+import dsl.interpreter.DSLInterpreter;
+import dsl.runtime.value.Value;
+
+/**
+ * Activation record of a single call of a {@link CompiledFunction}.
+ *
+ * <p>The parameters and local variables of the function are stored in {@link #slots}, the slot of
+ * each variable is resolved once by the {@link FunctionCompiler}.
+ */
+final class Frame {
+  final DSLInterpreter interpreter;
+  final Value[] slots;
+  final Value returnValue;
+
+  /**
+   * Create a new frame.
+   *
+   * @param interpreter The interpreter, which executes the call.
+   * @param slots The slots for the parameters and local variables.
+   * @param returnValue The {@link Value} to store the return value in, or {@link Value#NONE}, if
+   *     the function does not return anything.
+   */
+  Frame(final DSLInterpreter interpreter, final Value[] slots, final Value returnValue) {
+    this.interpreter = interpreter;
+    this.slots = slots;
+    this.returnValue = returnValue;
+  }
+}
@@ -0,0 +1,409 @@
+package dsl.interpreter.compiler;
+
+import dsl.interpreter.DSLInterpreter;
+import dsl.parser.ast.*;
+import dsl.runtime.callable.ICallable;
+import dsl.runtime.callable.NativeFunction;
+import dsl.runtime.value.EnumValue;
+import dsl.runtime.value.FunctionValue;
+import dsl.runtime.value.ListValue;
+import dsl.runtime.value.SetValue;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.SymbolTable;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
+import dsl.semanticanalysis.symbol.Symbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.EnumType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiles the bodies of user defined DSL functions into {@link CompiledFunction}s.
+ *
+ * <p>The compiler runs on the AST after the semantic analysis: every identifier is resolved to its
+ * {@link Symbol} once, parameters and local variables get a fixed slot in the {@link Frame} of a
+ * call, and each AST node is translated into an {@link Expression} or {@link Statement}, which
+ * executes the node without visiting it again.
+ *
+ * <p>Only a subset of the DSL is supported: literals, variables, declarations without initializer,
+ * assignments, calls of functions, member access without method calls, enum variants, blocks,
+ * {@code if}/{@code else}, loops and {@code return}. If a function body contains anything else, the
+ * function is not compiled and the {@link DSLInterpreter} interprets it, so compilation never
+ * changes which programs can be executed.
+ *
+ * <p>Names, which are not declared in the function (e.g. global objects), are resolved in the
+ * current memory space of the interpreter on each access, like the interpreter does it.
+ *
+ * <p>The results of {@link #compile(FunctionSymbol)} are cached, including failed compilations.
+ */
+public final class FunctionCompiler {
+  private final SymbolTable symbolTable;
+  private final Map<FunctionSymbol, Optional<CompiledFunction>> cache = new IdentityHashMap<>();
+
+  /**
+   * Create a new compiler.
+   *
+   * @param symbolTable The {@link SymbolTable} created by the semantic analysis of the functions
+   *     to compile.
+   */
+  public FunctionCompiler(final SymbolTable symbolTable) {
+    this.symbolTable = symbolTable;
+  }
+
+  /**
+   * Compile the given function.
+   *
+   * @param symbol The {@link FunctionSymbol} of the function to compile.
+   * @return An Optional containing the compiled function, or an empty Optional, if the function
+   *     contains constructs, which are not supported by the compiler.
+   */
+  public Optional<CompiledFunction> compile(final FunctionSymbol symbol) {
+    return cache.computeIfAbsent(symbol, this::compileFunction);
+  }
+
+  private Optional<CompiledFunction> compileFunction(final FunctionSymbol symbol) {
+    FuncDefNode funcDefNode = symbol.getAstRootNode();
+    if (funcDefNode == null) {
+      return Optional.empty();
+    }
+
+    // bind the parameters in the order of their declaration
+    Slots slots = new Slots();
+    List<Node> parameterNodes = funcDefNode.getParameters();
+    IType[] parameterTypes = new IType[parameterNodes.size()];
+    for (int i = 0; i < parameterTypes.length; i++) {
+      if (!(parameterNodes.get(i) instanceof ParamDefNode parameterNode)) {
+        return Optional.empty();
+      }
+      Symbol parameterSymbol = symbol.resolve(parameterNode.getIdName(), false);
+      if (parameterSymbol == Symbol.NULL) {
+        return Optional.empty();
+      }
+      parameterTypes[i] = parameterSymbol.getDataType();
+      slots.declare(parameterSymbol);
+    }
+
+    try {
+      Node stmtBlock = funcDefNode.getStmtBlock();
+      Statement body = stmtBlock == Node.NONE ? frame -> false : statement(stmtBlock, slots);
+      return Optional.of(new CompiledFunction(symbol, parameterTypes, slots.count(), body));
+    } catch (UnsupportedConstructException e) {
+      return Optional.empty();
+    }
+  }
+
+  // region statements
+
+  private Statement statement(final Node node, final Slots slots) {
+    return switch (node.type) {
+      case NONE -> frame -> false;
+      case Block -> block((StmtBlockNode) node, slots);
+      case ReturnStmt -> returnStatement((ReturnStmtNode) node, slots);
+      case ConditionalStmtIf -> ifStatement((ConditionalStmtNodeIf) node, slots);
+      case ConditionalStmtIfElse -> ifElseStatement((ConditionalStmtNodeIfElse) node, slots);
+      case VarDeclNode -> varDecl((VarDeclNode) node, slots);
+      case LoopStmtNode -> loop((LoopStmtNode) node, slots);
+      default -> {
+        Expression expression = expression(node, slots);
+        yield frame -> {
+          expression.evaluate(frame);
+          return false;
+        };
+      }
+    };
+  }
+
+  private Statement block(final StmtBlockNode node, final Slots slots) {
+    List<Node> stmts = node.getStmts();
+    Statement[] statements = new Statement[stmts.size()];
+    for (int i = 0; i < statements.length; i++) {
+      statements[i] = statement(stmts.get(i), slots);
+    }
+    return frame -> {
+      for (Statement statement : statements) {
+        if (statement.execute(frame)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  private Statement returnStatement(final ReturnStmtNode node, final Slots slots) {
+    Node innerNode = node.getInnerStmtNode();
+    if (innerNode == Node.NONE) {
+      return frame -> true;
+    }
+    Expression value = expression(innerNode, slots);
+    return frame -> {
+      Value returned = value.evaluate(frame);
+      if (returned != Value.NONE && frame.returnValue != Value.NONE) {
+        frame.interpreter.setValue(frame.returnValue, returned);
+      }
+      return true;
+    };
+  }
+
+  private Statement ifStatement(final ConditionalStmtNodeIf node, final Slots slots) {
+    Expression condition = expression(node.getCondition(), slots);
+    Statement ifStmt = statement(node.getIfStmt(), slots);
+    return frame ->
+        DSLInterpreter.isBooleanTrue(condition.evaluate(frame)) && ifStmt.execute(frame);
+  }
+
+  private Statement ifElseStatement(final ConditionalStmtNodeIfElse node, final Slots slots) {
+    Expression condition = expression(node.getCondition(), slots);
+    Statement ifStmt = statement(node.getIfStmt(), slots);
+    Statement elseStmt = statement(node.getElseStmt(), slots);
+    return frame ->
+        DSLInterpreter.isBooleanTrue(condition.evaluate(frame))
+            ? ifStmt.execute(frame)
+            : elseStmt.execute(frame);
+  }
+
+  private Statement varDecl(final VarDeclNode node, final Slots slots) {
+    if (node.getDeclType().equals(VarDeclNode.DeclType.assignmentDecl)) {
+      // not supported by the interpreter either, let it report the error
+      throw new UnsupportedConstructException();
+    }
+    Symbol variableSymbol = symbol(node);
+    if (variableSymbol == Symbol.NULL || variableSymbol instanceof IType) {
+      throw new UnsupportedConstructException();
+    }
+    IType type = variableSymbol.getDataType();
+    int slot = slots.declare(variableSymbol);
+    return frame -> {
+      frame.slots[slot] = frame.interpreter.createDefaultValue(type);
+      return false;
+    };
+  }
+
+  private Statement loop(final LoopStmtNode node, final Slots slots) {
+    if (node instanceof WhileLoopStmtNode whileNode) {
+      Expression condition = expression(whileNode.getExpressionNode(), slots);
+      Statement body = statement(whileNode.getStmtNode(), slots);
+      return frame -> {
+        while (DSLInterpreter.isBooleanTrue(condition.evaluate(frame))) {
+          if (body.execute(frame)) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+    if (!(node instanceof ForLoopStmtNode forNode)) {
+      throw new UnsupportedConstructException();
+    }
+
+    Expression iterable = expression(forNode.getIterableIdNode(), slots);
+    Symbol variableSymbol = symbol(forNode.getVarIdNode());
+    if (variableSymbol == Symbol.NULL) {
+      throw new UnsupportedConstructException();
+    }
+    IType variableType = variableSymbol.getDataType();
+    int variableSlot = slots.declare(variableSymbol);
+
+    int counterSlot = -1;
+    IType counterType = BuiltInType.noType;
+    if (node instanceof CountingLoopStmtNode countingNode) {
+      Symbol counterSymbol = symbol(countingNode.getCounterIdNode());
+      if (counterSymbol == Symbol.NULL) {
+        throw new UnsupportedConstructException();
+      }
+      counterType = counterSymbol.getDataType();
+      counterSlot = slots.declare(counterSymbol);
+    }
+
+    Statement body = statement(forNode.getStmtNode(), slots);
+    int finalCounterSlot = counterSlot;
+    IType finalCounterType = counterType;
+    return frame -> {
+      Iterator<Value> iterator = iterator(iterable.evaluate(frame));
+      Value counter = Value.NONE;
+      if (finalCounterSlot >= 0) {
+        counter = frame.interpreter.createDefaultValue(finalCounterType);
+        counter.setInternalValue(-1);
+        frame.slots[finalCounterSlot] = counter;
+      }
+      while (iterator.hasNext()) {
+        Value variable = frame.interpreter.createDefaultValue(variableType);
+        frame.interpreter.setValue(variable, iterator.next());
+        frame.slots[variableSlot] = variable;
+        if (counter != Value.NONE) {
+          counter.setInternalValue((Integer) counter.getInternalValue() + 1);
+        }
+        if (body.execute(frame)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  private static Iterator<Value> iterator(final Value iterableValue) {
+    IType iterableType = iterableValue.getDataType();
+    if (iterableType.getTypeKind().equals(IType.Kind.ListType)) {
+      return ((ListValue) iterableValue).internalList().iterator();
+    } else if (iterableType.getTypeKind().equals(IType.Kind.SetType)) {
+      return ((SetValue) iterableValue).internalSet().iterator();
+    }
+    throw new RuntimeException("Non iterable type '" + iterableType + "' used in for loop!");
+  }
+
+  // endregion
+
+  // region expressions
+
+  private Expression expression(final Node node, final Slots slots) {
+    return switch (node.type) {
+      case Number -> {
+        int value = ((NumNode) node).getValue();
+        yield frame -> new Value(BuiltInType.intType, value);
+      }
+      case DecimalNumber -> {
+        float value = ((DecNumNode) node).getValue();
+        yield frame -> new Value(BuiltInType.floatType, value);
+      }
+      case StringLiteral -> {
+        String value = ((StringNode) node).getValue();
+        yield frame -> new Value(BuiltInType.stringType, value);
+      }
+      case Bool -> {
+        boolean value = ((BoolNode) node).getValue();
+        yield frame -> new Value(BuiltInType.boolType, value);
+      }
+      case Identifier -> identifier((IdNode) node, slots);
+      case FuncCall -> call((FuncCallNode) node, slots);
+      case MemberAccess -> memberAccess((MemberAccessNode) node, slots);
+      case Assignment -> assignment((AssignmentNode) node, slots);
+      default -> throw new UnsupportedConstructException();
+    };
+  }
+
+  private Expression identifier(final IdNode node, final Slots slots) {
+    Symbol symbol = symbol(node);
+    if (symbol instanceof NativeFunction nativeFunction) {
+      return frame -> new FunctionValue(nativeFunction.getFunctionType(), nativeFunction);
+    }
+    if (symbol instanceof FunctionSymbol functionSymbol) {
+      return frame -> new FunctionValue(functionSymbol.getFunctionType(), functionSymbol);
+    }
+    return variable(node, symbol, slots);
+  }
+
+  private static Expression variable(final IdNode node, final Symbol symbol, final Slots slots) {
+    int slot = slots.slotOf(symbol);
+    if (slot >= 0) {
+      return frame -> frame.slots[slot];
+    }
+    String name = node.getName();
+    return frame -> frame.interpreter.getCurrentMemorySpace().resolve(name, true);
+  }
+
+  private Expression call(final FuncCallNode node, final Slots slots) {
+    if (!(symbol(node) instanceof ICallable callable)) {
+      // e.g. calls of function typed variables, let the interpreter handle these
+      throw new UnsupportedConstructException();
+    }
+    List<Node> parameterNodes = node.getParameters();
+    Expression[] arguments = new Expression[parameterNodes.size()];
+    for (int i = 0; i < arguments.length; i++) {
+      arguments[i] = expression(parameterNodes.get(i), slots);
+    }
+    return frame -> {
+      List<Value> values = new ArrayList<>(arguments.length);
+      for (Expression argument : arguments) {
+        values.add(argument.evaluate(frame));
+      }
+      return frame.interpreter.callCallableWithValues(callable, values);
+    };
+  }
+
+  private Expression memberAccess(final MemberAccessNode node, final Slots slots) {
+    Node lhs = node.getLhs();
+    Node rhs = node.getRhs();
+
+    Symbol lhsSymbol = symbol(lhs);
+    if (lhsSymbol instanceof EnumType enumType) {
+      Symbol variantSymbol = symbol(rhs);
+      if (variantSymbol == Symbol.NULL || !rhs.type.equals(Node.Type.Identifier)) {
+        throw new UnsupportedConstructException();
+      }
+      return frame -> new EnumValue(enumType, variantSymbol);
+    }
+    if (!lhs.type.equals(Node.Type.Identifier)) {
+      throw new UnsupportedConstructException();
+    }
+
+    Expression current = variable((IdNode) lhs, lhsSymbol, slots);
+    while (rhs.type.equals(Node.Type.MemberAccess)) {
+      MemberAccessNode inner = (MemberAccessNode) rhs;
+      if (!inner.getLhs().type.equals(Node.Type.Identifier)
+          || symbol(inner.getLhs()) instanceof EnumType) {
+        throw new UnsupportedConstructException();
+      }
+      current = member(current, ((IdNode) inner.getLhs()).getName());
+      rhs = inner.getRhs();
+    }
+    if (!rhs.type.equals(Node.Type.Identifier)) {
+      // method calls need the instance memory stack of the interpreter
+      throw new UnsupportedConstructException();
+    }
+
+    Symbol rhsSymbol = symbol(rhs);
+    if (rhsSymbol instanceof NativeFunction || rhsSymbol instanceof FunctionSymbol) {
+      return identifier((IdNode) rhs, slots);
+    }
+    return member(current, ((IdNode) rhs).getName());
+  }
+
+  private static Expression member(final Expression instance, final String name) {
+    return frame -> instance.evaluate(frame).getMemorySpace().resolve(name, true);
+  }
+
+  private Expression assignment(final AssignmentNode node, final Slots slots) {
+    Expression lhs = expression(node.getLhs(), slots);
+    Expression rhs = expression(node.getRhs(), slots);
+    return frame -> {
+      Value lhsValue = lhs.evaluate(frame);
+      Value rhsValue = rhs.evaluate(frame);
+      frame.interpreter.setValue(lhsValue, rhsValue);
+      return lhsValue;
+    };
+  }
+
+  // endregion
+
+  private Symbol symbol(final Node node) {
+    return symbolTable.getSymbolsForAstNode(node).get(0);
+  }
+
+  /** Assigns a slot to each declared variable of the compiled function. */
+  private static final class Slots {
+    private final Map<Symbol, Integer> slots = new IdentityHashMap<>();
+
+    int declare(final Symbol symbol) {
+      return slots.computeIfAbsent(symbol, s -> slots.size());
+    }
+
+    int slotOf(final Symbol symbol) {
+      return slots.getOrDefault(symbol, -1);
+    }
+
+    int count() {
+      return slots.size();
+    }
+  }
+
+  /** Thrown, if the function body contains a construct, which can not be compiled. */
+  private static final class UnsupportedConstructException extends RuntimeException {
+    UnsupportedConstructException() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package dsl.interpreter.compiler;
+
+/** A compiled statement of a DSL function. */
+@FunctionalInterface
+interface Statement {
+  /**
+   * Execute the statement.
+   *
+   * @param frame The frame of the current call.
+   * @return true, if a return statement was executed and the function must return, false otherwise.
+   */
+  boolean execute(Frame frame);
+}
@@ -15,9 +15,9 @@ import java.util.Iterator;
  */
 public class LoopBottomMark extends Node {
   private final LoopStmtNode loopStmtNode;
-  private final Iterator<Value> internalIterator;
-  private final Symbol loopVariableSymbol;
-  private final Symbol counterVariableSymbol;
+  private final transient Iterator<Value> internalIterator;
+  private final transient Symbol loopVariableSymbol;
+  private final transient Symbol counterVariableSymbol;
 
   /**
    * Constructor for bottom mark of {@link LoopStmtNode}s, which have no internal iterator and no
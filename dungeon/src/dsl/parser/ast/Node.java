@@ -1,11 +1,24 @@
 package dsl.parser.ast;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
-/** WTF? . */
-public class Node {
-  // used for running index to give every Node a unique identifier
-  private static int _idx;
+/**
+ * WTF? .
+ *
+ * <p>ASTs are {@link Serializable}, so parsed files can be cached (see {@link
+ * entrypoint.ParsedFileCache}). A deserialized node gets a new unique index.
+ */
+public class Node implements Serializable {
+  @Serial private static final long serialVersionUID = 1L;
+
+  // used for running index to give every Node a unique identifier; atomic, because files may be
+  // parsed in parallel
+  private static final AtomicInteger _idx = new AtomicInteger();
 
   /**
    * WTF? .
@@ -150,7 +163,8 @@ public class Node {
 
   private Node parent;
   private SourceFileReference sourceFileReference = SourceFileReference.NULL;
-  private final int idx;
+  // not final, a deserialized node gets a new index
+  private int idx;
 
   /**
    * Constructor for AST-Node with children.
@@ -159,8 +173,7 @@ public class Node {
    * @param nodeChildren List of children of the node
    */
   public Node(Type nodeType, ArrayList<Node> nodeChildren) {
-    _idx++;
-    idx = _idx;
+    idx = _idx.incrementAndGet();
 
     type = nodeType;
     children = nodeChildren;
@@ -177,8 +190,7 @@ public class Node {
    * @param nodeType The {@link Type} of the node
    */
   public Node(Type nodeType) {
-    _idx++;
-    idx = _idx;
+    idx = _idx.incrementAndGet();
 
     type = nodeType;
     children = new ArrayList<>();
@@ -192,8 +204,7 @@ public class Node {
    * @param sourceReference The {@link SourceFileReference} for the new node
    */
   public Node(Type nodeType, SourceFileReference sourceReference) {
-    _idx++;
-    idx = _idx;
+    idx = _idx.incrementAndGet();
 
     type = nodeType;
     children = new ArrayList<>();
@@ -279,4 +290,17 @@ public class Node {
   public <T> T accept(AstVisitor<T> visitor) {
     return visitor.visit(this);
   }
+
+  @Serial
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    // the symbol table maps node indices to symbols, so the indices must be unique in this
+    // process and not the ones from the serialized AST
+    idx = _idx.incrementAndGet();
+  }
+
+  @Serial
+  private Object readResolve() {
+    return type == Type.NONE && getClass() == Node.class ? NONE : this;
+  }
 }
@@ -1,7 +1,12 @@
 package dsl.parser.ast;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /** WTF? . */
-public class SourceFileReference {
+public class SourceFileReference implements Serializable {
+  @Serial private static final long serialVersionUID = 1L;
+
   int line;
   int column;
 
@@ -45,4 +50,9 @@ public class SourceFileReference {
   public String toString() {
     return "l: " + this.line + ", c: " + this.column;
   }
+
+  @Serial
+  private Object readResolve() {
+    return line == NULL.line && column == NULL.column ? NULL : this;
+  }
 }
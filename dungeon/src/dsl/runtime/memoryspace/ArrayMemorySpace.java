@@ -0,0 +1,149 @@
+package dsl.runtime.memoryspace;
+
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.scope.IScope;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Memory space of a function or block, which stores the values of the variables of a {@link
+ * IScope} in an array.
+ *
+ * <p>The value of a variable is stored at the {@link IScope#getSlot(String) slot} of its symbol, so
+ * the interpreter can read it by the {@link dsl.semanticanalysis.scope.VariableSlot} of an
+ * identifier without resolving its name. Values, which have no slot in the scope (e.g. the return
+ * value of a function), are stored by their name.
+ *
+ * <p>Like {@link MemorySpace}, names which are not bound in this memory space are resolved in the
+ * parent memory space.
+ */
+public class ArrayMemorySpace implements IMemorySpace {
+  private final IMemorySpace parent;
+  private final IScope scope;
+  private final Value[] slots;
+  // values without a slot in the scope, created on the first use
+  private HashMap<String, Value> namedValues;
+
+  /**
+   * Constructor.
+   *
+   * @param parent parent memory space
+   * @param scope the scope, whose variables are stored in this memory space
+   */
+  public ArrayMemorySpace(IMemorySpace parent, IScope scope) {
+    this.parent = parent;
+    this.scope = scope;
+    this.slots = new Value[scope.getSlotCount()];
+  }
+
+  /**
+   * Getter for the parent memory space.
+   *
+   * @return the parent memory space
+   */
+  public IMemorySpace getParent() {
+    return parent;
+  }
+
+  /**
+   * Getter for the scope, whose variables are stored in this memory space.
+   *
+   * @return the scope of this memory space
+   */
+  public IScope getScope() {
+    return scope;
+  }
+
+  /**
+   * Get the value stored at a slot.
+   *
+   * @param slot the slot of the variable in the {@link #getScope() scope}
+   * @return the value stored at the slot or null, if no value is bound at the slot (yet)
+   */
+  public Value getSlotValue(int slot) {
+    return slots[slot];
+  }
+
+  @Override
+  public boolean bindValue(String name, Value value) {
+    if (value.equals(Value.NONE)) {
+      return false;
+    }
+    int slot = scope.getSlot(name);
+    if (slot < 0) {
+      if (namedValues == null) {
+        namedValues = new HashMap<>();
+      }
+      return namedValues.putIfAbsent(name, value) == null;
+    }
+    if (slots[slot] != null) {
+      return false;
+    }
+    slots[slot] = value;
+    return true;
+  }
+
+  @Override
+  public Value resolve(String name) {
+    return resolve(name, true);
+  }
+
+  @Override
+  public Value resolve(String name, boolean resolveInParent) {
+    int slot = scope.getSlot(name);
+    Value value = slot < 0 ? (namedValues == null ? null : namedValues.get(name)) : slots[slot];
+    if (value != null) {
+      return value;
+    }
+    if (parent == MemorySpace.NONE || parent == null || !resolveInParent) {
+      return Value.NONE;
+    }
+    return parent.resolve(name, true);
+  }
+
+  @Override
+  public void delete(String name) {
+    int slot = scope.getSlot(name);
+    if (slot >= 0) {
+      slots[slot] = null;
+    } else if (namedValues != null) {
+      namedValues.remove(name);
+    }
+  }
+
+  @Override
+  public boolean setValue(String name, Value value) {
+    var resolved = resolve(name, false);
+    if (resolved.equals(Value.NONE)) {
+      return false;
+    }
+    resolved.setInternalValue(value.getInternalValue());
+    return true;
+  }
+
+  /**
+   * Returns all stored Values.
+   *
+   * <p>In contrast to {@link MemorySpace}, the returned set is a copy, changes of this memory space
+   * are not visible in it.
+   *
+   * @return A Set containing all named values
+   */
+  @Override
+  public Set<Map.Entry<String, Value>> getValueSet() {
+    Set<Map.Entry<String, Value>> values = new LinkedHashSet<>();
+    for (var symbol : scope.getSymbols()) {
+      int slot = scope.getSlot(symbol.getName());
+      if (slots[slot] != null) {
+        values.add(new AbstractMap.SimpleEntry<>(symbol.getName(), slots[slot]));
+      }
+    }
+    if (namedValues != null) {
+      values.addAll(namedValues.entrySet());
+    }
+    return values;
+  }
+}
@@ -10,8 +10,8 @@ import dsl.semanticanalysis.symbol.Symbol;
 import dsl.semanticanalysis.typesystem.extension.IDSLExtensionProperty;
 import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.FieldAccessor;
 import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
-import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -55,68 +55,64 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
 
   @Override
   public Value resolve(String name) {
-    Value returnValue = NONE;
-    if (objectCache.containsKey(name)) {
-      return objectCache.get(name);
+    Value returnValue = objectCache.get(name);
+    if (returnValue != null) {
+      return returnValue;
     }
+    returnValue = NONE;
 
     if (name.equals(THIS_NAME)) {
       return thisValue;
     }
 
     // lookup name
-    Field correspondingField = this.type.getTypeMemberToField().getOrDefault(name, null);
-    if (correspondingField != null) {
+    FieldAccessor fieldAccessor = this.type.getFieldAccessor(name);
+    if (fieldAccessor != null) {
       // read field value
-      correspondingField.setAccessible(true);
-      try {
-        var fieldValue = correspondingField.get(this.getInternalValue());
+      var fieldValue = fieldAccessor.get(this.getInternalValue());
 
-        // handle null
-        if (fieldValue == null) {
-          return NONE;
-        }
+      // handle null
+      if (fieldValue == null) {
+        return NONE;
+      }
 
-        IType memberDSLType = null;
-        if (this.dataType instanceof AggregateType aggregateType) {
-          Symbol memberSymbol = aggregateType.resolve(name);
-          memberDSLType = memberSymbol.getDataType();
-        }
-        if (memberDSLType == null) {
-          memberDSLType = this.environment.getDSLTypeForClass(fieldValue.getClass());
-        }
+      IType memberDSLType = null;
+      if (this.dataType instanceof AggregateType aggregateType) {
+        Symbol memberSymbol = aggregateType.resolve(name);
+        memberDSLType = memberSymbol.getDataType();
+      }
+      if (memberDSLType == null) {
+        memberDSLType = this.environment.getDSLTypeForClass(fieldValue.getClass());
+      }
 
-        // convert the read field value to a DSL 'Value'
-        // this may require recursive creation of encapsulated objects,
-        // if the field is a component for example
-
-        if (memberDSLType != BuiltInType.noType) {
-          switch (memberDSLType.getTypeKind()) {
-            case Basic:
-              // create encapsulated value (because the field is a POD-field, or
-              // "basic type") -> linking the value to the field is only required
-              // for setting the internal value
-              // NOTE: this behaviour differs from the default translation of the
-              // RuntimeObjectTranslator, because we know in this case, that the
-              // resolved name is a member of the underlying object
-              returnValue = new EncapsulatedField(memberDSLType, correspondingField, this.object);
-              break;
-            case AggregateAdapted:
-            case Aggregate:
-              returnValue =
-                  environment
-                      .getRuntimeObjectTranslator()
-                      .translateRuntimeObject(fieldValue, this, this.environment);
-              break;
-            case FunctionType:
-              returnValue = new EncapsulatedField(memberDSLType, correspondingField, this.object);
-              break;
-          }
-          // cache it
-          this.objectCache.put(name, returnValue);
+      // convert the read field value to a DSL 'Value'
+      // this may require recursive creation of encapsulated objects,
+      // if the field is a component for example
+
+      if (memberDSLType != BuiltInType.noType) {
+        switch (memberDSLType.getTypeKind()) {
+          case Basic:
+            // create encapsulated value (because the field is a POD-field, or
+            // "basic type") -> linking the value to the field is only required
+            // for setting the internal value
+            // NOTE: this behaviour differs from the default translation of the
+            // RuntimeObjectTranslator, because we know in this case, that the
+            // resolved name is a member of the underlying object
+            returnValue = new EncapsulatedField(memberDSLType, fieldAccessor, this.object);
+            break;
+          case AggregateAdapted:
+          case Aggregate:
+            returnValue =
+                environment
+                    .getRuntimeObjectTranslator()
+                    .translateRuntimeObject(fieldValue, this, this.environment);
+            break;
+          case FunctionType:
+            returnValue = new EncapsulatedField(memberDSLType, fieldAccessor, this.object);
+            break;
         }
-      } catch (IllegalAccessException e) {
-        // TODO: handle
+        // cache it
+        this.objectCache.put(name, returnValue);
       }
     } else {
       // it may be a property
@@ -169,19 +165,12 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
       thisValue = value;
     }
 
-    Field correspondingField = this.type.getTypeMemberToField().getOrDefault(name, null);
-    if (correspondingField == null) {
+    FieldAccessor fieldAccessor = this.type.getFieldAccessor(name);
+    if (fieldAccessor == null || !fieldAccessor.isWritable()) {
       return false;
     } else {
       // TODO: this should only be possible for PODs
-      // read field value
-      correspondingField.setAccessible(true);
-      try {
-        correspondingField.set(this.getInternalValue(), value.getInternalValue());
-      } catch (IllegalAccessException e) {
-        // TODO: handle
-        return false;
-      }
+      fieldAccessor.set(this.getInternalValue(), value.getInternalValue());
     }
     return false;
   }
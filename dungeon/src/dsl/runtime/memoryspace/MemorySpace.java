@@ -42,12 +42,7 @@ public class MemorySpace implements IMemorySpace {
     if (value.equals(Value.NONE)) {
       return false;
     }
-    if (values.containsKey(name)) {
-      return false;
-    } else {
-      values.put(name, value);
-      return true;
-    }
+    return values.putIfAbsent(name, value) == null;
   }
 
   /**
@@ -72,12 +67,22 @@ public class MemorySpace implements IMemorySpace {
    */
   @Override
   public Value resolve(String name, boolean resolveInParent) {
-    if (this.values.containsKey(name)) {
-      return this.values.get(name);
-    } else if (this.parent != MemorySpace.NONE && this.parent != null && resolveInParent) {
-      return this.parent.resolve(name, true);
-    } else {
-      return Value.NONE;
+    // walk up the chain of MemorySpaces in a loop, only other IMemorySpace implementations
+    // are asked to resolve the name themselves; bound values are never null
+    MemorySpace memorySpace = this;
+    while (true) {
+      Value value = memorySpace.values.get(name);
+      if (value != null) {
+        return value;
+      }
+      IMemorySpace parentSpace = memorySpace.parent;
+      if (parentSpace == MemorySpace.NONE || parentSpace == null || !resolveInParent) {
+        return Value.NONE;
+      }
+      if (!(parentSpace instanceof MemorySpace parentMemorySpace)) {
+        return parentSpace.resolve(name, true);
+      }
+      memorySpace = parentMemorySpace;
     }
   }
 
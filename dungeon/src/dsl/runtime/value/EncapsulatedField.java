@@ -1,11 +1,12 @@
 package dsl.runtime.value;
 
+import dsl.semanticanalysis.typesystem.typebuilding.type.FieldAccessor;
 import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
 import java.lang.reflect.Field;
 
 /** WTF? . */
 public class EncapsulatedField extends Value {
-  private final Field field;
+  private final FieldAccessor field;
 
   /**
    * WTF? .
@@ -15,26 +16,29 @@ public class EncapsulatedField extends Value {
    * @param object foo
    */
   public EncapsulatedField(IType type, Field field, Object object) {
+    this(type, FieldAccessor.of(field), object);
+  }
+
+  /**
+   * Create a new EncapsulatedField, which accesses the field with a cached {@link FieldAccessor}.
+   *
+   * @param type the DSL type of the field
+   * @param field the accessor of the field
+   * @param object the object containing the field
+   */
+  public EncapsulatedField(IType type, FieldAccessor field, Object object) {
     super(type, object, true);
     this.field = field;
   }
 
   @Override
   public boolean setInternalValue(Object internalValue) {
-    try {
-      field.set(this.object, internalValue);
-      return true;
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
-    }
+    field.set(this.object, internalValue);
+    return true;
   }
 
   @Override
   public Object getInternalValue() {
-    try {
-      return field.get(this.object);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
-    }
+    return field.get(this.object);
   }
 }
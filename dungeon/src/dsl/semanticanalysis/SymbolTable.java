@@ -23,6 +23,8 @@ package dsl.semanticanalysis;
 
 import dsl.parser.ast.Node;
 import dsl.semanticanalysis.scope.IScope;
+import dsl.semanticanalysis.scope.Scope;
+import dsl.semanticanalysis.scope.VariableSlot;
 import dsl.semanticanalysis.symbol.Symbol;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -50,6 +52,12 @@ public class SymbolTable {
    */
   private final HashMap<Integer, Integer> symbolToAstNodeRelation;
 
+  /** Store the slots of the local variables referenced by identifier AST nodes (by index). */
+  private final HashMap<Integer, VariableSlot> astNodeVariableSlot;
+
+  /** Store the scopes created for AST nodes (by index), e.g. for blocks and loops. */
+  private final HashMap<Integer, IScope> astNodeScope;
+
   /**
    * Getter for the global {@link IScope}, which is the topmost scope in the scope stack.
    *
@@ -158,6 +166,47 @@ public class SymbolTable {
     return symbolIdxToSymbol.getOrDefault(idx, Symbol.NULL);
   }
 
+  /**
+   * Store the slot of the local variable, which is referenced by an identifier AST node.
+   *
+   * @param node The identifier AST node
+   * @param slot The slot of the referenced variable, relative to the scope of the node
+   */
+  public void addVariableSlot(Node node, VariableSlot slot) {
+    astNodeVariableSlot.put(node.getIdx(), slot);
+  }
+
+  /**
+   * Get the slot of the local variable, which is referenced by an identifier AST node.
+   *
+   * @param node The identifier AST node
+   * @return The slot of the referenced variable or VariableSlot.NONE, if the referenced symbol is
+   *     no local variable and has to be resolved by its name
+   */
+  public VariableSlot getVariableSlot(Node node) {
+    return astNodeVariableSlot.getOrDefault(node.getIdx(), VariableSlot.NONE);
+  }
+
+  /**
+   * Store the scope, which was created for an AST node (e.g. a block or a loop).
+   *
+   * @param node The AST node
+   * @param scope The scope created for the node
+   */
+  public void addScopeOfNode(Node node, IScope scope) {
+    astNodeScope.put(node.getIdx(), scope);
+  }
+
+  /**
+   * Get the scope, which was created for an AST node.
+   *
+   * @param node The AST node
+   * @return The scope created for the node or Scope.NULL, if no scope was created for the node
+   */
+  public IScope getScopeOfNode(Node node) {
+    return astNodeScope.getOrDefault(node.getIdx(), Scope.NULL);
+  }
+
   /**
    * Constructor.
    *
@@ -169,5 +218,7 @@ public class SymbolTable {
     symbolIdxToSymbol = new HashMap<>();
     astNodeIdxToAstNode = new HashMap<>();
     symbolToAstNodeRelation = new HashMap<>();
+    astNodeVariableSlot = new HashMap<>();
+    astNodeScope = new HashMap<>();
   }
 }
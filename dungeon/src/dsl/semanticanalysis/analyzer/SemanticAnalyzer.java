@@ -28,6 +28,7 @@ import dsl.semanticanalysis.SymbolTable;
 import dsl.semanticanalysis.environment.IEnvironment;
 import dsl.semanticanalysis.scope.IScope;
 import dsl.semanticanalysis.scope.Scope;
+import dsl.semanticanalysis.scope.VariableSlot;
 import dsl.semanticanalysis.symbol.FunctionSymbol;
 import dsl.semanticanalysis.symbol.ScopedSymbol;
 import dsl.semanticanalysis.symbol.Symbol;
@@ -241,10 +242,44 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
               + "\n");
     } else {
       symbolTable.addSymbolNodeRelation(symbol, node, false);
+      resolveVariableSlot(node, symbol);
     }
     return null;
   }
 
+  /**
+   * Resolve the {@link VariableSlot} of a local variable (a parameter or a variable declared in a
+   * function), relative to the current scope. Other symbols (e.g. global variables, members of
+   * aggregate types or functions) are resolved by their name at runtime.
+   *
+   * @param node the identifier, which references the symbol
+   * @param symbol the referenced symbol
+   */
+  private void resolveVariableSlot(IdNode node, Symbol symbol) {
+    if (symbol instanceof IType || symbol instanceof ICallable) {
+      return;
+    }
+    IScope declaringScope = symbol.getScope();
+    IScope scope = currentScope();
+    int depth = 0;
+    while (isLocalScope(scope) && scope != declaringScope) {
+      scope = scope.getParent();
+      depth++;
+    }
+    if (scope != declaringScope || !isLocalScope(scope)) {
+      return;
+    }
+    int index = scope.getSlot(symbol.getName());
+    if (index >= 0) {
+      symbolTable.addVariableSlot(node, new VariableSlot(depth, index, scope));
+    }
+  }
+
+  private boolean isLocalScope(IScope scope) {
+    return scope instanceof FunctionSymbol
+        || (scope instanceof Scope && scope != Scope.NULL && scope != globalScope());
+  }
+
   @Override
   public Void visit(BinaryNode node) {
     for (var child : node.getChildren()) {
@@ -437,6 +472,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
   @Override
   public Void visit(StmtBlockNode node) {
     var blockScope = new Scope(scopeStack.peek());
+    symbolTable.addScopeOfNode(node, blockScope);
     scopeStack.push(blockScope);
     for (var stmt : node.getStmts()) {
       stmt.accept(this);
@@ -454,6 +490,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
     // we need to create a new scope here (because it won't be created in a block-statement)
     if (!node.getIfStmt().type.equals(Node.Type.Block)) {
       var scope = new Scope(scopeStack.peek());
+      symbolTable.addScopeOfNode(node.getIfStmt(), scope);
       scopeStack.push(scope);
       node.getIfStmt().accept(this);
       scopeStack.pop();
@@ -473,6 +510,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
     // we need to create new scopes here (because it won't be created in block-statements)
     if (!node.getIfStmt().type.equals(Node.Type.Block)) {
       var ifScope = new Scope(scopeStack.peek());
+      symbolTable.addScopeOfNode(node.getIfStmt(), ifScope);
       scopeStack.push(ifScope);
       node.getIfStmt().accept(this);
       scopeStack.pop();
@@ -482,6 +520,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
 
     if (!node.getElseStmt().type.equals(Node.Type.Block)) {
       var elseScope = new Scope(scopeStack.peek());
+      symbolTable.addScopeOfNode(node.getElseStmt(), elseScope);
       scopeStack.push(elseScope);
       node.getElseStmt().accept(this);
       scopeStack.pop();
@@ -711,6 +750,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
     node.getExpressionNode().accept(this);
 
     var whileScope = new Scope(scopeStack.peek());
+    symbolTable.addScopeOfNode(node, whileScope);
     scopeStack.push(whileScope);
     node.getStmtNode().accept(this);
     scopeStack.pop();
@@ -736,6 +776,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
     createVariableSymbolInScope(BuiltInType.intType, (IdNode) counterIdNode, loopScope);
 
     // visit stmt node of loop
+    symbolTable.addScopeOfNode(node, loopScope);
     scopeStack.push(loopScope);
     node.getStmtNode().accept(this);
     scopeStack.pop();
@@ -757,6 +798,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
     createVariableSymbolInScope((IdNode) typeIdNode, (IdNode) varIdNode, loopScope);
 
     // visit stmt node of loop
+    symbolTable.addScopeOfNode(node, loopScope);
     scopeStack.push(loopScope);
     node.getStmtNode().accept(this);
     scopeStack.pop();
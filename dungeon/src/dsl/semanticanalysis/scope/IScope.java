@@ -67,6 +67,28 @@ public interface IScope {
    */
   IScope getParent();
 
+  /**
+   * Get the slot of a symbol bound in this scope.
+   *
+   * <p>The symbols of a scope are numbered in the order they are bound, so the values of the
+   * symbols can be stored in an array at runtime (see {@link VariableSlot}).
+   *
+   * @param name The name of the symbol
+   * @return The slot of the symbol, or -1, if no symbol of the name is bound in this scope
+   */
+  default int getSlot(String name) {
+    return -1;
+  }
+
+  /**
+   * Get the number of slots of this scope.
+   *
+   * @return The number of slots, the slots of the symbols are less than this number
+   */
+  default int getSlotCount() {
+    return 0;
+  }
+
   /**
    * WTF? .
    *
@@ -34,6 +34,7 @@ public class Scope implements IScope {
 
   protected IScope parent;
   protected HashMap<String, Symbol> symbols;
+  protected HashMap<String, Integer> slots;
 
   /**
    * Constructor.
@@ -43,12 +44,14 @@ public class Scope implements IScope {
   public Scope(IScope parentScope) {
     parent = parentScope;
     symbols = new HashMap<>();
+    slots = new HashMap<>();
   }
 
   /** Constructor. */
   public Scope() {
     parent = NULL;
     symbols = new HashMap<>();
+    slots = new HashMap<>();
   }
 
   /**
@@ -66,6 +69,7 @@ public class Scope implements IScope {
       return false;
     } else {
       symbols.put(name, symbol);
+      slots.put(name, slots.size());
       return true;
     }
   }
@@ -108,6 +112,27 @@ public class Scope implements IScope {
     return new ArrayList<>(symbols.values());
   }
 
+  /**
+   * Get the slot of a symbol bound in this scope.
+   *
+   * @param name the name of the symbol
+   * @return the slot of the symbol, or -1, if no symbol of the name is bound in this scope
+   */
+  @Override
+  public int getSlot(String name) {
+    return slots.getOrDefault(name, -1);
+  }
+
+  /**
+   * Getter for the number of slots of this scope.
+   *
+   * @return the number of symbols bound in this scope
+   */
+  @Override
+  public int getSlotCount() {
+    return slots.size();
+  }
+
   /**
    * Getter for the parent scope of this scope.
    *
@@ -0,0 +1,22 @@
+package dsl.semanticanalysis.scope;
+
+/**
+ * The location of a variable, which is referenced by an identifier, relative to the scope of the
+ * identifier.
+ *
+ * <p>The {@link dsl.semanticanalysis.analyzer.SemanticAnalyzer} resolves each reference of a local
+ * variable (a parameter or a variable declared in a function) once. At runtime, the value of the
+ * variable is found by walking {@link #depth()} memory spaces up from the memory space of the
+ * identifier and reading the value at {@link #index()}, instead of resolving its name in each
+ * memory space.
+ *
+ * @param depth number of scopes between the scope of the identifier and the scope, in which the
+ *     variable is declared (0, if it is declared in the same scope)
+ * @param index the {@link IScope#getSlot(String) slot} of the variable in the scope, in which it is
+ *     declared
+ * @param scope the scope, in which the variable is declared
+ */
+public record VariableSlot(int depth, int index, IScope scope) {
+  /** Slot of identifiers, which are resolved by their name (e.g. global variables). */
+  public static final VariableSlot NONE = new VariableSlot(-1, -1, Scope.NULL);
+}
@@ -35,6 +35,7 @@ public class ScopedSymbol extends Symbol implements IScope {
   public static Scope NULL = new Scope();
 
   protected HashMap<String, Symbol> symbols;
+  protected HashMap<String, Integer> slots;
 
   /**
    * Constructor.
@@ -47,6 +48,7 @@ public class ScopedSymbol extends Symbol implements IScope {
     super(name, parentScope, type);
     symbolType = Type.Scoped;
     symbols = new HashMap<>();
+    slots = new HashMap<>();
   }
 
   /**
@@ -61,6 +63,7 @@ public class ScopedSymbol extends Symbol implements IScope {
       return false;
     } else {
       symbols.put(name, symbol);
+      slots.put(name, slots.size());
       return true;
     }
   }
@@ -92,6 +95,27 @@ public class ScopedSymbol extends Symbol implements IScope {
     return this.resolve(name, true);
   }
 
+  /**
+   * Get the slot of a symbol bound in this scope.
+   *
+   * @param name the name of the symbol
+   * @return the slot of the symbol, or -1, if no symbol of the name is bound in this scope
+   */
+  @Override
+  public int getSlot(String name) {
+    return slots.getOrDefault(name, -1);
+  }
+
+  /**
+   * Getter for the number of slots of this scope.
+   *
+   * @return the number of symbols bound in this scope
+   */
+  @Override
+  public int getSlotCount() {
+    return slots.size();
+  }
+
   /**
    * Getter for the parent scope of this scope.
    *
@@ -21,6 +21,8 @@ import java.util.regex.Pattern;
 
 /** TypeBuilder. */
 public class TypeBuilder {
+  private static final Pattern CAMEL_CASE_PATTERN = Pattern.compile("([a-z0-9_])([A-Z])");
+
   private final HashMap<Class<?>, List<Method>> typeAdapters;
   private final HashMap<Type, IType> javaTypeToDSLType;
   private final HashSet<Type> currentLookedUpTypes;
@@ -72,8 +74,7 @@ public class TypeBuilder {
    * @return converted name
    */
   public static String convertToDSLName(String name) {
-    Pattern pattern = Pattern.compile("([a-z0-9_])([A-Z])");
-    Matcher matcher = pattern.matcher(name);
+    Matcher matcher = CAMEL_CASE_PATTERN.matcher(name);
     var underscored = matcher.replaceAll(mr -> mr.group(1) + '_' + mr.group(2).toLowerCase());
     return underscored.toLowerCase();
   }
@@ -126,27 +127,13 @@ public class TypeBuilder {
    * @return the map, containing mapping between member names and java field names
    */
   public static HashMap<String, Field> mapTypeMembersToField(AggregateType type) {
-    var originClass = type.getOriginType();
-    HashMap<String, String> nameMap = new HashMap<>();
-    for (Field field : originClass.getDeclaredFields()) {
-      // bind new Symbol
-      if (field.isAnnotationPresent(DSLTypeMember.class)
-          || field.isAnnotationPresent(DSLCallback.class)) {
-        String fieldName = getDSLFieldName(field);
-        nameMap.put(fieldName, field.getName());
-      }
-    }
+    var typeMemberFields = TypeMetadata.of(type.getOriginType()).typeMemberFields();
 
     HashMap<String, Field> typeMemberToField = new HashMap<>();
     for (var member : type.getSymbols()) {
-      var fieldName = nameMap.get(member.getName());
-      if (fieldName != null) {
-        try {
-          Field field = originClass.getDeclaredField(fieldName);
-          typeMemberToField.put(member.getName(), field);
-        } catch (NoSuchFieldException e) {
-          // TODO: handle
-        }
+      Field field = typeMemberFields.get(member.getName());
+      if (field != null) {
+        typeMemberToField.put(member.getName(), field);
       }
     }
     return typeMemberToField;
@@ -163,16 +150,7 @@ public class TypeBuilder {
    *     parameter of {@link DSLType}
    */
   public static String getDSLTypeName(Class<?> clazz) {
-    // check for basic type
-    String dslName = getDSLNameOfBasicType(clazz);
-    if (dslName.isEmpty()) {
-      var classAnnotation = clazz.getAnnotation(DSLType.class);
-      return classAnnotation == null || classAnnotation.name().equals("")
-          ? convertToDSLName(clazz.getSimpleName())
-          : classAnnotation.name();
-    } else {
-      return dslName;
-    }
+    return TypeMetadata.of(clazz).dslTypeName();
   }
 
   /**
@@ -228,38 +206,31 @@ public class TypeBuilder {
    * @param parentScope the scope in which the adapter should be registered
    */
   public void registerTypeAdapter(Class<?> adapterClass, IScope parentScope) {
-    for (var method : adapterClass.getDeclaredMethods()) {
-      if (method.isAnnotationPresent(DSLTypeAdapter.class)
-          && Modifier.isStatic(method.getModifiers())) {
-        DSLTypeAdapter annotation = method.getAnnotation(DSLTypeAdapter.class);
-
-        var forType = method.getReturnType();
-        if (!this.typeAdapters.containsKey(forType)) {
-          this.typeAdapters.put(forType, new ArrayList<>());
-        }
-
-        List<Method> typeAdaptersForType = this.typeAdapters.get(forType);
-        for (Method adapter : typeAdaptersForType) {
-          if (doParameterTypesMatch(adapter, method)) {
-            throw new UnsupportedOperationException(
-                "An adapter for class "
-                    + forType.getName()
-                    + " with the same signature was already registered");
-          }
-        }
-
-        this.typeAdapters.get(forType).add(method);
-
-        String dslTypeName =
-            annotation.name().equals("")
-                ? convertToDSLName(forType.getSimpleName())
-                : annotation.name();
+    var metadata = TypeMetadata.of(adapterClass);
+    var method = metadata.typeAdapterMethod();
+    if (method == null) {
+      return;
+    }
 
-        createAdapterType(forType, dslTypeName, method, parentScope);
+    var forType = method.getReturnType();
+    if (!this.typeAdapters.containsKey(forType)) {
+      this.typeAdapters.put(forType, new ArrayList<>());
+    }
 
-        return;
+    List<Method> typeAdaptersForType = this.typeAdapters.get(forType);
+    for (Method adapter : typeAdaptersForType) {
+      if (doParameterTypesMatch(adapter, method)) {
+        throw new UnsupportedOperationException(
+            "An adapter for class "
+                + forType.getName()
+                + " with the same signature was already registered");
       }
     }
+
+    this.typeAdapters.get(forType).add(method);
+
+    createAdapterType(
+        forType, metadata.typeAdapterName(), method, metadata.typeAdapterParameters(), parentScope);
   }
 
   /**
@@ -273,6 +244,20 @@ public class TypeBuilder {
    */
   public IType createAdapterType(
       Class<?> forType, String dslTypeName, Method adapterMethod, IScope parentScope) {
+    return createAdapterType(
+        forType,
+        dslTypeName,
+        adapterMethod,
+        TypeMetadata.AdapterParameter.of(adapterMethod),
+        parentScope);
+  }
+
+  private IType createAdapterType(
+      Class<?> forType,
+      String dslTypeName,
+      Method adapterMethod,
+      List<TypeMetadata.AdapterParameter> parameters,
+      IScope parentScope) {
     if (adapterMethod.getParameterCount() == 0) {
       // TODO: handle
       throw new RuntimeException("Builder methods with zero arguments are currently not supported");
@@ -283,10 +268,9 @@ public class TypeBuilder {
     parentScope.bind(typeAdapter);
 
     // bind symbol for each parameter in the adapterMethod
-    for (var parameter : adapterMethod.getParameters()) {
+    for (var parameter : parameters) {
       // translate parameters type into DSL type system
-      Type parametersType = parameter.getType();
-      var parametersAnnotatedType = parameter.getAnnotatedType();
+      Type parametersType = parameter.type();
 
       // if the underlying Type of the AnnotatedType is not equal to the plain Type returned
       // by parameter.getType(), then the parameter is declared with an annotated type (List,
@@ -295,7 +279,7 @@ public class TypeBuilder {
       // FunctionType from
       // it (see below) or pass the Type with annotation information to
       // createDSLTypeForJavaTypeInScope
-      var underlyingType = parametersAnnotatedType.getType();
+      var underlyingType = parameter.annotatedType();
       boolean typeIsAnnotated = !underlyingType.equals(parametersType);
 
       IType paramDSLType;
@@ -313,21 +297,20 @@ public class TypeBuilder {
           // the *Parameterized* Type is ONLY accessible via the Parameter of the method,
           // which is
           // not available in the `createDSLTypeForJavaTypeInScope`-method!
-          var parameterizedParameterType = (ParameterizedType) parameter.getParameterizedType();
+          var parameterizedParameterType = (ParameterizedType) parameter.parameterizedType();
           paramDSLType = createFunctionType(parameterizedParameterType, parentScope);
         } else {
-          paramDSLType =
-              createDSLTypeForJavaTypeInScope(parentScope, parametersAnnotatedType.getType());
+          paramDSLType = createDSLTypeForJavaTypeInScope(parentScope, underlyingType);
         }
       } else {
         paramDSLType = createDSLTypeForJavaTypeInScope(parentScope, parametersType);
       }
 
       String parameterName;
-      if (parameter.isAnnotationPresent(DSLTypeNameMember.class)) {
+      if (parameter.nameMember()) {
         parameterName = AggregateType.NAME_SYMBOL_NAME;
       } else {
-        parameterName = getDSLParameterName(parameter);
+        parameterName = parameter.dslName();
       }
 
       Symbol parameterSymbol = new Symbol(parameterName, typeAdapter, paramDSLType);
@@ -378,10 +361,9 @@ public class TypeBuilder {
 
   // create a symbol in parentType for given field, representing a callback
   protected Symbol createCallbackMemberSymbol(
-      Field field, AggregateType parentType, IScope globalScope) {
-    String callbackName = getDSLFieldName(field);
-    IType callbackType =
-        createFunctionType((ParameterizedType) field.getGenericType(), globalScope);
+      TypeMetadata.MemberField field, AggregateType parentType, IScope globalScope) {
+    String callbackName = field.dslName();
+    IType callbackType = createFunctionType((ParameterizedType) field.genericType(), globalScope);
 
     return new Symbol(callbackName, parentType, callbackType);
   }
@@ -462,17 +444,18 @@ public class TypeBuilder {
     return javaTypeToDSLType.get(listType);
   }
 
-  protected IType getFieldsDSLType(Field field, Class<?> fieldsType, IScope globalScope) {
+  protected IType getFieldsDSLType(
+      TypeMetadata.MemberField field, Class<?> fieldsType, IScope globalScope) {
     // get datatype
     var fieldsDSLType = getBuiltInDSLType(fieldsType);
     if (fieldsDSLType == null) {
       // is list or set?
       if (List.class.isAssignableFrom(fieldsType)) {
-        fieldsDSLType = createListType((ParameterizedType) field.getGenericType(), globalScope);
+        fieldsDSLType = createListType((ParameterizedType) field.genericType(), globalScope);
       } else if (Set.class.isAssignableFrom(fieldsType)) {
-        fieldsDSLType = createSetType((ParameterizedType) field.getGenericType(), globalScope);
+        fieldsDSLType = createSetType((ParameterizedType) field.genericType(), globalScope);
       } else if (Map.class.isAssignableFrom(fieldsType)) {
-        fieldsDSLType = createMapType((ParameterizedType) field.getGenericType(), globalScope);
+        fieldsDSLType = createMapType((ParameterizedType) field.genericType(), globalScope);
       }
     }
     if (fieldsDSLType == null) {
@@ -480,19 +463,19 @@ public class TypeBuilder {
       // if it is not already in the converted types, try to convert it -> check for
       // DSLType
       // annotation
-      fieldsDSLType = createDSLTypeForJavaTypeInScope(globalScope, field.getType());
+      fieldsDSLType = createDSLTypeForJavaTypeInScope(globalScope, field.field().getType());
     }
     return fieldsDSLType;
   }
 
   protected Symbol createDataMemberSymbolWithTemplateType(
-      Field field,
+      TypeMetadata.MemberField field,
       Class<?> parentClass,
       AggregateType parentType,
       IScope globalScope,
       Type[] templateTypes) {
 
-    var genericType = field.getGenericType();
+    var genericType = field.genericType();
     var typeParameters = parentClass.getTypeParameters();
 
     // find index of type parameter
@@ -510,28 +493,18 @@ public class TypeBuilder {
     Class<?> fieldsType = (Class<?>) declaredTemplateType;
     IType fieldsDSLType = getFieldsDSLType(field, fieldsType, globalScope);
 
-    String fieldName;
-    if (field.isAnnotationPresent(DSLTypeNameMember.class)) {
-      fieldName = AggregateType.NAME_SYMBOL_NAME;
-    } else {
-      fieldName = getDSLFieldName(field);
-    }
+    String fieldName = field.nameMember() ? AggregateType.NAME_SYMBOL_NAME : field.dslName();
     return new Symbol(fieldName, parentType, fieldsDSLType);
   }
 
   // create a symbol in parentType for given field, representing data in parentClass
   protected Symbol createDataMemberSymbol(
-      Field field, AggregateType parentType, IScope globalScope) {
+      TypeMetadata.MemberField field, AggregateType parentType, IScope globalScope) {
 
-    Class<?> fieldsType = field.getType();
+    Class<?> fieldsType = field.field().getType();
     IType fieldsDSLType = getFieldsDSLType(field, fieldsType, globalScope);
 
-    String fieldName;
-    if (field.isAnnotationPresent(DSLTypeNameMember.class)) {
-      fieldName = AggregateType.NAME_SYMBOL_NAME;
-    } else {
-      fieldName = getDSLFieldName(field);
-    }
+    String fieldName = field.nameMember() ? AggregateType.NAME_SYMBOL_NAME : field.dslName();
     return new Symbol(fieldName, parentType, fieldsDSLType);
   }
 
@@ -617,10 +590,11 @@ public class TypeBuilder {
       }
     }
 
-    if (!clazz.isAnnotationPresent(DSLType.class)) {
+    var metadata = TypeMetadata.of(clazz);
+    DSLType dslTypeAnnotation = metadata.dslType();
+    if (dslTypeAnnotation == null) {
       return null;
     }
-    DSLType dslTypeAnnotation = clazz.getAnnotation(DSLType.class);
 
     if (clazz.isEnum()) {
       // because we check, that the clazz is an Enum (by `.isEnum()`)
@@ -629,14 +603,7 @@ public class TypeBuilder {
       Class<? extends Enum<?>> enumClass = (Class<? extends Enum<?>>) clazz;
 
       var enumType = new EnumType(typeName, globalScope, enumClass);
-      var variants = clazz.getDeclaredFields();
-      for (var variant : variants) {
-        var variantsType = variant.getType();
-        if (variantsType.isArray()) {
-          continue;
-        }
-
-        String name = variant.getName();
+      for (String name : metadata.enumVariants()) {
         Symbol variantSymbol = new Symbol(name, enumType, enumType);
         enumType.bind(variantSymbol);
       }
@@ -646,11 +613,10 @@ public class TypeBuilder {
       var aggregateType = new AggregateType(typeName, globalScope, clazz);
 
       this.currentLookedUpTypes.add(clazz);
-      for (Field field : clazz.getDeclaredFields()) {
+      for (var field : metadata.memberFields()) {
         // bind new Symbol
-        if (field.isAnnotationPresent(DSLTypeMember.class)
-            || field.isAnnotationPresent(DSLTypeNameMember.class)) {
-          var genericType = field.getGenericType();
+        if (field.dataMember()) {
+          var genericType = field.genericType();
           Symbol fieldSymbol;
           if (genericType instanceof TypeVariable<?>
               && dslTypeAnnotation.templateArguments().length > 0) {
@@ -666,7 +632,7 @@ public class TypeBuilder {
           }
           aggregateType.bind(fieldSymbol);
         }
-        if (field.isAnnotationPresent(DSLCallback.class)) {
+        if (field.callback()) {
           var callbackSymbol = createCallbackMemberSymbol(field, aggregateType, globalScope);
           aggregateType.bind(callbackSymbol);
         }
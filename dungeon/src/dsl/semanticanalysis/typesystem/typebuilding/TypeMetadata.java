@@ -0,0 +1,255 @@
+package dsl.semanticanalysis.typesystem.typebuilding;
+
+import dsl.annotation.DSLCallback;
+import dsl.annotation.DSLType;
+import dsl.annotation.DSLTypeAdapter;
+import dsl.annotation.DSLTypeMember;
+import dsl.annotation.DSLTypeNameMember;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The reflective information about a Java class, which the {@link TypeBuilder} needs to create a
+ * DSL type for the class.
+ *
+ * <p>The metadata of a class is collected once per process by {@link #of(Class)} and shared by all
+ * {@link TypeBuilder}s, so creating a new {@link dsl.semanticanalysis.environment.GameEnvironment}
+ * does not reflect over the fields, methods, parameters and annotations of the built-in types
+ * again. Only the DSL types themselves are created for each environment, because they are bound
+ * in the scopes of the environment.
+ */
+public final class TypeMetadata {
+  private static final ClassValue<TypeMetadata> METADATA =
+      new ClassValue<>() {
+        @Override
+        protected TypeMetadata computeValue(final Class<?> clazz) {
+          return new TypeMetadata(clazz);
+        }
+      };
+
+  private final String dslTypeName;
+  private final DSLType dslType;
+  private final List<MemberField> memberFields;
+  private final Map<String, Field> typeMemberFields;
+  private final List<String> enumVariants;
+  private final Method typeAdapterMethod;
+  private final String typeAdapterName;
+  private final List<AdapterParameter> typeAdapterParameters;
+
+  private TypeMetadata(final Class<?> clazz) {
+    String basicTypeName = TypeBuilder.getDSLNameOfBasicType(clazz);
+    this.dslType = clazz.getAnnotation(DSLType.class);
+    if (!basicTypeName.isEmpty()) {
+      this.dslTypeName = basicTypeName;
+    } else if (dslType == null || dslType.name().isEmpty()) {
+      this.dslTypeName = TypeBuilder.convertToDSLName(clazz.getSimpleName());
+    } else {
+      this.dslTypeName = dslType.name();
+    }
+
+    List<MemberField> members = new ArrayList<>();
+    Map<String, Field> typeMembers = new HashMap<>();
+    List<String> variants = new ArrayList<>();
+    for (Field field : clazz.getDeclaredFields()) {
+      if (!field.getType().isArray()) {
+        variants.add(field.getName());
+      }
+
+      boolean dataMember =
+          field.isAnnotationPresent(DSLTypeMember.class)
+              || field.isAnnotationPresent(DSLTypeNameMember.class);
+      boolean callback = field.isAnnotationPresent(DSLCallback.class);
+      if (!dataMember && !callback) {
+        continue;
+      }
+
+      String dslName = TypeBuilder.getDSLFieldName(field);
+      members.add(
+          new MemberField(
+              field,
+              dslName,
+              field.getGenericType(),
+              dataMember,
+              field.isAnnotationPresent(DSLTypeNameMember.class),
+              callback));
+      if (field.isAnnotationPresent(DSLTypeMember.class) || callback) {
+        typeMembers.put(dslName, field);
+      }
+    }
+    this.memberFields = Collections.unmodifiableList(members);
+    this.typeMemberFields = Collections.unmodifiableMap(typeMembers);
+    this.enumVariants = clazz.isEnum() ? Collections.unmodifiableList(variants) : List.of();
+
+    Method adapterMethod = null;
+    for (Method method : clazz.getDeclaredMethods()) {
+      if (method.isAnnotationPresent(DSLTypeAdapter.class)
+          && Modifier.isStatic(method.getModifiers())) {
+        adapterMethod = method;
+        break;
+      }
+    }
+    this.typeAdapterMethod = adapterMethod;
+    if (adapterMethod != null) {
+      String name = adapterMethod.getAnnotation(DSLTypeAdapter.class).name();
+      this.typeAdapterName =
+          name.isEmpty()
+              ? TypeBuilder.convertToDSLName(adapterMethod.getReturnType().getSimpleName())
+              : name;
+      this.typeAdapterParameters = AdapterParameter.of(adapterMethod);
+    } else {
+      this.typeAdapterName = "";
+      this.typeAdapterParameters = List.of();
+    }
+  }
+
+  /**
+   * Get the metadata of a class.
+   *
+   * <p>The metadata is collected on the first call for each class and reused afterwards.
+   *
+   * @param clazz the class to get the metadata for
+   * @return the metadata of the class
+   */
+  public static TypeMetadata of(final Class<?> clazz) {
+    return METADATA.get(clazz);
+  }
+
+  /**
+   * Get the DSL name of the class.
+   *
+   * @return the name as returned by {@link TypeBuilder#getDSLTypeName(Class)}
+   */
+  public String dslTypeName() {
+    return dslTypeName;
+  }
+
+  /**
+   * Get the {@link DSLType} annotation of the class.
+   *
+   * @return the annotation, or null, if the class is not annotated with {@link DSLType}
+   */
+  public DSLType dslType() {
+    return dslType;
+  }
+
+  /**
+   * Get the fields of the class, which are members or callbacks of the DSL type.
+   *
+   * @return the fields, in the order of {@link Class#getDeclaredFields()}
+   */
+  public List<MemberField> memberFields() {
+    return memberFields;
+  }
+
+  /**
+   * Get the fields of the class, which are annotated with {@link DSLTypeMember} or {@link
+   * DSLCallback}, by their DSL name.
+   *
+   * @return the map from the DSL name of the members to the fields
+   */
+  public Map<String, Field> typeMemberFields() {
+    return typeMemberFields;
+  }
+
+  /**
+   * Get the names of the variants, if the class is an enum.
+   *
+   * @return the names of the variants, or an empty list, if the class is not an enum
+   */
+  public List<String> enumVariants() {
+    return enumVariants;
+  }
+
+  /**
+   * Get the first static method of the class, which is annotated with {@link DSLTypeAdapter}.
+   *
+   * @return the adapter method, or null, if the class does not declare an adapter method
+   */
+  public Method typeAdapterMethod() {
+    return typeAdapterMethod;
+  }
+
+  /**
+   * Get the DSL name of the type, which is created by the {@link #typeAdapterMethod()}.
+   *
+   * @return the name of the adapted type, or an empty string, if the class does not declare an
+   *     adapter method
+   */
+  public String typeAdapterName() {
+    return typeAdapterName;
+  }
+
+  /**
+   * Get the parameters of the {@link #typeAdapterMethod()}.
+   *
+   * @return the parameters of the adapter method, or an empty list, if the class does not declare
+   *     an adapter method
+   */
+  public List<AdapterParameter> typeAdapterParameters() {
+    return typeAdapterParameters;
+  }
+
+  /**
+   * A field of a class, which is a member or a callback of the DSL type.
+   *
+   * @param field the field
+   * @param dslName the name as returned by {@link TypeBuilder#getDSLFieldName(Field)}
+   * @param genericType the generic type of the field
+   * @param dataMember true, if the field is annotated with {@link DSLTypeMember} or {@link
+   *     DSLTypeNameMember}
+   * @param nameMember true, if the field is annotated with {@link DSLTypeNameMember}
+   * @param callback true, if the field is annotated with {@link DSLCallback}
+   */
+  public record MemberField(
+      Field field,
+      String dslName,
+      Type genericType,
+      boolean dataMember,
+      boolean nameMember,
+      boolean callback) {}
+
+  /**
+   * A parameter of a method annotated with {@link DSLTypeAdapter}.
+   *
+   * @param type the type of the parameter
+   * @param annotatedType the underlying type of the annotated type of the parameter
+   * @param parameterizedType the parameterized type of the parameter
+   * @param dslName the name as returned by {@link TypeBuilder#getDSLParameterName(Parameter)}
+   * @param nameMember true, if the parameter is annotated with {@link DSLTypeNameMember}
+   */
+  public record AdapterParameter(
+      Class<?> type,
+      Type annotatedType,
+      Type parameterizedType,
+      String dslName,
+      boolean nameMember) {
+
+    /**
+     * Collect the parameters of a method.
+     *
+     * @param method the method to collect the parameters of
+     * @return the parameters of the method
+     */
+    public static List<AdapterParameter> of(final Method method) {
+      List<AdapterParameter> parameters = new ArrayList<>(method.getParameterCount());
+      for (Parameter parameter : method.getParameters()) {
+        parameters.add(
+            new AdapterParameter(
+                parameter.getType(),
+                parameter.getAnnotatedType().getType(),
+                parameter.getParameterizedType(),
+                TypeBuilder.getDSLParameterName(parameter),
+                parameter.isAnnotationPresent(DSLTypeNameMember.class)));
+      }
+      return Collections.unmodifiableList(parameters);
+    }
+  }
+}
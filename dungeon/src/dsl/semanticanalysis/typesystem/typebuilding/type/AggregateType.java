@@ -5,6 +5,8 @@ import dsl.semanticanalysis.symbol.ScopedSymbol;
 import dsl.semanticanalysis.typesystem.typebuilding.TypeBuilder;
 import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** AggregateType. */
 public class AggregateType extends ScopedSymbol implements IType {
@@ -13,6 +15,7 @@ public class AggregateType extends ScopedSymbol implements IType {
 
   protected Class<?> originType;
   private HashMap<String, Field> typeMemberToField;
+  private final Map<String, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
 
   /**
    * Constructor.
@@ -47,6 +50,7 @@ public class AggregateType extends ScopedSymbol implements IType {
    */
   public void setTypeMemberToField(HashMap<String, Field> typeMemberToField) {
     this.typeMemberToField = typeMemberToField;
+    this.fieldAccessors.clear();
   }
 
   /**
@@ -58,6 +62,27 @@ public class AggregateType extends ScopedSymbol implements IType {
     return this.typeMemberToField;
   }
 
+  /**
+   * Gets the {@link FieldAccessor} for the field corresponding to a type member.
+   *
+   * <p>The accessor is created on the first call for each type member and reused afterwards.
+   *
+   * @param memberName the name of the type member
+   * @return the accessor for the corresponding field, or null, if the type member does not
+   *     correspond to a field
+   */
+  public FieldAccessor getFieldAccessor(String memberName) {
+    FieldAccessor accessor = this.fieldAccessors.get(memberName);
+    if (accessor == null) {
+      Field field = this.typeMemberToField.get(memberName);
+      if (field == null) {
+        return null;
+      }
+      accessor = this.fieldAccessors.computeIfAbsent(memberName, name -> FieldAccessor.of(field));
+    }
+    return accessor;
+  }
+
   @Override
   public Kind getTypeKind() {
     return Kind.Aggregate;
@@ -0,0 +1,128 @@
+package dsl.semanticanalysis.typesystem.typebuilding.type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads and writes a field of a Java object, which is a member of an {@link AggregateType}.
+ *
+ * <p>The field is made accessible and unreflected into {@link MethodHandle}s once, when the
+ * accessor is created. Each access is a plain {@link MethodHandle#invokeExact} call, without the
+ * access checks and argument wrapping of {@link Field#get(Object)} and {@link Field#set(Object,
+ * Object)}. Primitive values are boxed and unboxed by the handles.
+ *
+ * <p>Use {@link AggregateType#getFieldAccessor(String)} to get the cached accessor of a type
+ * member.
+ */
+public final class FieldAccessor {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Field field;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  private FieldAccessor(final Field field, final MethodHandle getter, final MethodHandle setter) {
+    this.field = field;
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  /**
+   * Create an accessor for the given field.
+   *
+   * @param field The field to access.
+   * @return A new accessor for the field.
+   * @throws IllegalArgumentException if the field can not be made accessible.
+   */
+  public static FieldAccessor of(final Field field) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      field.setAccessible(true);
+      MethodHandle getter = lookup.unreflectGetter(field);
+      MethodHandle setter = unreflectSetter(lookup, field);
+      if (Modifier.isStatic(field.getModifiers())) {
+        // ignore the instance argument
+        getter = MethodHandles.dropArguments(getter, 0, Object.class);
+        if (setter != null) {
+          setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+      }
+      return new FieldAccessor(
+          field,
+          getter.asType(GETTER_TYPE),
+          setter == null ? null : setter.asType(SETTER_TYPE));
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new IllegalArgumentException("Field '" + field + "' can not be accessed.", e);
+    }
+  }
+
+  private static MethodHandle unreflectSetter(
+      final MethodHandles.Lookup lookup, final Field field) {
+    try {
+      return lookup.unreflectSetter(field);
+    } catch (IllegalAccessException e) {
+      // final fields of records and static final fields can not be written
+      return null;
+    }
+  }
+
+  /**
+   * Get the accessed field.
+   *
+   * @return The accessed field.
+   */
+  public Field field() {
+    return field;
+  }
+
+  /**
+   * Check, if the field can be written.
+   *
+   * @return true, if {@link #set(Object, Object)} can be used, false if the field is final and can
+   *     not be written (e.g. a static final field).
+   */
+  public boolean isWritable() {
+    return setter != null;
+  }
+
+  /**
+   * Read the field.
+   *
+   * @param instance The object to read the field of (ignored for static fields).
+   * @return The value of the field, primitive values are boxed.
+   */
+  public Object get(final Object instance) {
+    try {
+      return (Object) getter.invokeExact(instance);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Write the field.
+   *
+   * @param instance The object to write the field of (ignored for static fields).
+   * @param value The new value of the field, unboxed for primitive fields.
+   * @throws UnsupportedOperationException if the field is not {@link #isWritable() writable}.
+   */
+  public void set(final Object instance, final Object value) {
+    if (setter == null) {
+      throw new UnsupportedOperationException("Field '" + field + "' can not be written.");
+    }
+    try {
+      setter.invokeExact(instance, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
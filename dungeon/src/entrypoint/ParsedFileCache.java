@@ -0,0 +1,264 @@
+package entrypoint;
+
+import dsl.parser.DungeonASTConverter;
+import dsl.parser.ast.Node;
+import dsl.parser.ast.SourceFileReference;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache for the ASTs of DSL files, keyed by the SHA-256 hash of the file content.
+ *
+ * <p>{@link #parse(Path)} only parses a file, if its content changed since it was parsed the last
+ * time. ASTs are cached in memory for all {@link dsl.interpreter.DSLEntryPointFinder}s of the
+ * process. If a {@link #setCacheDirectory(Path) cache directory} is set, they are also serialized
+ * to this directory and reused by later runs of the game, so unchanged files are never parsed
+ * again.
+ *
+ * <p>The cache directory has to belong to the current user and must not be writable by other
+ * users, because the cached ASTs are executed like the DSL files themselves. A missing directory
+ * is created with owner-only permissions. If the directory is not trusted, the ASTs are only cached
+ * in memory.
+ *
+ * <p>DSL files do not import other files, so the AST of a file only depends on its content. Use
+ * {@link #parseAll(Collection)} to parse many files in parallel.
+ *
+ * <p>Only the ASTs are cached. The symbol tables and the types of a {@link
+ * dsl.semanticanalysis.environment.GameEnvironment} reference Java classes, fields and methods via
+ * reflection and are created for each semantic analysis.
+ */
+public final class ParsedFileCache {
+  /**
+   * Version of the serialized ASTs. Increment it, if the AST classes or the {@link
+   * DungeonASTConverter} change, so old cache files are ignored.
+   */
+  public static final int VERSION = 1;
+
+  private static final String EXTENSION = ".ast";
+  private static final Logger LOGGER = Logger.getLogger(ParsedFileCache.class.getSimpleName());
+  // only the AST classes may be deserialized from the cache files
+  private static final ObjectInputFilter AST_FILTER =
+      info -> {
+        Class<?> clazz = info.serialClass();
+        if (clazz == null) {
+          return ObjectInputFilter.Status.UNDECIDED;
+        }
+        while (clazz.isArray()) {
+          clazz = clazz.getComponentType();
+        }
+        boolean allowed =
+            clazz.isPrimitive()
+                || clazz == Object.class
+                || clazz == String.class
+                || clazz == ArrayList.class
+                || clazz == SourceFileReference.class
+                || Node.class.isAssignableFrom(clazz)
+                || Enum.class.isAssignableFrom(clazz);
+        return allowed ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+      };
+
+  private static final Map<Path, CachedAST> ASTS = new ConcurrentHashMap<>();
+  private static volatile Path cacheDirectory = null;
+  // result of the trust check of the current cache directory, null if not checked yet
+  private static volatile Boolean cacheDirectoryTrusted = null;
+
+  private ParsedFileCache() {}
+
+  /**
+   * Set the directory to store the serialized ASTs in.
+   *
+   * <p>The directory is created with owner-only permissions, if it does not exist. Use a directory
+   * of the current user (e.g. in the home directory), not a shared directory like the temporary
+   * directory of the system.
+   *
+   * @param directory The cache directory, or null to only cache the ASTs in memory (default).
+   */
+  public static synchronized void setCacheDirectory(final Path directory) {
+    cacheDirectory = directory;
+    cacheDirectoryTrusted = null;
+  }
+
+  /**
+   * Get the directory the serialized ASTs are stored in.
+   *
+   * @return The cache directory, or an empty Optional, if the ASTs are only cached in memory.
+   */
+  public static Optional<Path> getCacheDirectory() {
+    return Optional.ofNullable(cacheDirectory);
+  }
+
+  /**
+   * Get the AST of a DSL file.
+   *
+   * <p>The AST is taken from the cache, if the content of the file was already parsed, otherwise
+   * the file is parsed and the AST is cached.
+   *
+   * @param filePath Path of the DSL file.
+   * @return The parsed file.
+   */
+  public static ParsedFile parse(final Path filePath) {
+    String content = DSLFileLoader.fileToString(filePath);
+    String hash = hash(content);
+    CachedAST cached =
+        ASTS.compute(
+            filePath,
+            (path, old) ->
+                old != null && old.hash().equals(hash)
+                    ? old
+                    : new CachedAST(hash, loadOrParse(hash, content)));
+    return new ParsedFile(filePath, cached.programAST());
+  }
+
+  /**
+   * Get the ASTs of many DSL files.
+   *
+   * <p>Files, which are not cached, are parsed in parallel.
+   *
+   * @param filePaths Paths of the DSL files.
+   * @return The parsed files, in the iteration order of the passed paths.
+   */
+  public static List<ParsedFile> parseAll(final Collection<Path> filePaths) {
+    return filePaths.parallelStream().map(ParsedFileCache::parse).toList();
+  }
+
+  /** Remove all ASTs from the in-memory cache. The cache directory is not changed. */
+  public static void clear() {
+    ASTS.clear();
+  }
+
+  // each file gets its own AST, even if two files have the same content, because the symbol
+  // tables are keyed by the indices of the nodes
+  private record CachedAST(String hash, Node programAST) {}
+
+  private static Node loadOrParse(final String hash, final String content) {
+    Path directory = trustedCacheDirectory();
+    if (directory == null) {
+      return DungeonASTConverter.getProgramAST(content);
+    }
+
+    Path file = directory.resolve(hash + "-v" + VERSION + EXTENSION);
+    if (Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS) && isOwnedByCurrentUser(file)) {
+      try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+          ObjectInputStream objectIn = new ObjectInputStream(in)) {
+        objectIn.setObjectInputFilter(AST_FILTER);
+        return (Node) objectIn.readObject();
+      } catch (IOException | ClassNotFoundException | ClassCastException e) {
+        // e.g. the AST classes changed, parse the file again and overwrite the cache file
+        LOGGER.log(Level.INFO, "Could not read cached AST " + file + ", parsing the file.", e);
+      }
+    }
+
+    Node programAST = DungeonASTConverter.getProgramAST(content);
+    store(file, programAST);
+    return programAST;
+  }
+
+  private static synchronized Path trustedCacheDirectory() {
+    Path directory = cacheDirectory;
+    if (directory == null) {
+      return null;
+    }
+    if (cacheDirectoryTrusted == null) {
+      cacheDirectoryTrusted = isTrusted(directory);
+      if (!cacheDirectoryTrusted) {
+        LOGGER.warning(
+            "The AST cache directory "
+                + directory
+                + " does not belong to the current user or is writable by others, "
+                + "the ASTs are only cached in memory.");
+      }
+    }
+    return cacheDirectoryTrusted ? directory : null;
+  }
+
+  private static boolean isTrusted(final Path directory) {
+    try {
+      boolean posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+      if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+        if (posix) {
+          Files.createDirectories(
+              directory,
+              PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+          Files.createDirectories(directory);
+        }
+      }
+      if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)
+          || !isOwnedByCurrentUser(directory)) {
+        return false;
+      }
+      if (posix) {
+        Set<PosixFilePermission> permissions =
+            Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS);
+        return !permissions.contains(PosixFilePermission.GROUP_WRITE)
+            && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+      }
+      return true;
+    } catch (IOException | UnsupportedOperationException | SecurityException e) {
+      LOGGER.log(Level.WARNING, "Could not check the AST cache directory " + directory + ".", e);
+      return false;
+    }
+  }
+
+  private static boolean isOwnedByCurrentUser(final Path path) {
+    try {
+      UserPrincipal user =
+          path.getFileSystem()
+              .getUserPrincipalLookupService()
+              .lookupPrincipalByName(System.getProperty("user.name"));
+      return Files.getOwner(path, LinkOption.NOFOLLOW_LINKS).equals(user);
+    } catch (IOException | UnsupportedOperationException | SecurityException e) {
+      return false;
+    }
+  }
+
+  private static void store(final Path file, final Node programAST) {
+    try {
+      // write to a temporary file first, so other processes never read a partially written file
+      Path temporaryFile = Files.createTempFile(file.getParent(), "ast", ".tmp");
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporaryFile));
+          ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+        objectOut.writeObject(programAST);
+      }
+      Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not write cached AST " + file + ".", e);
+    }
+  }
+
+  private static String hash(final String content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform has to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -88,6 +88,7 @@ public class RandomDungeon {
         contrib.configuration.KeyboardConfig.class,
         core.configuration.KeyboardConfig.class);
     Game.frameRate(30);
+    Game.pregeneratedLevels(2);
     Game.disableAudio(false);
     Game.windowTitle("My Dungeon");
   }
@@ -18,9 +18,11 @@ import dsl.interpreter.DSLInterpreter;
 import entrypoint.DSLEntryPoint;
 import entrypoint.DSLFileLoader;
 import entrypoint.DungeonConfig;
+import entrypoint.ParsedFileCache;
 import graph.TaskGraphConverter;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.util.HashSet;
@@ -50,6 +52,7 @@ public class Starter {
 
   private static int loadCounter = 0;
   private static final String BACKGROUND_MUSIC = "sounds/background.wav";
+  private static final String DSL_CACHE_DIRECTORY = ".dungeon/dsl-cache";
   private static final DSLInterpreter dslInterpreter = new DSLInterpreter();
 
   private static boolean realGameStarted = false;
@@ -222,9 +225,11 @@ public class Starter {
 
   private static Set<DSLEntryPoint> processCLIArguments(String[] args) throws ParseException {
     Set<DSLEntryPoint> entryPoints = new HashSet<>();
+    // reuse the ASTs of unchanged files from previous runs, the directory belongs to the user
+    ParsedFileCache.setCacheDirectory(
+        Path.of(System.getProperty("user.home"), DSL_CACHE_DIRECTORY));
     DSLEntryPointFinder finder = new DSLEntryPointFinder();
-    DSLFileLoader.processArguments(args)
-        .forEach(path -> finder.getEntryPoints(path).ifPresent(entryPoints::addAll)); // WTF?
+    entryPoints.addAll(finder.getEntryPoints(DSLFileLoader.processArguments(args)));
 
     if (entryPoints.isEmpty()) throw new ParseException("No entry points found.", 0);
     else return entryPoints;
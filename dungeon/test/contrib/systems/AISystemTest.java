@@ -1,11 +1,18 @@
 package contrib.systems;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import contrib.components.AIComponent;
 import core.Entity;
 import core.Game;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.utils.Point;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.jupiter.api.AfterEach;
@@ -83,4 +90,115 @@ public class AISystemTest {
     verify(idle, times(1)).accept(entity);
     verify(fight, never()).accept(entity);
   }
+
+  /** WTF? . */
+  @Test
+  public void update_distantEntity_reducedRate() {
+    system = new AISystem(List.of(new AISystem.Tier(5, 1), new AISystem.Tier(10, 4)));
+    Entity hero = new Entity();
+    hero.add(new PlayerComponent());
+    hero.add(new PositionComponent(new Point(0, 0)));
+    Game.add(hero);
+    entity.add(new PositionComponent(new Point(20, 0)));
+
+    for (int i = 0; i < 8; i++) system.execute();
+    assertEquals(2, updateCounter);
+    assertArrayEquals(new int[] {0, 1}, system.tierCounts());
+  }
+
+  /** WTF? . */
+  @Test
+  public void update_nearEntity_everyFrame() {
+    system = new AISystem(List.of(new AISystem.Tier(5, 1), new AISystem.Tier(10, 4)));
+    Entity hero = new Entity();
+    hero.add(new PlayerComponent());
+    hero.add(new PositionComponent(new Point(0, 0)));
+    Game.add(hero);
+    entity.add(new PositionComponent(new Point(3, 4)));
+
+    for (int i = 0; i < 8; i++) system.execute();
+    assertEquals(8, updateCounter);
+    assertArrayEquals(new int[] {1, 0}, system.tierCounts());
+  }
+
+  /** WTF? . */
+  @Test
+  public void update_distantEntity_sameDistanceTravelled() {
+    system = new AISystem(List.of(new AISystem.Tier(5, 1), new AISystem.Tier(10, 4)));
+    Entity hero = new Entity();
+    hero.add(new PlayerComponent());
+    hero.add(new PositionComponent(new Point(0, 0)));
+    Game.add(hero);
+    Entity near = walkingEntity(new Point(0, 3));
+    Entity distant = walkingEntity(new Point(20, 0));
+    // the distant entity starts to walk with its first update
+    for (int i = 0; i < 4; i++) {
+      system.execute();
+      move(near);
+      move(distant);
+    }
+    float nearStart = near.fetch(PositionComponent.class).orElseThrow().position().x;
+    float distantStart = distant.fetch(PositionComponent.class).orElseThrow().position().x;
+
+    for (int i = 0; i < 16; i++) {
+      system.execute();
+      move(near);
+      move(distant);
+    }
+
+    float nearDistance = near.fetch(PositionComponent.class).orElseThrow().position().x - nearStart;
+    float distantDistance =
+        distant.fetch(PositionComponent.class).orElseThrow().position().x - distantStart;
+    assertEquals(1.6f, nearDistance, 0.001f);
+    assertEquals(nearDistance, distantDistance, 0.001f);
+  }
+
+  /** WTF? . */
+  @Test
+  public void update_distantEntity_behaviorReducedRate() {
+    system = new AISystem(List.of(new AISystem.Tier(5, 1), new AISystem.Tier(10, 4)));
+    Entity hero = new Entity();
+    hero.add(new PlayerComponent());
+    hero.add(new PositionComponent(new Point(0, 0)));
+    Game.add(hero);
+    Consumer<Entity> idle = Mockito.mock(Consumer.class);
+    entity.add(new AIComponent(e -> {}, idle, e -> false));
+    entity.add(new PositionComponent(new Point(20, 0)));
+
+    for (int i = 0; i < 8; i++) system.execute();
+    verify(idle, times(2)).accept(entity);
+  }
+
+  // idle behavior that walks to the east, like AIUtils#move
+  private Entity walkingEntity(final Point position) {
+    Entity walker = new Entity();
+    walker.add(new PositionComponent(position));
+    walker.add(new VelocityComponent(0.1f, 0.1f));
+    walker.add(
+        new AIComponent(
+            e -> {},
+            e -> {
+              VelocityComponent vc = e.fetch(VelocityComponent.class).orElseThrow();
+              vc.currentXVelocity(vc.xVelocity());
+            },
+            e -> false));
+    Game.add(walker);
+    return walker;
+  }
+
+  // move the entity like the VelocitySystem with the default friction of 0.8
+  private void move(final Entity walker) {
+    PositionComponent pc = walker.fetch(PositionComponent.class).orElseThrow();
+    VelocityComponent vc = walker.fetch(VelocityComponent.class).orElseThrow();
+    pc.position(new Point(pc.position().x + vc.currentXVelocity(), pc.position().y));
+    vc.currentXVelocity(vc.currentXVelocity() * 0.2f);
+  }
+
+  /** WTF? . */
+  @Test
+  public void tiers_unsorted() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AISystem(List.of(new AISystem.Tier(10, 1), new AISystem.Tier(5, 4))));
+  }
 }
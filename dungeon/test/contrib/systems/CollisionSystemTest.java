@@ -883,4 +883,46 @@ public class CollisionSystemTest {
       assertEquals("One interaction ends for e3", 1, sc3OnLeave.getCount());
       cleanUpEnvironment();
   }*/
+
+  /**
+   * Checks that colliding entities in the game are detected once and that the collision ends when
+   * one entity moves several cells away.
+   */
+  @Test
+  public void checkExecuteEnterAndLeaveAcrossCells() {
+    prepareEnvironment();
+    CollisionSystem cs = new CollisionSystem();
+    Game.add(cs);
+    SimpleCounter onEnter = new SimpleCounter();
+    SimpleCounter onLeave = new SimpleCounter();
+    Entity e1 = prepareEntityWithPosition(new Point(0.5f, 0.5f));
+    e1.add(
+        new CollideComponent(
+            new Point(0, 0),
+            new Point(1, 1),
+            (a, b, c) -> onEnter.inc(),
+            (a, b, c) -> onLeave.inc()));
+    TriConsumer<Entity, Entity, Tile.Direction> collider = (a, b, c) -> {};
+    Entity e2 = prepareEntityWithPosition(new Point(1, 1));
+    e2.add(new CollideComponent(new Point(0, 0), new Point(1, 1), collider, collider));
+    Entity e3 = prepareEntityWithPosition(new Point(10, 10));
+    e3.add(new CollideComponent(new Point(0, 0), new Point(1, 1), collider, collider));
+    Game.add(e1);
+    Game.add(e2);
+    Game.add(e3);
+
+    cs.execute();
+    cs.execute();
+    assertEquals(1, onEnter.getCount());
+    assertEquals(0, onLeave.getCount());
+
+    e1.fetch(PositionComponent.class)
+        .ifPresentOrElse(
+            pc -> pc.position(new Point(5, 5)), () -> fail(MISSING_POSITION_COMPONENT));
+    cs.execute();
+    cs.execute();
+    assertEquals(1, onEnter.getCount());
+    assertEquals(1, onLeave.getCount());
+    cleanUpEnvironment();
+  }
 }
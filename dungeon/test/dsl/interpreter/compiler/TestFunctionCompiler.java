@@ -0,0 +1,133 @@
+package dsl.interpreter.compiler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dsl.helpers.Helpers;
+import dsl.interpreter.DSLInterpreter;
+import dsl.interpreter.TestEnvironment;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link FunctionCompiler} class. */
+public class TestFunctionCompiler {
+  private static final String BRANCHING_PROGRAM =
+      """
+      fn other_func(string text) -> string {
+          print(text);
+          if false {
+              return "not returned";
+          } else {
+              return "returned";
+          }
+          print("after return stmt");
+      }
+
+      fn test_func() {
+          var test : string;
+          test = "outer";
+          {
+              var test : int;
+              test = 42;
+              print(test);
+          }
+          print(test);
+          print(other_func(test));
+      }
+
+      quest_config c {
+          test: test_func()
+      }
+      """;
+
+  private static final String LOOP_PROGRAM =
+      """
+      fn print_all(int[] list) {
+          for int entry in list count i {
+              print(i);
+              print(entry);
+              if entry {
+                  return;
+              }
+          }
+      }
+
+      fn test_func() {
+          print_all([0, 2, 3]);
+      }
+
+      quest_config c {
+          test: test_func()
+      }
+      """;
+
+  private final PrintStream originalOut = System.out;
+  private DSLInterpreter interpreter;
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    System.setOut(originalOut);
+  }
+
+  /** WTF? . */
+  @Test
+  public void compiledFunction_sameOutputAsInterpreted() {
+    String interpreted = run(BRANCHING_PROGRAM, false);
+    String compiled = run(BRANCHING_PROGRAM, true);
+
+    assertEquals(interpreted, compiled);
+    assertTrue(compiled.contains("42"));
+    assertTrue(compiled.contains("returned"));
+    assertFalse(compiled.contains("not returned"));
+    assertFalse(compiled.contains("after return stmt"));
+    assertTrue(isCompiled("test_func"));
+    assertTrue(isCompiled("other_func"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void loop_sameOutputAsInterpreted() {
+    String interpreted = run(LOOP_PROGRAM, false);
+    String compiled = run(LOOP_PROGRAM, true);
+
+    assertEquals(interpreted, compiled);
+    assertFalse(compiled.contains("3"));
+    assertTrue(isCompiled("print_all"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void unsupportedConstruct_interpreted() {
+    run(LOOP_PROGRAM, true);
+
+    // list definitions are not supported by the compiler
+    assertFalse(isCompiled("test_func"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void compilationDisabled_notCompiled() {
+    run(BRANCHING_PROGRAM, false);
+
+    assertFalse(isCompiled("test_func"));
+  }
+
+  private String run(String program, boolean compile) {
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    interpreter = new DSLInterpreter();
+    interpreter.setFunctionCompilationEnabled(compile);
+    Helpers.generateQuestConfigWithCustomFunctions(program, new TestEnvironment(), interpreter);
+    return outputStream.toString();
+  }
+
+  private boolean isCompiled(String functionName) {
+    var symbol =
+        (FunctionSymbol) interpreter.getRuntimeEnvironment().getGlobalScope().resolve(functionName);
+    return interpreter.getCompiledFunction(symbol).isPresent();
+  }
+}
@@ -0,0 +1,59 @@
+package dsl.runtime.memoryspace;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.scope.Scope;
+import dsl.semanticanalysis.symbol.Symbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import org.junit.jupiter.api.Test;
+
+/** WTF? . */
+public class TestArrayMemorySpace {
+
+  /** WTF? . */
+  @Test
+  public void bindValue_storedInSlot() {
+    Scope scope = new Scope();
+    scope.bind(new Symbol("first", scope, BuiltInType.intType));
+    scope.bind(new Symbol("second", scope, BuiltInType.intType));
+    ArrayMemorySpace ms = new ArrayMemorySpace(MemorySpace.NONE, scope);
+    Value value = new Value(BuiltInType.intType, 42);
+
+    assertTrue(ms.bindValue("second", value));
+    assertFalse(ms.bindValue("second", new Value(BuiltInType.intType, 0)));
+
+    assertSame(value, ms.getSlotValue(scope.getSlot("second")));
+    assertSame(value, ms.resolve("second"));
+    assertNull(ms.getSlotValue(scope.getSlot("first")));
+  }
+
+  /** WTF? . */
+  @Test
+  public void bindValue_withoutSlot() {
+    ArrayMemorySpace ms = new ArrayMemorySpace(MemorySpace.NONE, new Scope());
+    Value value = new Value(BuiltInType.intType, 42);
+
+    assertTrue(ms.bindValue("$return_value$", value));
+
+    assertSame(value, ms.resolve("$return_value$"));
+    assertEquals(1, ms.getValueSet().size());
+    ms.delete("$return_value$");
+    assertEquals(Value.NONE, ms.resolve("$return_value$"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void resolve_inParent() {
+    MemorySpace parent = new MemorySpace();
+    Value value = new Value(BuiltInType.intType, 42);
+    parent.bindValue("outer", value);
+    Scope scope = new Scope();
+    scope.bind(new Symbol("outer", scope, BuiltInType.intType));
+    ArrayMemorySpace ms = new ArrayMemorySpace(parent, scope);
+
+    // the variable of the scope is not bound yet, so the parent is asked
+    assertSame(value, ms.resolve("outer"));
+    assertEquals(Value.NONE, ms.resolve("outer", false));
+  }
+}
@@ -13,6 +13,7 @@ import dsl.runtime.callable.ICallable;
 import dsl.semanticanalysis.analyzer.SemanticAnalyzer;
 import dsl.semanticanalysis.environment.GameEnvironment;
 import dsl.semanticanalysis.scope.Scope;
+import dsl.semanticanalysis.scope.VariableSlot;
 import dsl.semanticanalysis.symbol.FunctionSymbol;
 import dsl.semanticanalysis.symbol.ScopedSymbol;
 import dsl.semanticanalysis.symbol.Symbol;
@@ -456,6 +457,40 @@ public class TestSemanticAnalyzer {
     assertEquals(NativePrint.func, funcCallSymbol);
   }
 
+  /** Test, if references of local variables are resolved to their slots. */
+  @Test
+  public void variableSlotNestedBlocks() {
+    String program =
+        """
+                fn test_func(int param1, float param2) -> int
+                {
+                    var local : int;
+                    {
+                        print(param2);
+                        print(local);
+                    }
+                }
+                """;
+
+    var ast = Helpers.getASTFromString(program);
+    var result = Helpers.getSymtableForAST(ast);
+
+    FuncDefNode funcDefNode = (FuncDefNode) ast.getChild(0);
+    var outerStmtBlock = (StmtBlockNode) funcDefNode.getStmtBlock();
+    var innerStmtBlock = (StmtBlockNode) outerStmtBlock.getStmts().get(1);
+    var param2Reference = ((FuncCallNode) innerStmtBlock.getStmts().get(0)).getParameters().get(0);
+    var localReference = ((FuncCallNode) innerStmtBlock.getStmts().get(1)).getParameters().get(0);
+
+    var funcSymbol = result.symbolTable.globalScope.resolve("test_func");
+    var param2Slot = result.symbolTable.getVariableSlot(param2Reference);
+    assertEquals(new VariableSlot(2, 1, (FunctionSymbol) funcSymbol), param2Slot);
+
+    var localSlot = result.symbolTable.getVariableSlot(localReference);
+    assertEquals(1, localSlot.depth());
+    assertEquals(0, localSlot.index());
+    assertSame(result.symbolTable.getScopeOfNode(outerStmtBlock), localSlot.scope());
+  }
+
   /** Test, if a native function call is correctly resolved in nested stmt blocks. */
   @Test
   public void funcDefIfElse() {
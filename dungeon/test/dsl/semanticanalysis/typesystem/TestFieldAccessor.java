@@ -0,0 +1,67 @@
+package dsl.semanticanalysis.typesystem;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dsl.semanticanalysis.scope.Scope;
+import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.FieldAccessor;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link FieldAccessor} class. */
+public class TestFieldAccessor {
+  private static final String CONSTANT = "constant";
+
+  private int number = 1;
+  private final String text = "text";
+
+  /** WTF? . */
+  @Test
+  public void primitiveField_getAndSet() throws NoSuchFieldException {
+    FieldAccessor accessor = FieldAccessor.of(field("number"));
+
+    assertEquals(1, accessor.get(this));
+    accessor.set(this, 42);
+    assertEquals(42, number);
+    assertTrue(accessor.isWritable());
+  }
+
+  /** WTF? . */
+  @Test
+  public void finalInstanceField_writable() throws NoSuchFieldException {
+    FieldAccessor accessor = FieldAccessor.of(field("text"));
+
+    assertEquals("text", accessor.get(this));
+    accessor.set(this, "changed");
+    assertEquals("changed", accessor.get(this));
+  }
+
+  /** WTF? . */
+  @Test
+  public void staticFinalField_notWritable() throws NoSuchFieldException {
+    FieldAccessor accessor = FieldAccessor.of(field("CONSTANT"));
+
+    assertEquals(CONSTANT, accessor.get(null));
+    assertFalse(accessor.isWritable());
+    assertThrows(UnsupportedOperationException.class, () -> accessor.set(null, "changed"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void aggregateType_cachesAccessor() throws NoSuchFieldException {
+    AggregateType type = new AggregateType("test_type", new Scope(), TestFieldAccessor.class);
+    HashMap<String, Field> typeMemberToField = new HashMap<>();
+    typeMemberToField.put("number", field("number"));
+    type.setTypeMemberToField(typeMemberToField);
+
+    FieldAccessor accessor = type.getFieldAccessor("number");
+    assertNotNull(accessor);
+    assertSame(accessor, type.getFieldAccessor("number"));
+    assertNull(type.getFieldAccessor("unknown"));
+  }
+
+  private static Field field(String name) throws NoSuchFieldException {
+    return TestFieldAccessor.class.getDeclaredField(name);
+  }
+}
@@ -9,6 +9,7 @@ import dsl.interpreter.mockecs.*;
 import dsl.semanticanalysis.scope.Scope;
 import dsl.semanticanalysis.symbol.Symbol;
 import dsl.semanticanalysis.typesystem.typebuilding.TypeBuilder;
+import dsl.semanticanalysis.typesystem.typebuilding.TypeMetadata;
 import dsl.semanticanalysis.typesystem.typebuilding.type.*;
 import graph.taskdependencygraph.TaskDependencyGraph;
 import java.lang.reflect.InvocationTargetException;
@@ -312,6 +313,45 @@ public class TestTypeBuilder {
     assertEquals(BuiltInType.noType, type);
   }
 
+  /** WTF? . */
+  @Test
+  public void testMetadataSharedBetweenTypeBuilders() {
+    assertSame(TypeMetadata.of(TestComponent.class), TypeMetadata.of(TestComponent.class));
+
+    var firstType =
+        (AggregateType)
+            new TypeBuilder().createDSLTypeForJavaTypeInScope(new Scope(), TestComponent.class);
+    var secondType =
+        (AggregateType)
+            new TypeBuilder().createDSLTypeForJavaTypeInScope(new Scope(), TestComponent.class);
+
+    // the types are bound in different scopes, only the reflective metadata is shared
+    assertNotSame(firstType, secondType);
+    assertEquals(
+        firstType.getTypeMemberToField().get("int_member"),
+        secondType.getTypeMemberToField().get("int_member"));
+    assertEquals(3, firstType.getTypeMemberToField().size());
+  }
+
+  /** WTF? . */
+  @Test
+  public void testMetadata() {
+    var metadata = TypeMetadata.of(TestComponent.class);
+    assertEquals("test_component", metadata.dslTypeName());
+    assertNotNull(metadata.dslType());
+    assertEquals(3, metadata.memberFields().size());
+    assertTrue(metadata.memberFields().stream().allMatch(TypeMetadata.MemberField::dataMember));
+    assertNull(metadata.typeAdapterMethod());
+
+    var adapterMetadata = TypeMetadata.of(ExternalTypeBuilderMultiParam.class);
+    assertEquals("external_type", adapterMetadata.typeAdapterName());
+    var parameters = adapterMetadata.typeAdapterParameters();
+    assertEquals(2, parameters.size());
+    assertEquals("number", parameters.get(0).dslName());
+    assertEquals(int.class, parameters.get(0).type());
+    assertEquals("string", parameters.get(1).dslName());
+  }
+
   @DSLType
   private record TestRecord(
       @DSLTypeMember int comp1, @DSLTypeMember String comp2, @DSLTypeMember float comp3) {}
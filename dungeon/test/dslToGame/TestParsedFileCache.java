@@ -0,0 +1,141 @@
+package dslToGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import dsl.parser.ast.FuncDefNode;
+import dsl.parser.ast.Node;
+import entrypoint.ParsedFile;
+import entrypoint.ParsedFileCache;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** WTF? . */
+public class TestParsedFileCache {
+  private static final String PROGRAM = "fn test(int x) -> int { return x; }";
+
+  @TempDir Path tempDir;
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    ParsedFileCache.setCacheDirectory(null);
+    ParsedFileCache.clear();
+  }
+
+  /** WTF? . */
+  @Test
+  public void unchangedFile_notParsedAgain() throws IOException {
+    Path file = Files.writeString(tempDir.resolve("test.dng"), PROGRAM);
+
+    ParsedFile first = ParsedFileCache.parse(file);
+    ParsedFile second = ParsedFileCache.parse(file);
+
+    assertSame(first.rootASTNode(), second.rootASTNode());
+  }
+
+  /** WTF? . */
+  @Test
+  public void changedFile_parsedAgain() throws IOException {
+    Path file = Files.writeString(tempDir.resolve("test.dng"), PROGRAM);
+    ParsedFile first = ParsedFileCache.parse(file);
+
+    Files.writeString(file, PROGRAM.replace("test", "other"));
+    ParsedFile second = ParsedFileCache.parse(file);
+
+    assertNotSame(first.rootASTNode(), second.rootASTNode());
+    assertEquals("other", functionName(second.rootASTNode()));
+  }
+
+  /** WTF? . */
+  @Test
+  public void sameContent_ownAST() throws IOException {
+    Path firstFile = Files.writeString(tempDir.resolve("first.dng"), PROGRAM);
+    Path secondFile = Files.writeString(tempDir.resolve("second.dng"), PROGRAM);
+
+    List<ParsedFile> parsedFiles = ParsedFileCache.parseAll(List.of(firstFile, secondFile));
+
+    assertEquals(firstFile, parsedFiles.get(0).filePath());
+    assertEquals(secondFile, parsedFiles.get(1).filePath());
+    assertNotSame(parsedFiles.get(0).rootASTNode(), parsedFiles.get(1).rootASTNode());
+  }
+
+  /** WTF? . */
+  @Test
+  public void cacheDirectory_astRestored() throws IOException {
+    Path cacheDirectory = tempDir.resolve("cache");
+    ParsedFileCache.setCacheDirectory(cacheDirectory);
+    Path file = Files.writeString(tempDir.resolve("test.dng"), PROGRAM);
+    Node parsed = ParsedFileCache.parse(file).rootASTNode();
+
+    try (var files = Files.list(cacheDirectory)) {
+      assertEquals(1, files.count());
+    }
+
+    // simulate a new run of the game
+    ParsedFileCache.clear();
+    Node restored = ParsedFileCache.parse(file).rootASTNode();
+
+    assertNotSame(parsed, restored);
+    assertNotEquals(parsed.getIdx(), restored.getIdx());
+    assertEquals(parsed.type, restored.type);
+    assertEquals(parsed.getChildren().size(), restored.getChildren().size());
+    assertEquals("test", functionName(restored));
+  }
+
+  /** WTF? . */
+  @Test
+  public void invalidCacheFile_parsedAgain() throws IOException {
+    Path cacheDirectory = tempDir.resolve("cache");
+    ParsedFileCache.setCacheDirectory(cacheDirectory);
+    Path file = Files.writeString(tempDir.resolve("test.dng"), PROGRAM);
+    ParsedFileCache.parse(file);
+    try (var files = Files.list(cacheDirectory)) {
+      Files.writeString(files.findFirst().orElseThrow(), "no serialized AST");
+    }
+
+    ParsedFileCache.clear();
+    Node parsed = ParsedFileCache.parse(file).rootASTNode();
+
+    assertEquals("test", functionName(parsed));
+  }
+
+  /** WTF? . */
+  @Test
+  public void cacheDirectory_createdOwnerOnly() throws IOException {
+    assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+    Path cacheDirectory = tempDir.resolve("cache");
+    ParsedFileCache.setCacheDirectory(cacheDirectory);
+    ParsedFileCache.parse(Files.writeString(tempDir.resolve("test.dng"), PROGRAM));
+
+    assertEquals(
+        PosixFilePermissions.fromString("rwx------"),
+        Files.getPosixFilePermissions(cacheDirectory));
+  }
+
+  /** WTF? . */
+  @Test
+  public void cacheDirectoryWritableByOthers_notUsed() throws IOException {
+    assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+    Path cacheDirectory = Files.createDirectory(tempDir.resolve("cache"));
+    Files.setPosixFilePermissions(cacheDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+    ParsedFileCache.setCacheDirectory(cacheDirectory);
+    Path file = Files.writeString(tempDir.resolve("test.dng"), PROGRAM);
+
+    ParsedFileCache.parse(file);
+
+    try (var files = Files.list(cacheDirectory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  private static String functionName(Node programAST) {
+    return ((FuncDefNode) programAST.getChild(0)).getIdName();
+  }
+}
@@ -1,17 +1,22 @@
 package systems;
 
-import com.badlogic.gdx.utils.DelayedRemovalArray;
-import com.badlogic.gdx.utils.TimeUtils;
 import core.System;
+import core.game.TimerScheduler;
+import java.util.ArrayList;
+import java.util.List;
 import utils.TimedEffect;
 
 /**
  * EventScheduler is a class that extends the System class.
  *
- * <p>This class is responsible for scheduling and executing timed actions. It maintains a list of
- * scheduled actions, each of which is represented by a ScheduledAction object that encapsulates a
- * TimedEffect and an execution time. The class provides methods to schedule new actions, clear all
- * scheduled actions, and update the state of scheduled actions.
+ * <p>This class is responsible for scheduling timed actions. Each action is registered as a timer
+ * in the {@link TimerScheduler}, which executes it after the given delay in game time (see {@link
+ * core.game.GameClock}). The class provides methods to schedule new actions and to clear all
+ * scheduled actions.
+ *
+ * <p>The timers are executed by the {@link core.game.GameClock} at the beginning of each frame, so
+ * {@link #execute()} does nothing. The system is still added to the game, so it can be found via
+ * {@link core.Game#systems()}.
  *
  * <p>The EventScheduler class follows the Singleton design pattern, meaning that only one instance
  * of the class can exist. The getInstance() method is used to get the instance of the class.
@@ -19,7 +24,7 @@ import utils.TimedEffect;
 public class EventScheduler extends System {
 
   private static EventScheduler INSTANCE;
-  private final DelayedRemovalArray<ScheduledAction> scheduledActions = new DelayedRemovalArray<>();
+  private final List<TimerScheduler.Timer> scheduledActions = new ArrayList<>();
 
   private EventScheduler() {}
 
@@ -41,58 +46,34 @@ public class EventScheduler extends System {
   /**
    * Schedules a new action to be executed after a specified delay.
    *
-   * <p>This method creates a new ScheduledAction with the provided action and execution time, and
-   * adds it to the list of scheduled actions. The execution time is calculated as the current time
-   * plus the provided delay.
+   * <p>This method registers the action as a timer in the {@link TimerScheduler}. The delay is
+   * measured in game time, so it pauses with the game.
    *
    * @param action The action to be executed.
    * @param delayMillis The delay in milliseconds after which the action should be executed.
    */
   public void scheduleAction(TimedEffect action, long delayMillis) {
-    long executeAt = TimeUtils.millis() + delayMillis;
-    scheduledActions.add(new ScheduledAction(action, executeAt));
+    scheduledActions.removeIf(TimerScheduler.Timer::isDone);
+    scheduledActions.add(TimerScheduler.schedule(delayMillis / 1000f, action::applyEffect));
   }
 
   /**
    * Clears all scheduled actions.
    *
-   * <p>This method removes all actions from the list of scheduled actions. After this method is
-   * called, the list of scheduled actions will be empty.
+   * <p>This method cancels all actions that were scheduled by this EventScheduler and are not
+   * executed yet.
    */
   public void clear() {
+    scheduledActions.forEach(TimerScheduler.Timer::cancel);
     scheduledActions.clear();
   }
 
   /**
-   * Executes the scheduled actions.
+   * Does nothing.
    *
-   * <p>This method is called to process all the scheduled actions. It first gets the current time,
-   * then it starts iterating over the scheduled actions. For each scheduled action, it checks if
-   * the current time is greater than or equal to the execution time of the action. If it is, it
-   * applies the effect of the action and removes the action from the list of scheduled actions.
-   * After all actions have been processed, it ends the iteration over the scheduled actions.
+   * <p>The scheduled actions are executed by the {@link TimerScheduler} each time the {@link
+   * core.game.GameClock} is advanced.
    */
   @Override
-  public void execute() {
-    long currentTime = TimeUtils.millis();
-    scheduledActions.begin();
-    for (int i = 0; i < scheduledActions.size; i++) {
-      ScheduledAction scheduledAction = scheduledActions.get(i);
-      if (currentTime >= scheduledAction.executeAt) {
-        scheduledAction.action.applyEffect();
-        scheduledActions.removeIndex(i);
-      }
-    }
-    scheduledActions.end();
-  }
-
-  private static class ScheduledAction {
-    TimedEffect action;
-    long executeAt;
-
-    ScheduledAction(TimedEffect action, long executeAt) {
-      this.action = action;
-      this.executeAt = executeAt;
-    }
-  }
+  public void execute() {}
 }
@@ -1,11 +1,15 @@
 package core;
 
 import core.game.ECSManagment;
+import core.utils.components.ComponentIndex;
 import core.utils.components.MissingComponentException;
 import dsl.annotation.DSLContextPush;
 import dsl.annotation.DSLType;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -29,6 +33,10 @@ import java.util.stream.Stream;
  * <p>With {@link #isPresent(Class)}, you can check if the entity has a component of the given
  * class.
  *
+ * <p>The components are stored in an array, the slot of each component is given by the {@link
+ * ComponentIndex} of its class. The set of component classes stored in the entity is its
+ * archetype, see {@link #hasAll(BitSet)}.
+ *
  * @see Component
  * @see System
  */
@@ -36,9 +44,10 @@ import java.util.stream.Stream;
 @DSLContextPush(name = "entity")
 public final class Entity implements Comparable<Entity> {
   private static final Logger LOGGER = Logger.getLogger(Entity.class.getSimpleName());
-  private static int nextId = 0;
+  private static final AtomicInteger NEXT_ID = new AtomicInteger(0);
   private final int id;
-  private final HashMap<Class<? extends Component>, Component> components;
+  private final BitSet archetype;
+  private Component[] components;
   private String name;
 
   /**
@@ -49,10 +58,11 @@ public final class Entity implements Comparable<Entity> {
    * @param name the name of the entity, used for better logging and debugging
    */
   public Entity(final String name) {
-    id = nextId++;
-    components = new HashMap<>();
+    id = NEXT_ID.getAndIncrement();
+    components = new Component[0];
+    archetype = new BitSet();
     this.name = name;
-    LOGGER.info("The entity '" + name + "' was created.");
+    LOGGER.info(() -> "The entity '" + name + "' was created.");
   }
 
   /**
@@ -63,7 +73,7 @@ public final class Entity implements Comparable<Entity> {
    * <p>The name of the entity will be its id
    */
   public Entity() {
-    this("_" + nextId);
+    this("_" + NEXT_ID.get());
   }
 
   /**
@@ -76,10 +86,14 @@ public final class Entity implements Comparable<Entity> {
    *
    * @param component The component to add
    */
-  public void add(final Component component) {
-    components.put(component.getClass(), component);
+  public synchronized void add(final Component component) {
+    int index = ComponentIndex.of(component.getClass());
+    if (index >= components.length)
+      components = Arrays.copyOf(components, Math.max(index + 1, components.length * 2));
+    components[index] = component;
+    archetype.set(index);
     ECSManagment.informAboutChanges(this);
-    LOGGER.info(component.getClass().getName() + " Components from " + this + " was added.");
+    LOGGER.info(() -> component.getClass().getName() + " Components from " + this + " was added.");
   }
 
   /**
@@ -90,10 +104,13 @@ public final class Entity implements Comparable<Entity> {
    *
    * @param klass the Class of the component
    */
-  public void remove(final Class<? extends Component> klass) {
-    if (components.remove(klass) != null) {
+  public synchronized void remove(final Class<? extends Component> klass) {
+    if (isPresent(klass)) {
+      int index = ComponentIndex.of(klass);
+      components[index] = null;
+      archetype.clear(index);
       ECSManagment.informAboutChanges(this);
-      LOGGER.info(klass.getName() + " from " + name + " was removed.");
+      LOGGER.info(() -> klass.getName() + " from " + name + " was removed.");
     }
   }
 
@@ -107,7 +124,7 @@ public final class Entity implements Comparable<Entity> {
    * @see Optional
    */
   public <T extends Component> Optional<T> fetch(final Class<T> klass) {
-    return Optional.ofNullable(klass.cast(components.get(klass)));
+    return Optional.ofNullable(klass.cast(component(klass)));
   }
 
   /**
@@ -120,7 +137,7 @@ public final class Entity implements Comparable<Entity> {
    * @see Optional
    */
   public <T extends Component> T fetchOrThrow(final Class<T> klass) {
-    return Optional.ofNullable(klass.cast(components.get(klass))).orElseThrow(() -> MissingComponentException.build(this, klass));
+    return Optional.ofNullable(klass.cast(component(klass))).orElseThrow(() -> MissingComponentException.build(this, klass));
   }
 
   /**
@@ -130,7 +147,27 @@ public final class Entity implements Comparable<Entity> {
    * @return true if the component is present in the entity, false if not
    */
   public boolean isPresent(final Class<? extends Component> klass) {
-    return components.containsKey(klass);
+    return archetype.get(ComponentIndex.of(klass));
+  }
+
+  /**
+   * Check if the entity has a component for each class in the given archetype mask.
+   *
+   * <p>Use {@link ComponentIndex#mask(java.util.Set)} to create the mask. This check does not
+   * allocate and is used by the {@link core.utils.EntitySystemMapper} to filter entities.
+   *
+   * @param mask archetype mask of the component classes to check for
+   * @return true if all components of the mask are present in the entity, false if not
+   */
+  public boolean hasAll(final BitSet mask) {
+    for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1))
+      if (!archetype.get(i)) return false;
+    return true;
+  }
+
+  private Component component(final Class<? extends Component> klass) {
+    int index = ComponentIndex.of(klass);
+    return index < components.length ? components[index] : null;
   }
 
   /**
@@ -175,6 +212,6 @@ public final class Entity implements Comparable<Entity> {
    * @return Stream of components.
    */
   public Stream<Component> componentStream() {
-    return components.values().stream();
+    return Arrays.stream(components).filter(Objects::nonNull);
   }
 }
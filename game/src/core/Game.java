@@ -6,6 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import core.components.PositionComponent;
 import core.game.ECSManagment;
 import core.game.GameLoop;
+import core.game.HeadlessGameLoop;
 import core.game.PreRunConfiguration;
 import core.level.Tile;
 import core.level.elements.ILevel;
@@ -13,6 +14,7 @@ import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
 import core.level.utils.LevelUtils;
+import core.level.utils.OccupancyMap;
 import core.systems.LevelSystem;
 import core.utils.IVoidFunction;
 import core.utils.Point;
@@ -59,6 +61,16 @@ public final class Game {
     GameLoop.run();
   }
 
+  /**
+   * Simulates the given number of frames without window, OpenGL context, and audio output.
+   *
+   * @param frames Number of frames to simulate.
+   * @see HeadlessGameLoop
+   */
+  public static void runHeadless(int frames) {
+    HeadlessGameLoop.run(frames);
+  }
+
   /**
    * Retrieves the window width from Gdx.
    *
@@ -149,6 +161,26 @@ public final class Game {
     PreRunConfiguration.disableAudio(disableAudio);
   }
 
+  /**
+   * Sets whether systems with non-conflicting component access should be executed in parallel.
+   *
+   * @param parallelSystems True to execute systems in parallel, false to execute them one after
+   *     another on the main thread.
+   */
+  public static void parallelSystems(boolean parallelSystems) {
+    PreRunConfiguration.parallelSystems(parallelSystems);
+  }
+
+  /**
+   * Sets the number of levels that should be generated in the background, while the current level
+   * is played.
+   *
+   * @param pregeneratedLevels Number of pregenerated levels, 0 to disable the pregeneration.
+   */
+  public static void pregeneratedLevels(int pregeneratedLevels) {
+    PreRunConfiguration.pregeneratedLevels(pregeneratedLevels);
+  }
+
   /**
    * Sets the user-defined function for frame updates in the pre-run configuration.
    *
@@ -332,6 +364,40 @@ public final class Game {
     return ECSManagment.entityStream(filter);
   }
 
+  /**
+   * Performs the given action for each entity that contains the given components.
+   *
+   * <p>Use this instead of {@link #entityStream(Set)} in hot loops, it does not create a new
+   * stream.
+   *
+   * @param filter the components to check.
+   * @param action the action to be performed for each entity.
+   */
+  public static void forEachEntity(
+      final Set<Class<? extends Component>> filter, final Consumer<Entity> action) {
+    ECSManagment.forEachEntity(filter, action);
+  }
+
+  /**
+   * Set whether structural changes (adding or removing entities and components) should be recorded
+   * and applied once between the system executions instead of immediately.
+   *
+   * @param defer true to defer changes, false to apply them immediately.
+   * @see ECSManagment#deferChanges(boolean)
+   */
+  public static void deferChanges(boolean defer) {
+    ECSManagment.deferChanges(defer);
+  }
+
+  /**
+   * Apply all recorded structural changes.
+   *
+   * @see ECSManagment#flushChanges()
+   */
+  public static void flushChanges() {
+    ECSManagment.flushChanges();
+  }
+
   /**
    * Get the player character.
    *
@@ -465,12 +531,17 @@ public final class Game {
   /**
    * Returns the entities on the given tile. If the tile is null, an empty stream will be returned.
    *
+   * <p>The entities are looked up in the {@link OccupancyMap}. If the map does not track any
+   * entity (for example, because there is no {@link core.systems.PositionSystem}), all entities
+   * with a {@link PositionComponent} are checked.
+   *
    * @param check Tile to check for.
    * @return Stream of all entities on the given tile
    */
   public static Stream<Entity> entityAtTile(final Tile check) {
     Tile tile = Game.tileAT(check.position());
     if (tile == null) return Stream.empty();
+    if (OccupancyMap.tracking()) return OccupancyMap.at(tile.coordinate()).stream();
 
     return ECSManagment.entityStream(Set.of(PositionComponent.class))
         .filter(
@@ -483,6 +554,30 @@ public final class Game {
                             .position())));
   }
 
+  /**
+   * Returns the entities whose position is within the given radius around the given point.
+   *
+   * <p>The entities are looked up in the {@link OccupancyMap}. If the map does not track any
+   * entity, all entities with a {@link PositionComponent} are checked.
+   *
+   * @param center The center of the circle.
+   * @param radius The radius of the circle.
+   * @return Stream of all entities in the circle.
+   */
+  public static Stream<Entity> entitiesInRadius(final Point center, float radius) {
+    if (OccupancyMap.tracking()) return OccupancyMap.inRadius(center, radius).stream();
+
+    return ECSManagment.entityStream(Set.of(PositionComponent.class))
+        .filter(
+            e ->
+                e.fetch(PositionComponent.class)
+                        .orElseThrow(
+                            () -> MissingComponentException.build(e, PositionComponent.class))
+                        .position()
+                        .distance(center)
+                    <= radius);
+  }
+
   /**
    * Get a random tile of the given type.
    *
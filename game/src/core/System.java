@@ -4,6 +4,7 @@ import core.utils.EntitySystemMapper;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -27,6 +28,13 @@ import java.util.stream.Stream;
  * #triggerOnAdd(Entity)} or {@link #triggerOnRemove(Entity)} will be called by the {@link
  * EntitySystemMapper}. Set the {@link #onEntityAdd} or {@link #onEntityRemove} attributes in the
  * inheriting System to implement the corresponding logic for these events.
+ *
+ * <p>A System can declare which {@link Component} types it reads and writes in its {@link
+ * #execute()} method via {@link #reads(Class[])} and {@link #writes(Class[])}. The {@link
+ * core.game.GameLoop} will execute systems with non-conflicting access in parallel. Systems that
+ * do not declare their access, or that are {@link #pinToMainThread() pinned to the main thread}
+ * (for example, because they use OpenGL), are always executed on the main thread. Systems that do
+ * not declare their access are never executed at the same time as any other system.
  */
 public abstract class System {
   /**
@@ -63,6 +71,10 @@ public abstract class System {
   protected Consumer<Entity> onEntityRemove = (e) -> {};
 
   private int lastExecuteInFrames = 0;
+  // null if the system did not declare its access
+  private Set<Class<? extends Component>> readComponents;
+  private Set<Class<? extends Component>> writeComponents;
+  private boolean mainThread = false;
 
   /**
    * Create a new system.
@@ -79,7 +91,7 @@ public abstract class System {
     if (filterRules != null) this.filterRules = Set.of(filterRules);
     else this.filterRules = new HashSet<>();
     run = true;
-    LOGGER.info(String.format("A new %s was created", getClass().getName()));
+    LOGGER.log(Level.INFO, "A new {0} was created", getClass().getName());
   }
 
   /**
@@ -140,7 +152,7 @@ public abstract class System {
    * <p>A running system will be executed.
    */
   public void run() {
-    if (!run) LOGGER.info(String.format("%s is now running", this.getClass().getName()));
+    if (!run) LOGGER.log(Level.INFO, "{0} is now running", getClass().getName());
     run = true;
   }
 
@@ -153,7 +165,7 @@ public abstract class System {
    * processed when the system is running.
    */
   public void stop() {
-    if (run) LOGGER.info(String.format("%s is now paused", this.getClass().getName()));
+    if (run) LOGGER.log(Level.INFO, "{0} is now paused", getClass().getName());
     run = false;
   }
 
@@ -214,6 +226,95 @@ public abstract class System {
     return filteredEntityStream(Set.of(filterRules));
   }
 
+  /**
+   * Performs the given action for each active entity that is relevant to this system.
+   *
+   * <p>This can be used in the {@link #execute} method instead of {@link #filteredEntityStream()}.
+   * It iterates directly over the dense entity storage and does not create a new stream or
+   * collection each frame.
+   *
+   * @param action the action to be performed for each entity processed by this system.
+   */
+  public final void forEachEntity(final Consumer<Entity> action) {
+    Game.forEachEntity(filterRules, action);
+  }
+
+  /**
+   * Declare that the {@link #execute()} method of this system reads the given component types.
+   *
+   * <p>Systems that only read the same component types can be executed in parallel.
+   *
+   * @param components Component types read by this system.
+   */
+  @SafeVarargs
+  protected final void reads(final Class<? extends Component>... components) {
+    readComponents = new HashSet<>(Set.of(components));
+    if (writeComponents == null) writeComponents = new HashSet<>();
+  }
+
+  /**
+   * Declare that the {@link #execute()} method of this system writes the given component types.
+   *
+   * <p>Writing includes modifying, adding, or removing a component of the given type. A system that
+   * writes a component type will never be executed in parallel with another system that reads or
+   * writes the same component type.
+   *
+   * @param components Component types written by this system.
+   */
+  @SafeVarargs
+  protected final void writes(final Class<? extends Component>... components) {
+    writeComponents = new HashSet<>(Set.of(components));
+    if (readComponents == null) readComponents = new HashSet<>();
+  }
+
+  /**
+   * Pin this system to the main thread.
+   *
+   * <p>Use this for systems that access OpenGL or other resources that are bound to the render
+   * thread. The system can still be executed at the same time as non-conflicting systems on other
+   * threads.
+   */
+  protected final void pinToMainThread() {
+    mainThread = true;
+  }
+
+  /**
+   * Check if this system needs to be executed on the main thread.
+   *
+   * @return true if the system is pinned to the main thread or did not declare its access.
+   */
+  public final boolean pinnedToMainThread() {
+    return mainThread || !accessDeclared();
+  }
+
+  /**
+   * Check if this system declared the component types it reads and writes.
+   *
+   * @return true if the access was declared, false if not.
+   */
+  public final boolean accessDeclared() {
+    return readComponents != null;
+  }
+
+  /**
+   * Check if this system can not be executed at the same time as the given system.
+   *
+   * <p>Two systems conflict if one of them did not declare its access, or if one of them writes a
+   * component type that the other one reads or writes.
+   *
+   * @param other System to check.
+   * @return true if the systems conflict, false if they can be executed in parallel.
+   */
+  public final boolean conflictsWith(final System other) {
+    if (!accessDeclared() || !other.accessDeclared()) return true;
+    for (Class<? extends Component> klass : writeComponents)
+      if (other.readComponents.contains(klass) || other.writeComponents.contains(klass))
+        return true;
+    for (Class<? extends Component> klass : other.writeComponents)
+      if (readComponents.contains(klass)) return true;
+    return false;
+  }
+
   /**
    * @return the frame count the system should have between executes
    */
@@ -2,8 +2,10 @@ package core.components;
 
 import core.Component;
 import core.level.Tile;
+import core.level.utils.Coordinate;
 import core.utils.Point;
 import dsl.annotation.DSLType;
+import java.util.function.BiConsumer;
 
 /**
  * Store the position of the associated entity in the level.
@@ -22,6 +24,10 @@ import dsl.annotation.DSLType;
  *
  * <p>Use {@link #position()} to get a copy of the position.
  *
+ * <p>Each time the position moves to another tile coordinate, the {@link
+ * #onTileChange(BiConsumer)} callback is executed. The {@link core.level.utils.OccupancyMap} uses
+ * it to keep its tile index up to date.
+ *
  * @see core.systems.PositionSystem
  * @see Point
  */
@@ -32,6 +38,7 @@ public final class PositionComponent implements Component {
   public static final Point ILLEGAL_POSITION = new Point(Integer.MIN_VALUE, Integer.MIN_VALUE);
 
   private Point position;
+  private BiConsumer<Coordinate, Coordinate> onTileChange = (from, to) -> {};
 
   /**
    * Create a new PositionComponent with given position.
@@ -41,7 +48,7 @@ public final class PositionComponent implements Component {
    * @param position The position in the level.
    */
   public PositionComponent(final Point position) {
-    this.position = position;
+    this.position = new Point(position);
   }
 
   /**
@@ -82,7 +89,10 @@ public final class PositionComponent implements Component {
    * @param position new Position
    */
   public void position(final Point position) {
+    Point previous = this.position;
     this.position = new Point(position);
+    if ((int) previous.x != (int) position.x || (int) previous.y != (int) position.y)
+      onTileChange.accept(previous.toCoordinate(), this.position.toCoordinate());
   }
 
   /**
@@ -94,4 +104,16 @@ public final class PositionComponent implements Component {
   public void position(final Tile tile) {
     position(tile.position());
   }
+
+  /**
+   * Set the callback that is executed each time the position moves to another tile coordinate.
+   *
+   * <p>The callback gets the previous and the new coordinate. Only one callback can be set, it is
+   * used by the {@link core.level.utils.OccupancyMap}.
+   *
+   * @param onTileChange The callback to execute, or null to remove the callback.
+   */
+  public void onTileChange(final BiConsumer<Coordinate, Coordinate> onTileChange) {
+    this.onTileChange = onTileChange != null ? onTileChange : (from, to) -> {};
+  }
 }
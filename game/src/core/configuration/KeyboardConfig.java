@@ -10,6 +10,10 @@ public class KeyboardConfig {
   public static final ConfigKey<Integer> TOGGLE_FULLSCREEN =
       new ConfigKey<>(new String[] {"graphics", "fullscreen"}, new ConfigIntValue(Input.Keys.F11));
 
+  /** WTF? . */
+  public static final ConfigKey<Integer> TOGGLE_PROFILER =
+      new ConfigKey<>(new String[] {"graphics", "profiler"}, new ConfigIntValue(Input.Keys.F3));
+
   /** WTF? . */
   public static final ConfigKey<Integer> MOVEMENT_UP =
       new ConfigKey<>(new String[] {"movement", "up"}, new ConfigIntValue(Input.Keys.W));
@@ -7,6 +7,8 @@ import core.components.PlayerComponent;
 import core.level.elements.ILevel;
 import core.utils.EntitySystemMapper;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -21,7 +23,15 @@ import java.util.stream.Stream;
  * <p>For System management use: {@link #add(System)}, {@link #remove(Class)} or {@link
  * #removeAllSystems()}
  *
- * <p>Get access via: {@link #entityStream()}, {@link #systems()}
+ * <p>Get access via: {@link #entityStream()}, {@link #forEachEntity(Set, Consumer)}, {@link
+ * #systems()}
+ *
+ * <p>Structural changes (adding or removing entities and components) are applied immediately by
+ * default. Use {@link #deferChanges(boolean)} to record them in a command buffer instead. Recorded
+ * changes are merged per entity and applied with {@link #flushChanges()}, which the {@link
+ * GameLoop} calls between the system executions. This way, each {@link EntitySystemMapper} is
+ * updated only once per entity, no matter how many components were added in the meantime.
+ * Recording changes is thread-safe, so systems that are executed in parallel can record changes.
  *
  * <p>All API methods can also be accessed via the {@link core.Game} class.
  */
@@ -29,7 +39,13 @@ public final class ECSManagment {
   private static final Logger LOGGER = Logger.getLogger(ECSManagment.class.getSimpleName());
   private static final Map<Class<? extends System>, System> SYSTEMS = new LinkedHashMap<>();
   private static final Map<ILevel, Set<EntitySystemMapper>> LEVEL_STORAGE_MAP = new HashMap<>();
+  // recorded structural changes: true if the entity should be in the game after the flush
+  private static final Map<Entity, Boolean> PENDING_CHANGES = new LinkedHashMap<>();
   private static Set<EntitySystemMapper> activeEntityStorage = new HashSet<>();
+  // immutable copy of SYSTEMS.values(), replaced on each change
+  private static List<System> systemList = List.of();
+  private static boolean deferChanges = false;
+  private static boolean flushing = false;
 
   static {
     LEVEL_STORAGE_MAP.put(null, activeEntityStorage);
@@ -42,12 +58,20 @@ public final class ECSManagment {
    * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} or {@link
    * System#triggerOnRemove(Entity)}.
    *
+   * <p>If changes are {@link #deferChanges(boolean) deferred}, the change will be recorded and
+   * applied with the next {@link #flushChanges()}.
+   *
    * @param entity the entity that has changes in its Component Collection.
    */
   public static void informAboutChanges(Entity entity) {
-    if (entityStream().anyMatch(entity1 -> entity1.equals(entity))) {
+    if (deferChanges) {
+      synchronized (PENDING_CHANGES) {
+        if (PENDING_CHANGES.getOrDefault(entity, isInGame(entity)))
+          PENDING_CHANGES.put(entity, true);
+      }
+    } else if (isInGame(entity)) {
       activeEntityStorage.forEach(f -> f.update(entity));
-      LOGGER.info("Entity: " + entity + " informed the Game about component changes.");
+      LOGGER.info(() -> "Entity: " + entity + " informed the Game about component changes.");
     }
   }
 
@@ -58,11 +82,20 @@ public final class ECSManagment {
    *
    * <p>If necessary, the {@link System} will trigger {@link System#triggerOnAdd(Entity)} .
    *
+   * <p>If changes are {@link #deferChanges(boolean) deferred}, the entity will be added with the
+   * next {@link #flushChanges()}.
+   *
    * @param entity the entity to add.
    */
   public static void add(Entity entity) {
+    if (deferChanges) {
+      synchronized (PENDING_CHANGES) {
+        PENDING_CHANGES.put(entity, true);
+      }
+      return;
+    }
     activeEntityStorage.forEach(f -> f.add(entity));
-    LOGGER.info("Entity: " + entity + " will be added to the Game.");
+    LOGGER.info(() -> "Entity: " + entity + " will be added to the Game.");
   }
 
   /**
@@ -70,11 +103,80 @@ public final class ECSManagment {
    *
    * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} .
    *
+   * <p>If changes are {@link #deferChanges(boolean) deferred}, the entity will be removed with the
+   * next {@link #flushChanges()}.
+   *
    * @param entity the entity to remove
    */
   public static void remove(Entity entity) {
+    if (deferChanges) {
+      synchronized (PENDING_CHANGES) {
+        PENDING_CHANGES.put(entity, false);
+      }
+      return;
+    }
     activeEntityStorage.forEach(f -> f.remove(entity));
-    LOGGER.info("Entity: " + entity + " will be removed from the Game.");
+    LOGGER.info(() -> "Entity: " + entity + " will be removed from the Game.");
+  }
+
+  /**
+   * Check whether structural changes are recorded in the command buffer instead of being applied
+   * immediately.
+   *
+   * @return true if changes are deferred, false if they are applied immediately.
+   */
+  public static boolean deferChanges() {
+    return deferChanges;
+  }
+
+  /**
+   * Set whether structural changes should be recorded in the command buffer instead of being
+   * applied immediately.
+   *
+   * <p>If deferring is disabled, all recorded changes will be applied immediately.
+   *
+   * @param defer true to defer changes until the next {@link #flushChanges()}, false to apply them
+   *     immediately.
+   */
+  public static void deferChanges(boolean defer) {
+    deferChanges = defer;
+    if (!defer) flushChanges();
+  }
+
+  /**
+   * Apply all recorded structural changes.
+   *
+   * <p>The changes are merged per entity, so each {@link EntitySystemMapper} will trigger {@link
+   * System#triggerOnAdd(Entity)} or {@link System#triggerOnRemove(Entity)} at most once per entity.
+   * Changes recorded by these callbacks will be applied in the same flush.
+   *
+   * <p>If there are no recorded changes, this does nothing.
+   */
+  public static void flushChanges() {
+    if (flushing) return;
+    flushing = true;
+    try {
+      while (true) {
+        Map<Entity, Boolean> changes;
+        synchronized (PENDING_CHANGES) {
+          if (PENDING_CHANGES.isEmpty()) break;
+          changes = new LinkedHashMap<>(PENDING_CHANGES);
+          PENDING_CHANGES.clear();
+        }
+        changes.forEach(
+            (entity, inGame) -> {
+              if (inGame) activeEntityStorage.forEach(f -> f.update(entity));
+              else activeEntityStorage.forEach(f -> f.remove(entity));
+            });
+        LOGGER.log(Level.INFO, "{0} entity changes were applied to the Game.", changes.size());
+      }
+    } finally {
+      flushing = false;
+    }
+  }
+
+  private static boolean isInGame(final Entity entity) {
+    return mapper(Set.of()).contains(entity);
   }
 
   /**
@@ -119,12 +221,10 @@ public final class ECSManagment {
   public static Optional<System> add(final System system) {
     System currentSystem = SYSTEMS.get(system.getClass());
     SYSTEMS.put(system.getClass(), system);
+    systemList = List.copyOf(SYSTEMS.values());
     // add to existing filter or create new filter if no matching exists
-    Optional<EntitySystemMapper> filter =
-        activeEntityStorage.stream().filter(f -> f.equals(system.filterRules())).findFirst();
-    filter.ifPresentOrElse(
-        f -> f.add(system), () -> createNewEntitySystemMapper(system.filterRules()).add(system));
-    LOGGER.info("A new " + system.getClass().getName() + " was added to the game");
+    mapper(system.filterRules()).add(system);
+    LOGGER.log(Level.INFO, "A new {0} was added to the game", system.getClass().getName());
     return Optional.ofNullable(currentSystem);
   }
 
@@ -137,6 +237,15 @@ public final class ECSManagment {
     return LEVEL_STORAGE_MAP;
   }
 
+  /**
+   * Get the current active {@link EntitySystemMapper}s.
+   *
+   * @return An unmodifiable view of the {@link EntitySystemMapper}s of the current level.
+   */
+  public static Set<EntitySystemMapper> activeEntityStorage() {
+    return Collections.unmodifiableSet(activeEntityStorage);
+  }
+
   /**
    * Set the current active {@link EntitySystemMapper}.
    *
@@ -155,6 +264,19 @@ public final class ECSManagment {
     return new LinkedHashMap<>(SYSTEMS);
   }
 
+  /**
+   * Get all Systems in execution order.
+   *
+   * <p>Unlike {@link #systems()}, this does not copy the systems on each call. The list is
+   * immutable and is replaced if a system is added or removed, so it can be iterated while systems
+   * are added or removed.
+   *
+   * @return an immutable list of all registered {@link System}s in the game.
+   */
+  public static List<System> systemList() {
+    return systemList;
+  }
+
   /** Remove all registered systems from the game. */
   public static void removeAllSystems() {
     new HashSet<>(SYSTEMS.keySet()).forEach(ECSManagment::remove);
@@ -166,7 +288,7 @@ public final class ECSManagment {
    * @return a stream of all entities currently in the game
    */
   public static Stream<Entity> entityStream() {
-    return entityStream(new HashSet<>());
+    return entityStream(Set.of());
   }
 
   /**
@@ -188,15 +310,35 @@ public final class ECSManagment {
    * @return a stream of all entities currently in the game that contains the given components.
    */
   public static Stream<Entity> entityStream(Set<Class<? extends Component>> filter) {
-    Stream<Entity> returnStream;
-    Optional<EntitySystemMapper> rf =
-        activeEntityStorage.stream().filter(f -> f.equals(filter)).findFirst();
+    return mapper(filter).stream();
+  }
 
-    if (rf.isEmpty()) {
-      EntitySystemMapper newMapper = createNewEntitySystemMapper(filter);
-      returnStream = newMapper.stream();
-    } else returnStream = rf.get().stream();
-    return returnStream;
+  /**
+   * Performs the given action for each entity that contains the given components.
+   *
+   * <p>In contrast to {@link #entityStream(Set)}, this will not create a new stream and iterates
+   * directly over the dense entity storage of the corresponding {@link EntitySystemMapper}.
+   *
+   * @param filter Set of Component classes that define the filter rules.
+   * @param action The action to be performed for each entity.
+   */
+  public static void forEachEntity(
+      final Set<Class<? extends Component>> filter, final Consumer<Entity> action) {
+    mapper(filter).forEach(action);
+  }
+
+  /**
+   * Get the {@link EntitySystemMapper} with the given filter rules from the {@link
+   * #activeEntityStorage}.
+   *
+   * <p>If no such {@link EntitySystemMapper} exists, a new one will be created.
+   *
+   * @param filter Set of Component classes that define the filter rules.
+   * @return the {@link EntitySystemMapper} for the given filter rules.
+   */
+  private static EntitySystemMapper mapper(final Set<Class<? extends Component>> filter) {
+    for (EntitySystemMapper mapper : activeEntityStorage) if (mapper.equals(filter)) return mapper;
+    return createNewEntitySystemMapper(filter);
   }
 
   /**
@@ -204,7 +346,7 @@ public final class ECSManagment {
    * @see Optional
    */
   public static Optional<Entity> hero() {
-    return entityStream().filter(e -> e.isPresent(PlayerComponent.class)).findFirst();
+    return entityStream(Set.of(PlayerComponent.class)).findFirst();
   }
 
   /**
@@ -216,7 +358,10 @@ public final class ECSManagment {
    */
   public static void remove(final Class<? extends System> system) {
     System systemInstance = SYSTEMS.remove(system);
-    if (systemInstance != null) activeEntityStorage.forEach(f -> f.remove(systemInstance));
+    if (systemInstance != null) {
+      systemList = List.copyOf(SYSTEMS.values());
+      activeEntityStorage.forEach(f -> f.remove(systemInstance));
+    }
   }
 
   /**
@@ -0,0 +1,403 @@
+package core.game;
+
+import core.Component;
+import core.System;
+import core.utils.EntitySystemMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Records where the time of each frame goes.
+ *
+ * <p>If the profiler is {@link #enabled(boolean) enabled}, the {@link GameLoop} and the {@link
+ * HeadlessGameLoop} record for each frame:
+ *
+ * <ul>
+ *   <li>the time of the whole frame,
+ *   <li>the execution time of each {@link System},
+ *   <li>the number of entities in each {@link EntitySystemMapper} at the end of the frame,
+ *   <li>the number of bytes allocated by all threads during the frame (if the JVM supports it,
+ *       otherwise -1), and
+ *   <li>the number of draw calls (0 in the {@link HeadlessGameLoop}).
+ * </ul>
+ *
+ * <p>The last {@link #CAPACITY} frames are kept in a ring buffer of primitive arrays, so recording
+ * a frame does not allocate any objects for systems and mappers that were seen before. Use {@link
+ * #frames()} to get the recorded frames, and {@link #exportCsv(Writer)} or {@link
+ * #exportJson(Writer)} to save them. The {@link GameLoop} can show a summary in a HUD overlay
+ * (see {@link #overlay(boolean)}), which is toggled with {@link
+ * core.configuration.KeyboardConfig#TOGGLE_PROFILER}.
+ *
+ * <p>The profiler is disabled by default and costs nothing but a few checks while disabled.
+ */
+public final class FrameProfiler {
+
+  /** Number of frames that are kept. */
+  public static final int CAPACITY = 600;
+
+  private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+  private static final long[] FRAME_NUMBERS = new long[CAPACITY];
+  private static final long[] FRAME_NANOS = new long[CAPACITY];
+  private static final long[] ALLOCATED_BYTES = new long[CAPACITY];
+  private static final int[] DRAW_CALLS = new int[CAPACITY];
+  private static final List<String> SYSTEM_NAMES = new ArrayList<>();
+  private static final Map<Class<? extends System>, Integer> SYSTEM_INDEX = new HashMap<>();
+  private static final List<String> MAPPER_NAMES = new ArrayList<>();
+  private static final Map<Set<Class<? extends Component>>, Integer> MAPPER_INDEX =
+      new HashMap<>();
+  // [slot][index], -1 if the system was not executed or the mapper did not exist in the frame
+  private static long[][] systemNanos = new long[CAPACITY][0];
+  private static int[][] entityCounts = new int[CAPACITY][0];
+
+  private static boolean enabled = false;
+  private static boolean overlay = false;
+  private static boolean recording = false;
+  private static int head = 0;
+  private static int count = 0;
+  private static long frameStart;
+  private static long allocationStart;
+
+  private FrameProfiler() {}
+
+  /**
+   * Check if the profiler records frames.
+   *
+   * @return true if the profiler is enabled, false if not.
+   */
+  public static boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable or disable the recording of frames.
+   *
+   * <p>The change takes effect with the next frame. The recorded frames are kept.
+   *
+   * @param enable true to enable the profiler, false to disable it.
+   */
+  public static void enabled(boolean enable) {
+    enabled = enable;
+  }
+
+  /**
+   * Check if the {@link GameLoop} shows the HUD overlay of the profiler.
+   *
+   * @return true if the overlay is shown, false if not.
+   */
+  public static boolean overlay() {
+    return overlay;
+  }
+
+  /**
+   * Show or hide the HUD overlay of the profiler.
+   *
+   * <p>Showing the overlay also {@link #enabled(boolean) enables} the profiler.
+   *
+   * @param show true to show the overlay, false to hide it.
+   */
+  public static void overlay(boolean show) {
+    overlay = show;
+    if (show) enabled = true;
+  }
+
+  /**
+   * Get the recorded frames.
+   *
+   * @return The recorded frames, the oldest first.
+   */
+  public static synchronized List<Frame> frames() {
+    List<Frame> frames = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) frames.add(frame((head - count + i + CAPACITY) % CAPACITY));
+    return frames;
+  }
+
+  /**
+   * Get the last recorded frame.
+   *
+   * @return The last recorded frame, or an empty Optional if no frame was recorded.
+   */
+  public static synchronized Optional<Frame> lastFrame() {
+    if (count == 0) return Optional.empty();
+    return Optional.of(frame((head - 1 + CAPACITY) % CAPACITY));
+  }
+
+  /** Remove all recorded frames. */
+  public static synchronized void clear() {
+    head = 0;
+    count = 0;
+  }
+
+  /**
+   * Write the recorded frames as CSV.
+   *
+   * <p>The file has one line per frame, with the columns frame, frameMillis, allocatedBytes,
+   * drawCalls, one column "system:&lt;name&gt;" per system with its execution time in milliseconds,
+   * and one column "entities:&lt;filter&gt;" per entity mapper with its number of entities. Empty
+   * cells mean that the system was not executed or the mapper did not exist in this frame.
+   *
+   * @param out Writer to write to. The writer is not closed.
+   * @throws IOException if the writer fails.
+   */
+  public static void exportCsv(final Writer out) throws IOException {
+    List<String> systems;
+    List<String> mappers;
+    List<Frame> frames;
+    synchronized (FrameProfiler.class) {
+      systems = List.copyOf(SYSTEM_NAMES);
+      mappers = List.copyOf(MAPPER_NAMES);
+      frames = frames();
+    }
+    out.write("frame,frameMillis,allocatedBytes,drawCalls");
+    for (String system : systems) out.write(",system:" + system);
+    for (String mapper : mappers) out.write(",entities:" + mapper);
+    out.write("\n");
+    for (Frame frame : frames) {
+      out.write(
+          frame.frame()
+              + ","
+              + frame.frameMillis()
+              + ","
+              + frame.allocatedBytes()
+              + ","
+              + frame.drawCalls());
+      for (String system : systems) {
+        Float millis = frame.systemMillis().get(system);
+        out.write("," + (millis == null ? "" : millis));
+      }
+      for (String mapper : mappers) {
+        Integer entities = frame.entityCounts().get(mapper);
+        out.write("," + (entities == null ? "" : entities));
+      }
+      out.write("\n");
+    }
+    out.flush();
+  }
+
+  /**
+   * Write the recorded frames as JSON.
+   *
+   * <p>The JSON document is an array with one object per frame, with the keys frame, frameMillis,
+   * allocatedBytes, drawCalls, systemMillis (an object that maps the system names to their
+   * execution times), and entityCounts (an object that maps the mapper filters to their number of
+   * entities).
+   *
+   * @param out Writer to write to. The writer is not closed.
+   * @throws IOException if the writer fails.
+   */
+  public static void exportJson(final Writer out) throws IOException {
+    List<Frame> frames = frames();
+    out.write("[");
+    for (int i = 0; i < frames.size(); i++) {
+      Frame frame = frames.get(i);
+      out.write(i == 0 ? "\n" : ",\n");
+      out.write("  {\"frame\": " + frame.frame());
+      out.write(", \"frameMillis\": " + frame.frameMillis());
+      out.write(", \"allocatedBytes\": " + frame.allocatedBytes());
+      out.write(", \"drawCalls\": " + frame.drawCalls());
+      out.write(", \"systemMillis\": " + jsonObject(frame.systemMillis()));
+      out.write(", \"entityCounts\": " + jsonObject(frame.entityCounts()) + "}");
+    }
+    out.write(frames.isEmpty() ? "]\n" : "\n]\n");
+    out.flush();
+  }
+
+  /**
+   * Get a short text summary of the last recorded frame.
+   *
+   * <p>The summary contains the frame time (and the average frame time of all recorded frames),
+   * the allocated bytes, the draw calls, and the slowest systems.
+   *
+   * @param systems Maximum number of systems in the summary.
+   * @return The summary, or an empty string if no frame was recorded.
+   */
+  public static synchronized String summary(int systems) {
+    Optional<Frame> last = lastFrame();
+    if (last.isEmpty()) return "";
+    Frame frame = last.get();
+    long total = 0;
+    for (int i = 0; i < count; i++) total += FRAME_NANOS[i];
+    StringBuilder text = new StringBuilder();
+    text.append(
+        String.format(
+            "frame %.2f ms (avg %.2f ms), %d KB allocated, %d draw calls",
+            frame.frameMillis(),
+            total / (count * 1_000_000f),
+            frame.allocatedBytes() < 0 ? -1 : frame.allocatedBytes() / 1024,
+            frame.drawCalls()));
+    frame.systemMillis().entrySet().stream()
+        .sorted(Map.Entry.<String, Float>comparingByValue(Comparator.reverseOrder()))
+        .limit(systems)
+        .forEach(
+            entry ->
+                text.append(String.format("%n%s %.2f ms", entry.getKey(), entry.getValue())));
+    return text.toString();
+  }
+
+  /** Start the recording of a frame, if the profiler is enabled. */
+  static synchronized void beginFrame() {
+    recording = enabled;
+    if (!recording) return;
+    Arrays.fill(systemNanos[head], -1);
+    Arrays.fill(entityCounts[head], -1);
+    allocationStart = allocatedBytes();
+    frameStart = java.lang.System.nanoTime();
+  }
+
+  /**
+   * Execute the given system and record its execution time, if a frame is recorded.
+   *
+   * @param system System to execute.
+   */
+  static void execute(final System system) {
+    if (!recording) {
+      system.execute();
+      return;
+    }
+    long start = java.lang.System.nanoTime();
+    try {
+      system.execute();
+    } finally {
+      recordSystem(system, java.lang.System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Finish the recording of a frame.
+   *
+   * @param drawCalls Number of draw calls in this frame.
+   */
+  static synchronized void endFrame(int drawCalls) {
+    if (!recording) return;
+    recording = false;
+    FRAME_NANOS[head] = java.lang.System.nanoTime() - frameStart;
+    long allocated = allocatedBytes();
+    ALLOCATED_BYTES[head] = allocated < 0 || allocationStart < 0 ? -1 : allocated - allocationStart;
+    DRAW_CALLS[head] = drawCalls;
+    FRAME_NUMBERS[head] = GameClock.frames();
+    for (EntitySystemMapper mapper : ECSManagment.activeEntityStorage()) {
+      int index = mapperIndex(mapper.filterRules());
+      entityCounts[head][index] = mapper.size();
+    }
+    head = (head + 1) % CAPACITY;
+    count = Math.min(count + 1, CAPACITY);
+  }
+
+  private static synchronized void recordSystem(final System system, long nanos) {
+    int index = systemIndex(system);
+    long[] row = systemNanos[head];
+    row[index] = row[index] < 0 ? nanos : row[index] + nanos;
+  }
+
+  private static int systemIndex(final System system) {
+    Integer index = SYSTEM_INDEX.get(system.getClass());
+    if (index != null) return index;
+    index = SYSTEM_NAMES.size();
+    SYSTEM_NAMES.add(system.getClass().getSimpleName());
+    SYSTEM_INDEX.put(system.getClass(), index);
+    systemNanos = grow(systemNanos, SYSTEM_NAMES.size());
+    return index;
+  }
+
+  private static int mapperIndex(final Set<Class<? extends Component>> filterRules) {
+    Integer index = MAPPER_INDEX.get(filterRules);
+    if (index != null) return index;
+    index = MAPPER_NAMES.size();
+    MAPPER_NAMES.add(
+        filterRules.isEmpty()
+            ? "all"
+            : filterRules.stream()
+                .map(Class::getSimpleName)
+                .sorted()
+                .collect(Collectors.joining("+")));
+    MAPPER_INDEX.put(Set.copyOf(filterRules), index);
+    int[][] grown = new int[CAPACITY][];
+    for (int i = 0; i < CAPACITY; i++) {
+      grown[i] = Arrays.copyOf(entityCounts[i], MAPPER_NAMES.size());
+      grown[i][index] = -1;
+    }
+    entityCounts = grown;
+    return index;
+  }
+
+  private static long[][] grow(final long[][] rows, int length) {
+    long[][] grown = new long[CAPACITY][];
+    for (int i = 0; i < CAPACITY; i++) {
+      grown[i] = Arrays.copyOf(rows[i], length);
+      grown[i][length - 1] = -1;
+    }
+    return grown;
+  }
+
+  private static Frame frame(int slot) {
+    Map<String, Float> systems = new LinkedHashMap<>();
+    long[] nanos = systemNanos[slot];
+    for (int i = 0; i < nanos.length; i++) {
+      if (nanos[i] >= 0) systems.put(SYSTEM_NAMES.get(i), nanos[i] / 1_000_000f);
+    }
+    Map<String, Integer> entities = new LinkedHashMap<>();
+    int[] counts = entityCounts[slot];
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] >= 0) entities.put(MAPPER_NAMES.get(i), counts[i]);
+    }
+    return new Frame(
+        FRAME_NUMBERS[slot],
+        FRAME_NANOS[slot] / 1_000_000f,
+        ALLOCATED_BYTES[slot],
+        DRAW_CALLS[slot],
+        Collections.unmodifiableMap(systems),
+        Collections.unmodifiableMap(entities));
+  }
+
+  private static String jsonObject(final Map<String, ?> values) {
+    return values.entrySet().stream()
+        .map(entry -> "\"" + jsonEscape(entry.getKey()) + "\": " + entry.getValue())
+        .collect(Collectors.joining(", ", "{", "}"));
+  }
+
+  private static String jsonEscape(final String text) {
+    return text.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  private static long allocatedBytes() {
+    return THREADS == null ? -1 : THREADS.getTotalThreadAllocatedBytes();
+  }
+
+  private static com.sun.management.ThreadMXBean threadBean() {
+    if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean))
+      return null;
+    if (!bean.isThreadAllocatedMemorySupported()) return null;
+    if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+    return bean;
+  }
+
+  /**
+   * A recorded frame.
+   *
+   * @param frame Number of the frame (see {@link GameClock#frames()}).
+   * @param frameMillis Time of the whole frame in milliseconds.
+   * @param allocatedBytes Bytes allocated by all threads during the frame, or -1 if unknown.
+   * @param drawCalls Number of draw calls.
+   * @param systemMillis Execution time in milliseconds of each executed system, by class name.
+   * @param entityCounts Number of entities of each entity mapper, by filter.
+   */
+  public record Frame(
+      long frame,
+      float frameMillis,
+      long allocatedBytes,
+      int drawCalls,
+      Map<String, Float> systemMillis,
+      Map<String, Integer> entityCounts) {}
+}
@@ -0,0 +1,132 @@
+package core.game;
+
+/**
+ * The clock of the game.
+ *
+ * <p>The clock is advanced once at the beginning of each frame by the {@link GameLoop} or the
+ * {@link HeadlessGameLoop}. Systems should use {@link #deltaTime()} instead of {@code
+ * Gdx.graphics.getDeltaTime()}, so they work the same way with and without a window, and {@link
+ * #millis()} instead of {@code System.currentTimeMillis()}, so their timers pause with the game.
+ *
+ * <p>The game time can be scaled with {@link #timeScale(float)} (e.g. for slow motion or to fast
+ * forward) and stopped with {@link #paused(boolean)}. Each frame, the real time since the last
+ * frame is multiplied by the time scale, or set to 0 if the clock is paused.
+ *
+ * <p>Each time the clock is advanced, the {@link TimerScheduler} executes all timers that are due.
+ */
+public final class GameClock {
+
+  private static float deltaTime = 0f;
+  private static double time = 0;
+  private static long frames = 0;
+  private static float timeScale = 1f;
+  private static boolean paused = false;
+
+  private GameClock() {}
+
+  /**
+   * Get the game time between the last frame and the current frame.
+   *
+   * @return Delta time in seconds.
+   */
+  public static float deltaTime() {
+    return deltaTime;
+  }
+
+  /**
+   * Get the game time that passed since the first frame.
+   *
+   * @return Game time in seconds.
+   */
+  public static float time() {
+    return (float) time;
+  }
+
+  /**
+   * Get the game time that passed since the first frame.
+   *
+   * <p>Use this instead of {@code System.currentTimeMillis()} to measure durations in the game.
+   *
+   * @return Game time in milliseconds.
+   */
+  public static long millis() {
+    return (long) (time * 1000);
+  }
+
+  /**
+   * Get the number of frames since the start of the game.
+   *
+   * <p>This is 0 before the first frame was started.
+   *
+   * @return Number of started frames.
+   */
+  public static long frames() {
+    return frames;
+  }
+
+  /**
+   * Get the factor the real time is multiplied with to get the game time.
+   *
+   * @return The time scale, 1 by default.
+   */
+  public static float timeScale() {
+    return timeScale;
+  }
+
+  /**
+   * Set the factor the real time is multiplied with to get the game time.
+   *
+   * @param scale The new time scale, e.g. 0.5 for half speed or 2 for double speed.
+   * @throws IllegalArgumentException if the scale is negative.
+   */
+  public static void timeScale(float scale) {
+    if (scale < 0) throw new IllegalArgumentException("The time scale can not be negative.");
+    timeScale = scale;
+  }
+
+  /**
+   * Check if the game time is paused.
+   *
+   * @return true if the game time is paused, false if not.
+   */
+  public static boolean paused() {
+    return paused;
+  }
+
+  /**
+   * Pause or resume the game time.
+   *
+   * <p>While the game time is paused, {@link #deltaTime()} is 0 and no timer of the {@link
+   * TimerScheduler} is executed. The frames are still counted.
+   *
+   * @param pause true to pause the game time, false to resume it.
+   */
+  public static void paused(boolean pause) {
+    paused = pause;
+  }
+
+  /**
+   * Advance the clock to the next frame and execute the due timers.
+   *
+   * @param delta Real time in seconds since the last frame.
+   */
+  static void tick(float delta) {
+    deltaTime = paused ? 0f : delta * timeScale;
+    time += deltaTime;
+    frames++;
+    TimerScheduler.dispatch(time);
+  }
+
+  /**
+   * Reset the clock to the state before the first frame.
+   *
+   * <p>All timers of the {@link TimerScheduler} are cancelled. The time scale and the pause state
+   * are kept.
+   */
+  static void reset() {
+    deltaTime = 0f;
+    time = 0;
+    frames = 0;
+    TimerScheduler.reset();
+  }
+}
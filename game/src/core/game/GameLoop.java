@@ -14,11 +14,16 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.level.Tile;
 import core.level.generator.postGeneration.WallGenerator;
 import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.LevelElement;
 import core.systems.*;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
+import core.utils.components.sound.SoundManager;
+import core.utils.logging.LoggerConfig;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +43,7 @@ import java.util.logging.Logger;
 public final class GameLoop extends ScreenAdapter {
   private static final Logger LOGGER = Logger.getLogger(GameLoop.class.getSimpleName());
   private static Stage stage;
+  private final SystemScheduler scheduler = new SystemScheduler();
   private boolean doSetup = true;
   private boolean newLevelWasLoadedInThisLoop = false;
 
@@ -45,36 +51,22 @@ public final class GameLoop extends ScreenAdapter {
    * Sets {@link Game#currentLevel} to the new level and changes the currently active entity
    * storage.
    *
-   * <p>Will remove all Systems using {@link ECSManagment#removeAllSystems()} from the Game. This
-   * will trigger {@link System#onEntityRemove} for the old level. Then, it will readd all Systems
-   * using {@link ECSManagment#add(System)}, triggering {@link System#onEntityAdd} for the new
-   * level.
+   * <p>See {@link #changeActiveEntityStorage()} for the details.
    *
-   * <p>Will re-add the hero if they exist.
+   * <p>All tile textures of the new level are packed into the texture atlas at once.
    */
   private final IVoidFunction onLevelLoad =
       () -> {
         newLevelWasLoadedInThisLoop = true;
-        Optional<Entity> hero = ECSManagment.hero();
-        boolean firstLoad = !ECSManagment.levelStorageMap().containsKey(Game.currentLevel());
-        hero.ifPresent(ECSManagment::remove);
-        // Remove the systems so that each triggerOnRemove(entity) will be called (basically
-        // cleanup).
-        Map<Class<? extends System>, System> s = ECSManagment.systems();
-        ECSManagment.removeAllSystems();
-        ECSManagment.activeEntityStorage(
-            ECSManagment.levelStorageMap()
-                .computeIfAbsent(Game.currentLevel(), k -> new HashSet<>()));
-        // readd the systems so that each triggerOnAdd(entity) will be called (basically
-        // setup). This will also create new EntitySystemMapper if needed.
-        s.values().forEach(ECSManagment::add);
-
-        try {
-          hero.ifPresent(this::placeOnLevelStart);
-        } catch (MissingComponentException e) {
-          LOGGER.warning(e.getMessage());
-        }
-        hero.ifPresent(ECSManagment::add);
+        boolean firstLoad = changeActiveEntityStorage();
+        // pack all tile textures of the new level into the atlas at once
+        DrawSystem.painter()
+            .preload(
+                Arrays.stream(Game.currentLevel().layout())
+                    .flatMap(Arrays::stream)
+                    .filter(tile -> tile.levelElement() != LevelElement.SKIP)
+                    .map(Tile::texturePath)
+                    .toList());
         Game.currentLevel().onLoad();
         PreRunConfiguration.userOnLevelLoad().accept(firstLoad);
       };
@@ -82,6 +74,47 @@ public final class GameLoop extends ScreenAdapter {
   // for singleton
   private GameLoop() {}
 
+  /**
+   * Changes the currently active entity storage to the storage of the current level.
+   *
+   * <p>Will remove all Systems using {@link ECSManagment#removeAllSystems()} from the Game. This
+   * will trigger {@link System#onEntityRemove} for the old level. Then, it will readd all Systems
+   * using {@link ECSManagment#add(System)}, triggering {@link System#onEntityAdd} for the new
+   * level.
+   *
+   * <p>Will re-add the hero if they exist.
+   *
+   * <p>Recorded structural changes will be applied to the old level before the switch. The switch
+   * itself is never deferred.
+   *
+   * @return true if the current level is loaded for the first time, false if not.
+   */
+  static boolean changeActiveEntityStorage() {
+    boolean deferChanges = ECSManagment.deferChanges();
+    ECSManagment.deferChanges(false);
+    Optional<Entity> hero = ECSManagment.hero();
+    boolean firstLoad = !ECSManagment.levelStorageMap().containsKey(Game.currentLevel());
+    hero.ifPresent(ECSManagment::remove);
+    // Remove the systems so that each triggerOnRemove(entity) will be called (basically
+    // cleanup).
+    Map<Class<? extends System>, System> s = ECSManagment.systems();
+    ECSManagment.removeAllSystems();
+    ECSManagment.activeEntityStorage(
+        ECSManagment.levelStorageMap().computeIfAbsent(Game.currentLevel(), k -> new HashSet<>()));
+    // readd the systems so that each triggerOnAdd(entity) will be called (basically
+    // setup). This will also create new EntitySystemMapper if needed.
+    s.values().forEach(ECSManagment::add);
+
+    try {
+      hero.ifPresent(GameLoop::placeOnLevelStart);
+    } catch (MissingComponentException e) {
+      LOGGER.warning(e.getMessage());
+    }
+    hero.ifPresent(ECSManagment::add);
+    ECSManagment.deferChanges(deferChanges);
+    return firstLoad;
+  }
+
   /** Starts the dungeon. */
   public static void run() {
     Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
@@ -107,6 +140,8 @@ public final class GameLoop extends ScreenAdapter {
           @Override
           public void dispose(){
             PreRunConfiguration.userOnExit().execute();
+            SoundManager.dispose();
+            LoggerConfig.flush();
             super.dispose();
           }
         },
@@ -143,32 +178,46 @@ public final class GameLoop extends ScreenAdapter {
    *
    * <p>Triggers the execution of the systems and the event callbacks.
    *
-   * <p>Will trigger {@link #frame} and {@link PreRunConfiguration#userOnFrame()}.
+   * <p>Will advance the {@link GameClock} and trigger {@link #frame} and {@link
+   * PreRunConfiguration#userOnFrame()}.
+   *
+   * <p>All sprites recorded by the systems are drawn at once via {@link
+   * core.utils.components.draw.Painter#flush()} after the systems were executed.
+   *
+   * <p>Recorded structural changes are applied via {@link ECSManagment#flushChanges()} after the
+   * frame callbacks and after each system execution.
+   *
+   * <p>The systems are executed by the {@link SystemScheduler}. If {@link
+   * PreRunConfiguration#parallelSystems()} is enabled, it runs systems with non-conflicting
+   * component access in parallel, and the changes are applied each time no system is running.
    *
    * <p>On the first frame, {@link #setup()} and {@link PreRunConfiguration#userOnSetup()} are
    * triggered.
    *
+   * <p>If the {@link FrameProfiler} is enabled, the frame is recorded, and its HUD overlay is
+   * updated if it is shown.
+   *
    * @param delta The time since the last loop.
    */
   @Override
   public void render(float delta) {
     if (doSetup) setup();
+    FrameProfiler.beginFrame();
+    GameClock.tick(delta);
     DrawSystem.batch().setProjectionMatrix(CameraSystem.camera().combined);
     frame();
+    ECSManagment.flushChanges();
     clearScreen();
 
-    for (System system : ECSManagment.systems().values()) {
-      // if a new level was loaded, stop this loop-run
-      if (newLevelWasLoadedInThisLoop) break;
-      system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
-      if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
-        system.execute();
-        system.lastExecuteInFrames(0);
-      }
-    }
+    // if a new level was loaded, stop this loop-run
+    scheduler.execute(ECSManagment.systemList(), () -> newLevelWasLoadedInThisLoop);
     newLevelWasLoadedInThisLoop = false;
+    // draw everything the systems recorded in this frame
+    DrawSystem.painter().flush();
     CameraSystem.camera().update();
+    FrameProfiler.endFrame(DrawSystem.painter().renderCalls());
     // stage logic
+    stage().ifPresent(ProfilerOverlay::update);
     stage().ifPresent(GameLoop::updateStage);
   }
 
@@ -197,6 +246,7 @@ public final class GameLoop extends ScreenAdapter {
    */
   private void frame() {
     fullscreenKey();
+    profilerKey();
     PreRunConfiguration.userOnFrame().execute();
   }
 
@@ -211,6 +261,12 @@ public final class GameLoop extends ScreenAdapter {
     }
   }
 
+  private void profilerKey() {
+    if (Gdx.input.isKeyJustPressed(core.configuration.KeyboardConfig.TOGGLE_PROFILER.value())) {
+      FrameProfiler.overlay(!FrameProfiler.overlay());
+    }
+  }
+
   /**
    * Set the position of the given entity to the position of the level-start.
    *
@@ -218,7 +274,7 @@ public final class GameLoop extends ScreenAdapter {
    *
    * @param entity entity to set on the start of the level, normally this is the hero.
    */
-  private void placeOnLevelStart(final Entity entity) {
+  private static void placeOnLevelStart(final Entity entity) {
     ECSManagment.add(entity);
     PositionComponent pc =
         entity
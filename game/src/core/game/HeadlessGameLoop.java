@@ -0,0 +1,139 @@
+package core.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+import core.Game;
+import core.System;
+import core.level.generator.postGeneration.WallGenerator;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.systems.CameraSystem;
+import core.systems.DrawSystem;
+import core.systems.LevelSystem;
+import core.systems.PlayerSystem;
+import core.systems.PositionSystem;
+import core.systems.VelocitySystem;
+import core.utils.IVoidFunction;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * A game loop without window, OpenGL context, and audio output.
+ *
+ * <p>The headless game loop executes all systems that are not used for rendering or user input
+ * with a fixed timestep of {@code 1 / frameRate} seconds. It does not wait between the frames, so
+ * it runs as fast as the CPU allows. Use it for bots, automated level and balancing checks, tests,
+ * or server-side validation.
+ *
+ * <p>Use {@link #run(int)} to simulate a number of frames. The first call will perform the setup,
+ * which triggers {@link PreRunConfiguration#userOnSetup()} and loads the first level. Use {@link
+ * #step()} to simulate a single frame. The event callbacks configured in the {@link
+ * PreRunConfiguration} are triggered the same way as in the {@link GameLoop}.
+ *
+ * <p>The {@link DrawSystem}, {@link CameraSystem}, and {@link PlayerSystem} are not created and
+ * will not be executed if they are added by the user. Use {@link #excludeSystem(Class)} to exclude
+ * other systems that need a window, like HUD systems. The {@link LevelSystem} will not draw the
+ * level.
+ *
+ * <p>{@link Gdx#files} is set to the headless file implementation and {@link Gdx#audio} to a mock
+ * implementation that does not play any sound, if they are not set yet. {@link Gdx#graphics} and
+ * {@link Gdx#input} stay unset.
+ *
+ * <p>All API methods can also be accessed via the {@link core.Game} class.
+ */
+public final class HeadlessGameLoop {
+  private static final Logger LOGGER = Logger.getLogger(HeadlessGameLoop.class.getSimpleName());
+  private static final Set<Class<? extends System>> EXCLUDED_SYSTEMS =
+      new HashSet<>(Set.of(DrawSystem.class, CameraSystem.class, PlayerSystem.class));
+  private static final SystemScheduler SCHEDULER = new SystemScheduler();
+  private static boolean doSetup = true;
+  private static boolean newLevelWasLoadedInThisStep = false;
+
+  private static final IVoidFunction ON_LEVEL_LOAD =
+      () -> {
+        newLevelWasLoadedInThisStep = true;
+        boolean firstLoad = GameLoop.changeActiveEntityStorage();
+        Game.currentLevel().onLoad();
+        PreRunConfiguration.userOnLevelLoad().accept(firstLoad);
+      };
+
+  private HeadlessGameLoop() {}
+
+  /**
+   * Simulate the given number of frames.
+   *
+   * <p>If the headless game loop was not set up yet, the setup will be performed first.
+   *
+   * @param frames Number of frames to simulate.
+   */
+  public static void run(int frames) {
+    for (int i = 0; i < frames; i++) step();
+  }
+
+  /**
+   * Simulate a single frame.
+   *
+   * <p>Advances the {@link GameClock} by {@link #timestep()}, triggers {@link
+   * PreRunConfiguration#userOnFrame()}, and executes all systems that are not excluded. The frame
+   * is recorded by the {@link FrameProfiler}, if it is enabled.
+   *
+   * <p>If the headless game loop was not set up yet, the setup will be performed first.
+   */
+  public static void step() {
+    if (doSetup) setup();
+    FrameProfiler.beginFrame();
+    GameClock.tick(timestep());
+    PreRunConfiguration.userOnFrame().execute();
+    ECSManagment.flushChanges();
+    List<System> systems =
+        ECSManagment.systemList().stream()
+            .filter(system -> !EXCLUDED_SYSTEMS.contains(system.getClass()))
+            .toList();
+    // if a new level was loaded, stop this step
+    SCHEDULER.execute(systems, () -> newLevelWasLoadedInThisStep);
+    newLevelWasLoadedInThisStep = false;
+    FrameProfiler.endFrame(0);
+  }
+
+  /**
+   * Get the fixed time between two simulated frames.
+   *
+   * @return Timestep in seconds, based on {@link PreRunConfiguration#frameRate()}.
+   */
+  public static float timestep() {
+    return 1f / PreRunConfiguration.frameRate();
+  }
+
+  /**
+   * Exclude the given system from the headless game loop.
+   *
+   * <p>Use this for systems that need a window, an OpenGL context, or user input.
+   *
+   * @param system Class of the system to exclude.
+   */
+  public static void excludeSystem(final Class<? extends System> system) {
+    EXCLUDED_SYSTEMS.add(system);
+  }
+
+  /**
+   * Called once before the first simulated frame.
+   *
+   * <p>Creates the systems, triggers {@link PreRunConfiguration#userOnSetup()}, and executes the
+   * {@link LevelSystem} once to load the first level.
+   */
+  private static void setup() {
+    doSetup = false;
+    if (Gdx.files == null) Gdx.files = new HeadlessFiles();
+    if (Gdx.audio == null) Gdx.audio = new MockAudio();
+    GameClock.reset();
+    ECSManagment.add(new PositionSystem());
+    ECSManagment.add(
+        new LevelSystem(null, new WallGenerator(new RandomWalkGenerator()), ON_LEVEL_LOAD));
+    ECSManagment.add(new VelocitySystem());
+    PreRunConfiguration.userOnSetup().execute();
+    Game.systems().get(LevelSystem.class).execute();
+    LOGGER.info("The headless game loop was set up.");
+  }
+}
@@ -30,6 +30,8 @@ public final class PreRunConfiguration {
   private static String WINDOW_TITLE = "PM-Dungeon";
   private static IPath LOGO_PATH = new SimpleIPath("logo/cat_logo_35x35.png");
   private static boolean DISABLE_AUDIO = false;
+  private static boolean PARALLEL_SYSTEMS = false;
+  private static int PREGENERATED_LEVELS = 0;
   private static IVoidFunction userOnFrame = () -> {};
   private static IVoidFunction userOnSetup = () -> {};
   private static Consumer<Boolean> userOnLevelLoad = (b) -> {};
@@ -161,6 +163,58 @@ public final class PreRunConfiguration {
     DISABLE_AUDIO = disableAudio;
   }
 
+  /**
+   * Checks if systems with non-conflicting component access are executed in parallel.
+   *
+   * @return True if systems are executed in parallel, false if they are executed one after
+   *     another.
+   */
+  public static boolean parallelSystems() {
+    return PARALLEL_SYSTEMS;
+  }
+
+  /**
+   * Sets whether systems with non-conflicting component access should be executed in parallel.
+   *
+   * <p>Only systems that declare their component access via {@link core.System#reads} and {@link
+   * core.System#writes} can be executed in parallel. Disabled by default, because the callbacks of
+   * some systems (e.g. death or interaction callbacks) may access the rendering or audio backend,
+   * which is only available on the main thread.
+   *
+   * @param parallelSystems True to execute systems in parallel, false to execute them one after
+   *     another on the main thread.
+   */
+  public static void parallelSystems(boolean parallelSystems) {
+    PARALLEL_SYSTEMS = parallelSystems;
+  }
+
+  /**
+   * Gets the number of levels that are generated in the background, while the current level is
+   * played.
+   *
+   * @return Number of pregenerated levels, 0 if the pregeneration is disabled.
+   */
+  public static int pregeneratedLevels() {
+    return PREGENERATED_LEVELS;
+  }
+
+  /**
+   * Sets the number of levels that should be generated in the background, while the current level
+   * is played.
+   *
+   * <p>If the next level is loaded with the {@link core.systems.LevelSystem}, a pregenerated level
+   * is used instead of generating a new one, if one with the wanted size and design is available.
+   * The used {@link core.level.generator.IGenerator} has to be thread-safe.
+   *
+   * @param pregeneratedLevels Number of pregenerated levels, 0 to disable the pregeneration.
+   * @throws IllegalArgumentException if the number is negative.
+   */
+  public static void pregeneratedLevels(int pregeneratedLevels) {
+    if (pregeneratedLevels < 0)
+      throw new IllegalArgumentException("The number of pregenerated levels can not be negative.");
+    PREGENERATED_LEVELS = pregeneratedLevels;
+  }
+
   /**
    * Gets the user-defined function for frame logic.
    *
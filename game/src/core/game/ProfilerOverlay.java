@@ -0,0 +1,54 @@
+package core.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * HUD overlay that shows the {@link FrameProfiler#summary(int) summary} of the {@link
+ * FrameProfiler} in the top left corner of the stage.
+ *
+ * <p>The text is updated only every {@link #UPDATE_INTERVAL} frames, so it can be read and does not
+ * distort the measured allocations too much.
+ */
+final class ProfilerOverlay {
+
+  private static final int UPDATE_INTERVAL = 15;
+  private static final int SHOWN_SYSTEMS = 8;
+  private static final float MARGIN = 10f;
+
+  private static BitmapFont font;
+  private static Label label;
+
+  private ProfilerOverlay() {}
+
+  /**
+   * Show, update, or hide the overlay, depending on {@link FrameProfiler#overlay()}.
+   *
+   * @param stage Stage to show the overlay on.
+   */
+  static void update(final Stage stage) {
+    if (!FrameProfiler.overlay()) {
+      if (label != null) {
+        label.remove();
+        font.dispose();
+        label = null;
+        font = null;
+      }
+      return;
+    }
+    if (label == null) {
+      font = new BitmapFont();
+      label = new Label("", new Label.LabelStyle(font, Color.WHITE));
+      stage.addActor(label);
+    }
+    if (GameClock.frames() % UPDATE_INTERVAL == 0 || label.getText().length == 0) {
+      label.setText(FrameProfiler.summary(SHOWN_SYSTEMS));
+      label.pack();
+    }
+    label.setPosition(MARGIN, stage.getHeight() - MARGIN, Align.topLeft);
+    label.toFront();
+  }
+}
@@ -0,0 +1,181 @@
+package core.game;
+
+import core.System;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Executes the systems of one frame, running systems with non-conflicting component access in
+ * parallel.
+ *
+ * <p>Each frame, the scheduler builds a dependency graph of the systems that are due in this frame.
+ * A system depends on each earlier system (in the order of {@link ECSManagment#systems()}) it
+ * {@link System#conflictsWith(System) conflicts} with, so conflicting systems are still executed in
+ * the registration order. A system is started as soon as all systems it depends on are finished.
+ *
+ * <p>Systems that are {@link System#pinnedToMainThread() pinned to the main thread} are executed
+ * on the calling thread, all other systems are executed on a {@link ForkJoinPool}. Systems that
+ * did not declare their component access conflict with every other system and are therefore
+ * executed alone, just like in a sequential game loop.
+ *
+ * <p>While more than one system is executed at the same time, structural changes are {@link
+ * ECSManagment#deferChanges(boolean) deferred}. The recorded changes are applied each time no
+ * system is running anymore.
+ */
+final class SystemScheduler {
+
+  private final ExecutorService pool;
+  private final BlockingQueue<Task> finished = new LinkedBlockingQueue<>();
+
+  /**
+   * Create a new scheduler.
+   *
+   * @param pool The pool to execute the systems that are not pinned to the main thread.
+   */
+  SystemScheduler(final ExecutorService pool) {
+    this.pool = pool;
+  }
+
+  /** Create a new scheduler that uses the common {@link ForkJoinPool}. */
+  SystemScheduler() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Execute all systems that are due in this frame.
+   *
+   * <p>Same as the sequential game loop, each system increases its {@link
+   * System#lastExecuteInFrames()} counter and is executed if it is running and the counter reached
+   * {@link System#executeEveryXFrames()}.
+   *
+   * <p>If {@link PreRunConfiguration#parallelSystems()} is disabled, the systems are executed one
+   * after another on the calling thread.
+   *
+   * @param systems All systems of the game in execution order.
+   * @param abort Checked each time before new systems are started. If it returns true, no more
+   *     systems are started in this frame.
+   */
+  void execute(final Collection<System> systems, final BooleanSupplier abort) {
+    if (!PreRunConfiguration.parallelSystems()) {
+      executeSequential(systems, abort);
+      return;
+    }
+    List<Task> tasks = buildGraph(systems);
+    int done = 0;
+    int running = 0;
+    boolean deferChanges = ECSManagment.deferChanges();
+    boolean parallel = false;
+    RuntimeException failure = null;
+
+    while (done < tasks.size()) {
+      if (failure == null && !abort.getAsBoolean()) {
+        Task mainThreadTask = null;
+        for (Task task : tasks) {
+          if (task.started || task.pendingDependencies > 0) continue;
+          if (task.system.pinnedToMainThread()) {
+            if (mainThreadTask == null) mainThreadTask = task;
+            continue;
+          }
+          if (!parallel) {
+            ECSManagment.deferChanges(true);
+            parallel = true;
+          }
+          task.started = true;
+          running++;
+          pool.execute(task);
+        }
+        if (mainThreadTask != null) {
+          mainThreadTask.started = true;
+          mainThreadTask.run();
+          running++;
+          // the task is already in the finished queue and will be collected below
+        }
+      }
+
+      if (running == 0) break;
+      Task task = take();
+      running--;
+      done++;
+      if (task.failure != null && failure == null) failure = task.failure;
+      task.system.lastExecuteInFrames(0);
+      for (Task dependent : task.dependents) dependent.pendingDependencies--;
+
+      if (running == 0) {
+        if (parallel) {
+          ECSManagment.deferChanges(deferChanges);
+          parallel = false;
+        }
+        ECSManagment.flushChanges();
+      }
+    }
+    if (failure != null) throw failure;
+  }
+
+  private void executeSequential(final Collection<System> systems, final BooleanSupplier abort) {
+    for (System system : systems) {
+      if (abort.getAsBoolean()) break;
+      system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
+      if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
+        FrameProfiler.execute(system);
+        system.lastExecuteInFrames(0);
+        ECSManagment.flushChanges();
+      }
+    }
+  }
+
+  private List<Task> buildGraph(final Collection<System> systems) {
+    List<Task> tasks = new ArrayList<>();
+    for (System system : systems) {
+      system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
+      if (!system.isRunning() || system.lastExecuteInFrames() < system.executeEveryXFrames())
+        continue;
+      Task task = new Task(system);
+      for (Task earlier : tasks) {
+        if (earlier.system.conflictsWith(system)) {
+          earlier.dependents.add(task);
+          task.pendingDependencies++;
+        }
+      }
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
+  private Task take() {
+    try {
+      return finished.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the systems.", e);
+    }
+  }
+
+  private final class Task implements Runnable {
+    private final System system;
+    private final List<Task> dependents = new ArrayList<>();
+    private int pendingDependencies = 0;
+    private boolean started = false;
+    private RuntimeException failure;
+
+    private Task(final System system) {
+      this.system = system;
+    }
+
+    @Override
+    public void run() {
+      try {
+        FrameProfiler.execute(system);
+      } catch (RuntimeException e) {
+        failure = e;
+      } finally {
+        finished.add(this);
+      }
+    }
+  }
+}
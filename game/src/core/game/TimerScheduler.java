@@ -0,0 +1,197 @@
+package core.game;
+
+import core.utils.IVoidFunction;
+import java.util.PriorityQueue;
+
+/**
+ * Executes callbacks after a delay in game time.
+ *
+ * <p>Use {@link #schedule(float, IVoidFunction)} to execute a callback once and {@link
+ * #scheduleRepeating(float, float, IVoidFunction)} to execute a callback periodically. Both return
+ * a {@link Timer} that can be used to cancel the callback.
+ *
+ * <p>The delays are measured in game time (see {@link GameClock}), so the timers pause with the
+ * game, follow the {@link GameClock#timeScale() time scale}, and run as fast as the {@link
+ * HeadlessGameLoop}. The timers are executed on the main thread each time the {@link GameClock} is
+ * advanced, at the beginning of the frame, in the order of their due time. Timers with the same
+ * due time are executed in the order they were scheduled. Timers that are scheduled by a callback
+ * are executed in the next frame at the earliest.
+ *
+ * <p>The timers are stored in a binary heap, so scheduling a timer and executing a due timer is
+ * O(log n). Frames without due timers only check the head of the heap.
+ *
+ * <p>All timers are cancelled if the {@link GameClock} is reset.
+ */
+public final class TimerScheduler {
+
+  private static final PriorityQueue<Timer> QUEUE = new PriorityQueue<>();
+  private static double now = 0;
+  private static long sequence = 0;
+  private static int pending = 0;
+
+  private TimerScheduler() {}
+
+  /**
+   * Execute the given callback once after the given delay.
+   *
+   * @param delay Delay in seconds of game time.
+   * @param action Callback to execute.
+   * @return The timer of the callback.
+   * @throws IllegalArgumentException if the delay is negative.
+   */
+  public static Timer schedule(float delay, final IVoidFunction action) {
+    if (delay < 0) throw new IllegalArgumentException("The delay can not be negative.");
+    return add(delay, 0, action);
+  }
+
+  /**
+   * Execute the given callback periodically.
+   *
+   * <p>If more than one period passed since the last execution (e.g. because of a long frame), the
+   * callback is executed once for each period.
+   *
+   * @param delay Delay in seconds of game time until the first execution.
+   * @param period Time in seconds of game time between two executions.
+   * @param action Callback to execute.
+   * @return The timer of the callback.
+   * @throws IllegalArgumentException if the delay is negative or the period is not positive.
+   */
+  public static Timer scheduleRepeating(float delay, float period, final IVoidFunction action) {
+    if (delay < 0) throw new IllegalArgumentException("The delay can not be negative.");
+    if (period <= 0) throw new IllegalArgumentException("The period must be positive.");
+    return add(delay, period, action);
+  }
+
+  /**
+   * Get the number of timers that are neither executed nor cancelled.
+   *
+   * @return Number of pending timers.
+   */
+  public static synchronized int pending() {
+    return pending;
+  }
+
+  /** Cancel all timers. */
+  public static synchronized void clear() {
+    QUEUE.forEach(timer -> timer.cancelled = true);
+    QUEUE.clear();
+    pending = 0;
+  }
+
+  /** Cancel all timers and reset the game time to 0. */
+  static synchronized void reset() {
+    clear();
+    now = 0;
+  }
+
+  /**
+   * Execute all timers that are due at the given game time.
+   *
+   * @param time Current game time in seconds.
+   */
+  static void dispatch(double time) {
+    long limit;
+    synchronized (TimerScheduler.class) {
+      now = time;
+      limit = sequence;
+    }
+    Timer timer;
+    while ((timer = nextDue(limit)) != null) timer.action.execute();
+  }
+
+  private static synchronized Timer nextDue(long limit) {
+    while (!QUEUE.isEmpty()) {
+      Timer head = QUEUE.peek();
+      if (head.dueTime > now || head.sequence >= limit) return null;
+      QUEUE.poll();
+      if (head.cancelled) continue;
+      if (head.period > 0) {
+        head.dueTime += head.period;
+        QUEUE.add(head);
+      } else {
+        head.done = true;
+        pending--;
+      }
+      return head;
+    }
+    return null;
+  }
+
+  private static synchronized Timer add(double delay, double period, final IVoidFunction action) {
+    Timer timer = new Timer(now + delay, period, sequence++, action);
+    QUEUE.add(timer);
+    pending++;
+    return timer;
+  }
+
+  /** A scheduled callback. */
+  public static final class Timer implements Comparable<Timer> {
+    private final double period;
+    private final long sequence;
+    private final IVoidFunction action;
+    private double dueTime;
+    private boolean cancelled = false;
+    private boolean done = false;
+
+    private Timer(double dueTime, double period, long sequence, final IVoidFunction action) {
+      this.dueTime = dueTime;
+      this.period = period;
+      this.sequence = sequence;
+      this.action = action;
+    }
+
+    /**
+     * Cancel the timer.
+     *
+     * <p>The callback will not be executed again. Cancelling an executed or cancelled timer has no
+     * effect.
+     */
+    public void cancel() {
+      synchronized (TimerScheduler.class) {
+        if (cancelled || done) return;
+        cancelled = true;
+        pending--;
+      }
+    }
+
+    /**
+     * Check if the timer was cancelled.
+     *
+     * @return true if the timer was cancelled, false if not.
+     */
+    public boolean isCancelled() {
+      synchronized (TimerScheduler.class) {
+        return cancelled;
+      }
+    }
+
+    /**
+     * Check if the timer will not execute its callback again.
+     *
+     * @return true if the timer was executed (and is not repeating) or was cancelled, false if not.
+     */
+    public boolean isDone() {
+      synchronized (TimerScheduler.class) {
+        return done || cancelled;
+      }
+    }
+
+    /**
+     * Get the game time until the next execution.
+     *
+     * @return Remaining time in seconds, 0 if the timer is due or done.
+     */
+    public float remaining() {
+      synchronized (TimerScheduler.class) {
+        if (done || cancelled) return 0;
+        return (float) Math.max(0, dueTime - now);
+      }
+    }
+
+    @Override
+    public int compareTo(final Timer other) {
+      int byTime = Double.compare(dueTime, other.dueTime);
+      return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+    }
+  }
+}
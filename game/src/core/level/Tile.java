@@ -85,6 +85,7 @@ public abstract class Tile {
    */
   public void texturePath(final IPath texture) {
     this.texturePath = texture;
+    markDirty();
   }
 
   /**
@@ -130,6 +131,7 @@ public abstract class Tile {
    */
   public void levelElement(final LevelElement newLevelElement) {
     this.levelElement = newLevelElement;
+    markDirty();
   }
 
   /**
@@ -246,7 +248,9 @@ public abstract class Tile {
    * @param b The visibility status to set. True for visible, false for hidden.
    */
   public void visible(boolean b) {
+    if (this.visible == b) return;
     this.visible = b;
+    markDirty();
   }
 
   /**
@@ -265,7 +269,9 @@ public abstract class Tile {
    * @param color The color to set. -1 for no tint.
    */
   public void tintColor(int color) {
+    if (this.tintColor == color) return;
     this.tintColor = color;
+    markDirty();
   }
 
   /**
@@ -277,6 +283,15 @@ public abstract class Tile {
     return this.tintColor;
   }
 
+  /**
+   * Marks the chunk of this tile in the {@link ILevel#chunkCache()} of its level as dirty.
+   *
+   * <p>Call this if something changed that affects how the tile is drawn.
+   */
+  protected void markDirty() {
+    if (level != null) level.chunkCache().markDirty(globalPosition);
+  }
+
   @Override
   public String toString() {
     return "Tile{"
@@ -1,11 +1,14 @@
 package core.level;
 
 import core.level.elements.ILevel;
+import core.level.elements.astar.PathCache;
 import core.level.elements.astar.TileConnection;
 import core.level.elements.astar.TileHeuristic;
 import core.level.elements.tile.*;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
+import core.level.utils.FlowField;
+import core.level.utils.LevelChunkCache;
 import core.level.utils.LevelElement;
 import core.level.utils.TileTextureFactory;
 import core.utils.IVoidFunction;
@@ -31,6 +34,8 @@ public class TileLevel implements ILevel {
     new Coordinate(0, 1), new Coordinate(0, -1), new Coordinate(1, 0), new Coordinate(-1, 0),
   };
   protected final TileHeuristic tileHeuristic = new TileHeuristic();
+  protected final PathCache pathCache = new PathCache(this);
+  protected final LevelChunkCache chunkCache = new LevelChunkCache(this);
   protected Tile startTile;
   protected int nodeCount = 0;
   protected Tile[][] layout;
@@ -108,6 +113,16 @@ public class TileLevel implements ILevel {
     return tileHeuristic;
   }
 
+  @Override
+  public PathCache pathCache() {
+    return pathCache;
+  }
+
+  @Override
+  public LevelChunkCache chunkCache() {
+    return chunkCache;
+  }
+
   /**
    * Check each tile around the tile, if it is accessible add it to the connectionList.
    *
@@ -122,6 +137,8 @@ public class TileLevel implements ILevel {
           && t.isAccessible()
           && !checkTile.connections().contains(new TileConnection(checkTile, t), false)) {
         checkTile.addConnection(t);
+        pathCache.invalidate();
+        FlowField.invalidate();
       }
     }
   }
@@ -240,6 +257,8 @@ public class TileLevel implements ILevel {
                     .connections()
                     .removeValue(new TileConnection(x.getToNode(), tile), false));
     if (tile.isAccessible()) removeIndex(tile.index());
+    pathCache.invalidate();
+    FlowField.invalidate();
   }
 
   /**
@@ -260,6 +279,8 @@ public class TileLevel implements ILevel {
                 x.getToNode().addConnection(tile);
             });
     tile.index(nodeCount++);
+    pathCache.invalidate();
+    FlowField.invalidate();
   }
 
   private void removeIndex(int index) {
@@ -1,23 +1,24 @@
 package core.level.elements;
 
 import com.badlogic.gdx.ai.pfa.Connection;
-import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
 import com.badlogic.gdx.utils.Array;
 import core.Entity;
 import core.components.PositionComponent;
 import core.level.Tile;
+import core.level.elements.astar.PathCache;
 import core.level.elements.astar.TileHeuristic;
 import core.level.elements.tile.*;
 import core.level.utils.Coordinate;
+import core.level.utils.LevelChunkCache;
 import core.level.utils.LevelElement;
 import core.level.utils.TileTextureFactory;
 import core.utils.IVoidFunction;
 import core.utils.Point;
 import core.utils.Tuple;
 import core.utils.components.MissingComponentException;
+import core.utils.components.path.IPath;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -243,7 +244,9 @@ public interface ILevel extends IndexedGraph<Tile> {
    * without making any changes. If the tile is associated with a level, it is removed from the
    * level, and a new tile is created with the specified level element, texture path, coordinates,
    * and design label. The new tile is then added back to the level at the same coordinates as the
-   * original tile.
+   * original tile. The texture of the new tile and its eight neighbours is chosen by the {@link
+   * TileTextureFactory}, which only reads the 3x3 neighbourhood of each tile. The chunk of the
+   * tile in the {@link #chunkCache()} is marked as dirty.
    *
    * @param tile The tile to be changed.
    * @param changeInto The LevelElement to change the tile into.
@@ -265,6 +268,19 @@ public interface ILevel extends IndexedGraph<Tile> {
     newTile.tintColor(tile.tintColor());
     newTile.visible(tile.visible());
     level.addTile(newTile);
+    level.chunkCache().markDirty(newTile.coordinate());
+
+    // the textures of the neighbours depend on the type of this tile
+    Coordinate c = newTile.coordinate();
+    for (int y = c.y - 1; y <= c.y + 1; y++) {
+      for (int x = c.x - 1; x <= c.x + 1; x++) {
+        Tile neighbour = level.tileAt(new Coordinate(x, y));
+        if (neighbour == null || neighbour == newTile) continue;
+        IPath texture = TileTextureFactory.findTexturePath(neighbour, level.layout());
+        if (!texture.pathString().equals(neighbour.texturePath().pathString()))
+          neighbour.texturePath(texture);
+      }
+    }
   }
 
   /**
@@ -326,6 +342,9 @@ public interface ILevel extends IndexedGraph<Tile> {
    * Starts the indexed A* pathfinding algorithm and returns a path between the specified start and
    * end tiles.
    *
+   * <p>The path is looked up in the {@link #pathCache()} of the level first. Only if the path is
+   * not cached, a new search is started.
+   *
    * <p>Throws an IllegalArgumentException if either the start or end tile is non-accessible.
    *
    * @param start The starting tile for pathfinding.
@@ -342,11 +361,23 @@ public interface ILevel extends IndexedGraph<Tile> {
       throw new IllegalArgumentException(
           "Cannot calculate path because the end point is non-accessible.");
 
-    GraphPath<Tile> path = new DefaultGraphPath<>();
-    new IndexedAStarPathFinder<>(this).searchNodePath(start, end, tileHeuristic(), path);
-    return path;
+    return pathCache().findPath(start, end);
   }
 
+  /**
+   * Retrieves the cache that stores the paths found in this level.
+   *
+   * @return The PathCache of the level.
+   */
+  PathCache pathCache();
+
+  /**
+   * Retrieves the cache that stores the drawable tiles of this level.
+   *
+   * @return The LevelChunkCache of the level.
+   */
+  LevelChunkCache chunkCache();
+
   @Override
   default int getIndex(final Tile tile) {
     return tile.index();
@@ -0,0 +1,146 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the paths found in an {@link ILevel} and reuses the pathfinders of the level.
+ *
+ * <p>Each level has its own cache (see {@link ILevel#pathCache()}). The cache stores the last
+ * {@link #CAPACITY} paths keyed by their start and end tile and evicts the least recently used
+ * path if it is full. Each path is copied before it is returned, so callers can modify the path
+ * without changing the cache.
+ *
+ * <p>The {@link IndexedAStarPathFinder}s allocate search metadata for each node of the level.
+ * Instead of creating a new pathfinder for each search, the cache keeps a pool of pathfinders that
+ * are reused.
+ *
+ * <p>The cache must be {@link #invalidate() invalidated} each time the pathfinding graph of the
+ * level changes, which is done by the {@link core.level.TileLevel} if a tile is added to or removed
+ * from the pathfinding, or if connections to neighbours are added, and by {@link
+ * core.level.elements.tile.DoorTile} if a door is opened or closed. Invalidating will also drop
+ * the pathfinders, because the number of nodes might have changed.
+ *
+ * <p>Use {@link #hits()} and {@link #misses()} to check how effective the cache is.
+ */
+public final class PathCache {
+
+  /** Maximum number of paths stored in the cache. */
+  public static final int CAPACITY = 256;
+
+  private final ILevel level;
+  private final Deque<IndexedAStarPathFinder<Tile>> pathFinders = new ArrayDeque<>();
+  private final Map<PathKey, Tile[]> paths =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<PathKey, Tile[]> eldest) {
+          return size() > CAPACITY;
+        }
+      };
+  private long hits = 0;
+  private long misses = 0;
+  private int generation = 0;
+
+  /**
+   * Create a new cache for the given level.
+   *
+   * @param level Level to find the paths in.
+   */
+  public PathCache(final ILevel level) {
+    this.level = level;
+  }
+
+  /**
+   * Get the path between the given tiles.
+   *
+   * <p>If the path is not cached, it will be searched with a pathfinder from the pool and stored in
+   * the cache.
+   *
+   * @param start The starting tile for pathfinding.
+   * @param end The destination tile for pathfinding.
+   * @return Copy of the path between the start and end tiles. The path is empty if there is no
+   *     path.
+   */
+  public GraphPath<Tile> findPath(final Tile start, final Tile end) {
+    PathKey key = new PathKey(start, end);
+    Tile[] nodes;
+    int searchGeneration;
+    synchronized (this) {
+      searchGeneration = generation;
+      nodes = paths.get(key);
+      if (nodes != null) hits++;
+      else misses++;
+    }
+
+    if (nodes == null) {
+      GraphPath<Tile> path = new DefaultGraphPath<>();
+      IndexedAStarPathFinder<Tile> pathFinder = acquire();
+      pathFinder.searchNodePath(start, end, level.tileHeuristic(), path);
+      nodes = new Tile[path.getCount()];
+      for (int i = 0; i < nodes.length; i++) nodes[i] = path.get(i);
+      synchronized (this) {
+        // drop the results if the graph changed during the search
+        if (searchGeneration == generation) {
+          pathFinders.push(pathFinder);
+          paths.put(key, nodes);
+        }
+      }
+    }
+
+    GraphPath<Tile> copy = new DefaultGraphPath<>(nodes.length);
+    for (Tile node : nodes) copy.add(node);
+    return copy;
+  }
+
+  /**
+   * Remove all cached paths and pooled pathfinders.
+   *
+   * <p>Call this if the pathfinding graph of the level was changed.
+   */
+  public synchronized void invalidate() {
+    generation++;
+    paths.clear();
+    pathFinders.clear();
+  }
+
+  /**
+   * Get the number of requests that were answered from the cache.
+   *
+   * @return Number of cache hits.
+   */
+  public synchronized long hits() {
+    return hits;
+  }
+
+  /**
+   * Get the number of requests that needed a new search.
+   *
+   * @return Number of cache misses.
+   */
+  public synchronized long misses() {
+    return misses;
+  }
+
+  /**
+   * Get the number of paths currently stored in the cache.
+   *
+   * @return Number of cached paths.
+   */
+  public synchronized int size() {
+    return paths.size();
+  }
+
+  private synchronized IndexedAStarPathFinder<Tile> acquire() {
+    IndexedAStarPathFinder<Tile> pathFinder = pathFinders.poll();
+    return pathFinder != null ? pathFinder : new IndexedAStarPathFinder<>(level);
+  }
+
+  private record PathKey(Tile start, Tile end) {}
+}
@@ -16,7 +16,7 @@ import core.utils.components.path.SimpleIPath;
  */
 public class DoorTile extends Tile {
 
-  private final IPath closedTexturePath;
+  private IPath closedTexturePath;
   private DoorTile otherDoor;
   private Tile doorstep;
   private boolean open;
@@ -33,8 +33,7 @@ public class DoorTile extends Tile {
   public DoorTile(
       final IPath texturePath, final Coordinate globalPosition, final DesignLabel designLabel) {
     super(texturePath, globalPosition, designLabel);
-    String[] splitPath = texturePath.pathString().split("\\.");
-    closedTexturePath = new SimpleIPath(splitPath[0] + "_closed." + splitPath[1]);
+    closedTexturePath = closedTexturePath(texturePath);
     levelElement = LevelElement.DOOR;
     open = true;
   }
@@ -57,6 +56,7 @@ public class DoorTile extends Tile {
    */
   public void otherDoor(DoorTile otherDoor) {
     this.otherDoor = otherDoor;
+    markDirty();
   }
 
   /**
@@ -91,6 +91,10 @@ public class DoorTile extends Tile {
    */
   public void open() {
     open = true;
+    if (level != null) level.pathCache().invalidate();
+    // the texture of both doors depends on this door
+    markDirty();
+    if (otherDoor != null) otherDoor.markDirty();
   }
 
   /**
@@ -100,6 +104,10 @@ public class DoorTile extends Tile {
    */
   public void close() {
     open = false;
+    if (level != null) level.pathCache().invalidate();
+    // the texture of both doors depends on this door
+    markDirty();
+    if (otherDoor != null) otherDoor.markDirty();
   }
 
   /**
@@ -111,6 +119,19 @@ public class DoorTile extends Tile {
     return open;
   }
 
+  /**
+   * Change the texture of the open door.
+   *
+   * <p>The texture of the closed door is changed accordingly.
+   *
+   * @param texture New texture of the open door.
+   */
+  @Override
+  public void texturePath(final IPath texture) {
+    closedTexturePath = closedTexturePath(texture);
+    super.texturePath(texture);
+  }
+
   @Override
   public IPath texturePath() {
     if (open && (otherDoor == null || otherDoor.isOpen())) return texturePath;
@@ -134,4 +155,9 @@ public class DoorTile extends Tile {
         + otherDoorStr
         + "}";
   }
+
+  private static IPath closedTexturePath(final IPath texturePath) {
+    String[] splitPath = texturePath.pathString().split("\\.");
+    return new SimpleIPath(splitPath[0] + "_closed." + splitPath[1]);
+  }
 }
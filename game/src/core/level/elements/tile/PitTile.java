@@ -46,6 +46,7 @@ public class PitTile extends Tile {
    */
   public void open() {
     this.open = true;
+    markDirty();
 
     ((TileLevel) Game.currentLevel()).removeFromPathfinding(this);
   }
@@ -61,6 +62,7 @@ public class PitTile extends Tile {
     }
 
     this.open = false;
+    markDirty();
 
     ((TileLevel) Game.currentLevel()).addToPathfinding(this);
   }
@@ -88,6 +90,7 @@ public class PitTile extends Tile {
       this.open();
     }
     this.timeToOpen = time;
+    markDirty();
   }
 
   /**
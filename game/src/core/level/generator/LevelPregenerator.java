@@ -0,0 +1,131 @@
+package core.level.generator;
+
+import core.level.elements.ILevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelSize;
+import core.utils.logging.CustomLogLevel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * Generates levels on background threads, so they are ready when the next level is loaded.
+ *
+ * <p>Use {@link #fill(LevelSize, int)} to start the generation of levels until the given number of
+ * levels is generated or in progress. Use {@link #take(LevelSize, DesignLabel)} to get one of these
+ * levels. If the level is still generated, the call waits until it is finished, which is still
+ * faster than starting a new generation.
+ *
+ * <p>The generation of a level (layout, walls, tiles, texture paths, and tile connections) does
+ * not need an OpenGL context, so it can run on any thread. Only the textures have to be loaded on
+ * the main thread when the level is loaded.
+ *
+ * <p>All instances share a pool of daemon threads, so the pregeneration never keeps the game
+ * running. The used {@link IGenerator} has to be thread-safe.
+ *
+ * @see core.systems.LevelSystem
+ */
+public final class LevelPregenerator {
+  private static final Logger LOGGER = Logger.getLogger(LevelPregenerator.class.getSimpleName());
+  private static final ExecutorService EXECUTOR =
+      Executors.newFixedThreadPool(
+          Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+          runnable -> {
+            Thread thread = new Thread(runnable, "LevelPregenerator");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+          });
+
+  private final IGenerator generator;
+  private final List<PendingLevel> levels = new ArrayList<>();
+
+  /**
+   * Create a new pregenerator.
+   *
+   * @param generator Generator that is used to generate the levels.
+   */
+  public LevelPregenerator(final IGenerator generator) {
+    this.generator = generator;
+  }
+
+  /**
+   * Start the generation of levels with the given size and a random design, until the given number
+   * of levels is generated or in progress.
+   *
+   * <p>Levels with another size are dropped. If more levels than the given number are stored, the
+   * newest are dropped.
+   *
+   * @param size Size of the levels.
+   * @param count Number of levels to keep ready, 0 to drop all levels.
+   */
+  public synchronized void fill(final LevelSize size, int count) {
+    levels.removeIf(
+        level -> {
+          if (level.size() == size) return false;
+          level.level().cancel(true);
+          return true;
+        });
+    while (levels.size() > count) levels.remove(levels.size() - 1).level().cancel(true);
+    while (levels.size() < count) {
+      DesignLabel label = DesignLabel.randomDesign();
+      Future<ILevel> level = EXECUTOR.submit(() -> generator.level(label, size));
+      levels.add(new PendingLevel(size, label, level));
+    }
+  }
+
+  /**
+   * Take a generated level with the given size and design.
+   *
+   * <p>Finished levels are preferred over levels that are still generated.
+   *
+   * @param size Wanted size of the level.
+   * @param label Wanted design of the level, or null for any design.
+   * @return The level, or an empty Optional if there is no matching level or its generation
+   *     failed.
+   */
+  public Optional<ILevel> take(final LevelSize size, final DesignLabel label) {
+    PendingLevel found = remove(size, label);
+    if (found == null) return Optional.empty();
+    try {
+      return Optional.ofNullable(found.level().get());
+    } catch (ExecutionException e) {
+      LOGGER.log(CustomLogLevel.ERROR, "The pregeneration of a level failed.", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Get the number of levels that are generated or in progress.
+   *
+   * @return Number of stored levels.
+   */
+  public synchronized int size() {
+    return levels.size();
+  }
+
+  /** Drop all levels and cancel their generation. */
+  public synchronized void clear() {
+    levels.forEach(level -> level.level().cancel(true));
+    levels.clear();
+  }
+
+  private synchronized PendingLevel remove(final LevelSize size, final DesignLabel label) {
+    PendingLevel found = null;
+    for (PendingLevel level : levels) {
+      if (level.size() != size || (label != null && level.label() != label)) continue;
+      if (found == null || (level.level().isDone() && !found.level().isDone())) found = level;
+    }
+    if (found != null) levels.remove(found);
+    return found;
+  }
+
+  private record PendingLevel(LevelSize size, DesignLabel label, Future<ILevel> level) {}
+}
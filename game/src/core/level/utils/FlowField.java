@@ -0,0 +1,156 @@
+package core.level.utils;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.utils.Array;
+import core.Game;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Shared flow field that leads every tile of the current level to the tile of the hero.
+ *
+ * <p>Instead of running one A* search per monster and decision, the flow field runs one Dijkstra
+ * search starting at the tile of the hero over the pathfinding graph of the level. For each
+ * reachable tile, it stores the neighbour that is one step closer to the hero. Use {@link
+ * #nextStepToHero(Tile)} to get the next step for a tile in O(1), or {@link #pathToHero(Tile)} to
+ * get the complete path.
+ *
+ * <p>The field is calculated lazily on the first request after the hero moved onto another tile,
+ * the current level was changed, or the pathfinding graph of the level was changed (see {@link
+ * #invalidate()}).
+ *
+ * <p>The connections of the graph are bidirectional, so the predecessor of a tile in the search
+ * from the hero is the next step from that tile to the hero.
+ */
+public final class FlowField {
+
+  private static ILevel level;
+  private static Tile target;
+  private static boolean dirty = true;
+  private static int width;
+  // indexed by y * width + x
+  private static Tile[] next = new Tile[0];
+  private static float[] distance = new float[0];
+
+  private FlowField() {}
+
+  /**
+   * Get the next tile on the shortest path from the given tile to the tile of the hero.
+   *
+   * @param from Tile to start from.
+   * @return The neighbour of the given tile that is one step closer to the hero, or an empty
+   *     Optional if there is no hero, the hero can not be reached, or the given tile is the tile of
+   *     the hero.
+   */
+  public static Optional<Tile> nextStepToHero(final Tile from) {
+    if (!update() || from == null || from.level() != level) return Optional.empty();
+    return Optional.ofNullable(next[cell(from)]);
+  }
+
+  /**
+   * Get the distance (sum of the connection costs) from the given tile to the tile of the hero.
+   *
+   * @param from Tile to start from.
+   * @return Distance to the hero, or {@link Float#POSITIVE_INFINITY} if the hero can not be
+   *     reached from the given tile.
+   */
+  public static float distanceToHero(final Tile from) {
+    if (!update() || from == null || from.level() != level) return Float.POSITIVE_INFINITY;
+    return distance[cell(from)];
+  }
+
+  /**
+   * Get the path from the given tile to the tile of the hero.
+   *
+   * <p>The path is read from the flow field and takes O(length of the path) time.
+   *
+   * @param from Tile to start from.
+   * @return Path from the given tile to the tile of the hero. The path is empty if the hero can not
+   *     be reached.
+   */
+  public static GraphPath<Tile> pathToHero(final Tile from) {
+    GraphPath<Tile> path = new DefaultGraphPath<>();
+    if (distanceToHero(from) == Float.POSITIVE_INFINITY) return path;
+    Tile current = from;
+    while (current != null) {
+      path.add(current);
+      current = next[cell(current)];
+    }
+    return path;
+  }
+
+  /**
+   * Mark the flow field as outdated.
+   *
+   * <p>Call this if the pathfinding graph of the current level was changed. The field will be
+   * calculated again on the next request.
+   */
+  public static void invalidate() {
+    dirty = true;
+  }
+
+  private static boolean update() {
+    ILevel currentLevel = Game.currentLevel();
+    if (currentLevel == null) return false;
+    Optional<Tile> heroTile =
+        Game.hero()
+            .flatMap(hero -> hero.fetch(PositionComponent.class))
+            .map(pc -> currentLevel.tileAt(pc.position()));
+    if (heroTile.isEmpty() || !heroTile.get().isAccessible()) return false;
+    if (dirty || currentLevel != level || heroTile.get() != target)
+      calculate(currentLevel, heroTile.get());
+    return true;
+  }
+
+  private static void calculate(final ILevel newLevel, final Tile newTarget) {
+    level = newLevel;
+    target = newTarget;
+    dirty = false;
+    Tile[][] layout = newLevel.layout();
+    width = layout[0].length;
+    int cells = width * layout.length;
+    if (next.length != cells) {
+      next = new Tile[cells];
+      distance = new float[cells];
+    }
+    Arrays.fill(next, null);
+    Arrays.fill(distance, Float.POSITIVE_INFINITY);
+
+    PriorityQueue<Node> open = new PriorityQueue<>();
+    distance[cell(newTarget)] = 0;
+    open.add(new Node(newTarget, 0));
+    while (!open.isEmpty()) {
+      Node node = open.poll();
+      // outdated entry, the tile was already reached on a shorter way
+      if (node.distance > distance[cell(node.tile)]) continue;
+      Array<Connection<Tile>> connections = node.tile.connections();
+      for (int i = 0; i < connections.size; i++) {
+        Connection<Tile> connection = connections.get(i);
+        Tile neighbour = connection.getToNode();
+        float newDistance = node.distance + connection.getCost();
+        if (newDistance < distance[cell(neighbour)]) {
+          distance[cell(neighbour)] = newDistance;
+          next[cell(neighbour)] = node.tile;
+          open.add(new Node(neighbour, newDistance));
+        }
+      }
+    }
+  }
+
+  private static int cell(final Tile tile) {
+    return tile.coordinate().y * width + tile.coordinate().x;
+  }
+
+  private record Node(Tile tile, float distance) implements Comparable<Node> {
+    @Override
+    public int compareTo(final Node other) {
+      return Float.compare(distance, other.distance);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package core.level.utils;
+
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.elements.tile.PitTile;
+import core.utils.Point;
+import core.utils.components.path.IPath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Caches the drawable tiles of an {@link ILevel} in square chunks.
+ *
+ * <p>Each level has its own cache (see {@link ILevel#chunkCache()}). The layout of the level is
+ * split into chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} tiles. For each chunk, the cache
+ * stores the position, texture, and tint color of each tile that has to be drawn. Skip tiles,
+ * invisible tiles, and open pits are not stored.
+ *
+ * <p>Use {@link #forEachInView(float, float, float, float, Consumer)} to iterate over the tiles of
+ * all chunks that overlap the given area, so the cost of drawing the level depends on the size of
+ * the viewport and not on the size of the level.
+ *
+ * <p>A chunk is only rebuilt if it was {@link #markDirty(Coordinate) marked as dirty}. This is
+ * done by the tiles themselves if their texture, element type, visibility, or tint color is
+ * changed, by {@link ILevel#changeTileElementType(Tile, LevelElement)}, and by {@link PitTile}s and
+ * {@link core.level.elements.tile.DoorTile}s if they are opened or closed. Dirty chunks outside the
+ * viewport stay dirty until they are iterated the next time.
+ *
+ * <p>Use {@link #rebuilds()} to check how often chunks were rebuilt.
+ */
+public final class LevelChunkCache {
+
+  /** Width and height of a chunk in tiles. */
+  public static final int CHUNK_SIZE = 16;
+
+  private static final Entry[] NO_ENTRIES = new Entry[0];
+
+  private final ILevel level;
+  private Entry[][] chunks = new Entry[0][];
+  private int chunksX = 0;
+  private int chunksY = 0;
+  private int layoutWidth = -1;
+  private int layoutHeight = -1;
+  private long rebuilds = 0;
+
+  /**
+   * Create a new cache for the given level.
+   *
+   * <p>The chunks are built the first time they are iterated.
+   *
+   * @param level Level to cache the tiles of.
+   */
+  public LevelChunkCache(final ILevel level) {
+    this.level = level;
+  }
+
+  /**
+   * Execute the given action for each cached tile in the chunks that overlap the given area.
+   *
+   * <p>Dirty chunks in the area are rebuilt first. If the size of the layout changed, all chunks
+   * are dropped and rebuilt.
+   *
+   * @param minX Minimal x-coordinate of the area.
+   * @param minY Minimal y-coordinate of the area.
+   * @param maxX Maximal x-coordinate of the area.
+   * @param maxY Maximal y-coordinate of the area.
+   * @param action Action to execute for each drawable tile.
+   */
+  public synchronized void forEachInView(
+      float minX, float minY, float maxX, float maxY, final Consumer<Entry> action) {
+    Tile[][] layout = level.layout();
+    resize(layout);
+    if (chunksX == 0 || chunksY == 0) return;
+    int fromX = clamp((int) Math.floor(minX) / CHUNK_SIZE, chunksX);
+    int fromY = clamp((int) Math.floor(minY) / CHUNK_SIZE, chunksY);
+    int toX = clamp((int) Math.floor(maxX) / CHUNK_SIZE, chunksX);
+    int toY = clamp((int) Math.floor(maxY) / CHUNK_SIZE, chunksY);
+    for (int cy = fromY; cy <= toY; cy++) {
+      for (int cx = fromX; cx <= toX; cx++) {
+        int index = cy * chunksX + cx;
+        if (chunks[index] == null) chunks[index] = build(layout, cx, cy);
+        for (Entry entry : chunks[index]) action.accept(entry);
+      }
+    }
+  }
+
+  /**
+   * Mark the chunk that contains the given coordinate as dirty.
+   *
+   * <p>The chunk will be rebuilt the next time it is iterated.
+   *
+   * @param coordinate Coordinate of the changed tile.
+   */
+  public synchronized void markDirty(final Coordinate coordinate) {
+    if (coordinate.x < 0 || coordinate.y < 0) return;
+    int cx = coordinate.x / CHUNK_SIZE;
+    int cy = coordinate.y / CHUNK_SIZE;
+    if (cx < chunksX && cy < chunksY) chunks[cy * chunksX + cx] = null;
+  }
+
+  /** Mark all chunks as dirty. */
+  public synchronized void invalidate() {
+    chunks = new Entry[chunks.length][];
+  }
+
+  /**
+   * Get the number of chunks that were built since this cache was created.
+   *
+   * @return Number of chunk builds.
+   */
+  public synchronized long rebuilds() {
+    return rebuilds;
+  }
+
+  private void resize(final Tile[][] layout) {
+    int height = layout.length;
+    int width = height == 0 ? 0 : layout[0].length;
+    if (width == layoutWidth && height == layoutHeight) return;
+    layoutWidth = width;
+    layoutHeight = height;
+    chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    chunks = new Entry[chunksX * chunksY][];
+  }
+
+  private Entry[] build(final Tile[][] layout, int cx, int cy) {
+    rebuilds++;
+    List<Entry> entries = new ArrayList<>();
+    int maxY = Math.min(layoutHeight, (cy + 1) * CHUNK_SIZE);
+    int maxX = Math.min(layoutWidth, (cx + 1) * CHUNK_SIZE);
+    for (int y = cy * CHUNK_SIZE; y < maxY; y++) {
+      for (int x = cx * CHUNK_SIZE; x < maxX; x++) {
+        Tile t = layout[y][x];
+        if (t.levelElement() != LevelElement.SKIP && !isPitAndOpen(t) && t.visible())
+          entries.add(new Entry(t.position(), t.texturePath(), t.tintColor()));
+      }
+    }
+    return entries.isEmpty() ? NO_ENTRIES : entries.toArray(NO_ENTRIES);
+  }
+
+  private static boolean isPitAndOpen(final Tile tile) {
+    return tile instanceof PitTile pit && pit.isOpen();
+  }
+
+  private static int clamp(int value, int count) {
+    return Math.max(0, Math.min(count - 1, value));
+  }
+
+  /**
+   * A tile that has to be drawn.
+   *
+   * @param position Position of the tile.
+   * @param texturePath Texture of the tile.
+   * @param tintColor Tint color of the tile, -1 for no tint.
+   */
+  public record Entry(Point position, IPath texturePath, int tintColor) {}
+}
@@ -120,16 +120,22 @@ public final class LevelUtils {
    * <p>If no hero exists in the game, the path will be calculated from the given entity to the
    * given entity.
    *
-   * <p>Throws an IllegalArgumentException if one of the entities position is non-accessible.
+   * <p>The path is read from the shared {@link FlowField}, so no new search is started for each
+   * entity.
    *
    * @param entity Entity from which the path to the hero is calculated.
    * @return Path from the entity to the hero, if there is no hero, the path from the entity to
    *     itself.
    */
   public static GraphPath<Tile> calculatePathToHero(final Entity entity) {
-    Optional<Entity> hero = Game.hero();
-    if (hero.isPresent()) return calculatePath(entity, hero.get());
-    else return calculatePath(entity, entity);
+    if (Game.hero().isEmpty()) return calculatePath(entity, entity);
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    Tile tile = Game.tileAT(pc.position());
+    if (tile == null || !tile.isAccessible()) return new DefaultGraphPath<>();
+    return FlowField.pathToHero(tile);
   }
 
   /**
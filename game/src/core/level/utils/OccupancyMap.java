@@ -0,0 +1,162 @@
+package core.level.utils;
+
+import core.Entity;
+import core.components.PositionComponent;
+import core.utils.Point;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the entities on each tile coordinate of the current level.
+ *
+ * <p>The {@link core.systems.PositionSystem} {@link #track(Entity, PositionComponent) tracks} each
+ * entity with a {@link PositionComponent} in the game and {@link #untrack(Entity) untracks} it if
+ * it is removed from the game (this includes switching the level). The index is updated each time
+ * the position of a tracked entity moves to another tile coordinate (see {@link
+ * PositionComponent#onTileChange}).
+ *
+ * <p>Use {@link #at(Coordinate)}, {@link #inRectangle(Coordinate, Coordinate)} and {@link
+ * #inRadius(Point, float)} to find the entities in an area. The cost of each lookup depends on the
+ * size of the area and the number of found entities, not on the number of entities in the game.
+ *
+ * <p>If no entity is tracked, for example because no {@link core.systems.PositionSystem} was
+ * added to the game, {@link #tracking()} returns false and callers should fall back to iterating
+ * the entities (like {@link core.Game#entityAtTile}).
+ */
+public final class OccupancyMap {
+
+  private static final Map<Long, List<Entity>> TILES = new HashMap<>();
+  private static final Map<Entity, PositionComponent> TRACKED = new HashMap<>();
+
+  private OccupancyMap() {}
+
+  /**
+   * Add the given entity to the index, or update the index if the position component changed.
+   *
+   * @param entity The entity to track.
+   * @param pc The position component of the entity.
+   */
+  public static synchronized void track(final Entity entity, final PositionComponent pc) {
+    PositionComponent previous = TRACKED.put(entity, pc);
+    if (previous == pc) return;
+    if (previous != null) {
+      previous.onTileChange(null);
+      removeAt(key(previous.position().toCoordinate()), entity);
+    }
+    TILES.computeIfAbsent(key(pc.position().toCoordinate()), k -> new ArrayList<>()).add(entity);
+    pc.onTileChange((from, to) -> move(entity, from, to));
+  }
+
+  /**
+   * Remove the given entity from the index.
+   *
+   * @param entity The entity to remove.
+   */
+  public static synchronized void untrack(final Entity entity) {
+    PositionComponent pc = TRACKED.remove(entity);
+    if (pc == null) return;
+    pc.onTileChange(null);
+    removeAt(key(pc.position().toCoordinate()), entity);
+  }
+
+  /**
+   * Check if any entity is tracked.
+   *
+   * @return true if the index contains at least one entity, false if not.
+   */
+  public static synchronized boolean tracking() {
+    return !TRACKED.isEmpty();
+  }
+
+  /**
+   * Get the entities on the given tile coordinate.
+   *
+   * @param coordinate The tile coordinate.
+   * @return A new list of the entities on the coordinate.
+   */
+  public static synchronized List<Entity> at(final Coordinate coordinate) {
+    List<Entity> entities = TILES.get(key(coordinate));
+    return entities == null ? new ArrayList<>() : new ArrayList<>(entities);
+  }
+
+  /**
+   * Check if there is any entity on the given tile coordinate.
+   *
+   * @param coordinate The tile coordinate.
+   * @return true if at least one entity is on the coordinate, false if not.
+   */
+  public static synchronized boolean isOccupied(final Coordinate coordinate) {
+    return TILES.containsKey(key(coordinate));
+  }
+
+  /**
+   * Get the entities on the tiles in the given rectangle.
+   *
+   * @param min The lower left corner of the rectangle (inclusive).
+   * @param max The upper right corner of the rectangle (inclusive).
+   * @return A new list of the entities in the rectangle.
+   */
+  public static synchronized List<Entity> inRectangle(final Coordinate min, final Coordinate max) {
+    List<Entity> result = new ArrayList<>();
+    for (int y = min.y; y <= max.y; y++) {
+      for (int x = min.x; x <= max.x; x++) {
+        List<Entity> entities = TILES.get(key(x, y));
+        if (entities != null) result.addAll(entities);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get the entities whose position is within the given radius around the given point.
+   *
+   * @param center The center of the circle.
+   * @param radius The radius of the circle.
+   * @return A new list of the entities in the circle.
+   */
+  public static synchronized List<Entity> inRadius(final Point center, float radius) {
+    List<Entity> result = new ArrayList<>();
+    Coordinate min = new Point(center.x - radius, center.y - radius).toCoordinate();
+    Coordinate max = new Point(center.x + radius, center.y + radius).toCoordinate();
+    // the int cast rounds towards zero, so one more tile is needed for negative values
+    for (int y = min.y - 1; y <= max.y; y++) {
+      for (int x = min.x - 1; x <= max.x; x++) {
+        List<Entity> entities = TILES.get(key(x, y));
+        if (entities == null) continue;
+        for (Entity entity : entities)
+          if (TRACKED.get(entity).position().distance(center) <= radius) result.add(entity);
+      }
+    }
+    return result;
+  }
+
+  /** Remove all entities from the index. */
+  public static synchronized void clear() {
+    TRACKED.values().forEach(pc -> pc.onTileChange(null));
+    TRACKED.clear();
+    TILES.clear();
+  }
+
+  private static synchronized void move(
+      final Entity entity, final Coordinate from, final Coordinate to) {
+    removeAt(key(from), entity);
+    TILES.computeIfAbsent(key(to), k -> new ArrayList<>()).add(entity);
+  }
+
+  private static void removeAt(long key, final Entity entity) {
+    List<Entity> entities = TILES.get(key);
+    if (entities == null) return;
+    entities.remove(entity);
+    if (entities.isEmpty()) TILES.remove(key);
+  }
+
+  private static long key(final Coordinate coordinate) {
+    return key(coordinate.x, coordinate.y);
+  }
+
+  private static long key(int x, int y) {
+    return ((long) x << 32) | (y & 0xFFFFFFFFL);
+  }
+}
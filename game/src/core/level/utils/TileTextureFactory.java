@@ -3,9 +3,80 @@ package core.level.utils;
 import core.level.Tile;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
-
-/** WTF? . */
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chooses the texture of a tile based on its surrounding tiles (autotiling).
+ *
+ * <p>The texture of a tile only depends on its own {@link LevelElement} and the elements of its
+ * eight neighbours. Each orthogonal neighbour is reduced to one of six classes (nothing, wall,
+ * door, hole, pit, or another accessible element) and each diagonal neighbour to one bit (inside
+ * or not). These values are combined to a bitmask, and the texture is resolved through a lookup
+ * table that is computed once, when this class is loaded, by applying the texture rules to every
+ * possible neighbourhood. The texture paths are created once for each {@link DesignLabel}, so
+ * finding a texture reads only the 3x3 neighbourhood and does not allocate.
+ *
+ * <p>Use {@link #findTexturePath(Tile, Tile[][], LevelElement)} to get the texture of a tile in a
+ * level. {@link core.level.elements.ILevel#changeTileElementType(Tile, LevelElement)} uses it to
+ * re-texture the changed tile and its eight neighbours.
+ */
 public class TileTextureFactory {
+  private static final int CLASS_NONE = 0;
+  private static final int CLASS_WALL = 1;
+  private static final int CLASS_DOOR = 2;
+  private static final int CLASS_HOLE = 3;
+  private static final int CLASS_PIT = 4;
+  private static final int CLASS_OPEN = 5;
+
+  /** Representative element for each class of an orthogonal neighbour. */
+  private static final LevelElement[] CLASS_ELEMENTS = {
+    LevelElement.SKIP,
+    LevelElement.WALL,
+    LevelElement.DOOR,
+    LevelElement.HOLE,
+    LevelElement.PIT,
+    LevelElement.FLOOR
+  };
+
+  private static final int CLASSES = CLASS_ELEMENTS.length;
+  private static final int MASKS = CLASSES * CLASSES * CLASSES * CLASSES << 4;
+  private static final Coordinate CENTER = new Coordinate(1, 1);
+
+  /** Texture names (without design and file extension), indexed by their id. */
+  private static final List<String> TEXTURES = new ArrayList<>();
+
+  /** Texture id for each element (by ordinal) and neighbourhood mask. */
+  private static final byte[][] LOOKUP = new byte[LevelElement.values().length][MASKS];
+
+  /** Texture paths for each design, indexed by the texture id. */
+  private static final Map<DesignLabel, IPath[]> PATHS = new EnumMap<>(DesignLabel.class);
+
+  static {
+    Map<String, Integer> ids = new HashMap<>();
+    LevelElement[][] neighbourhood = new LevelElement[3][3];
+    for (LevelElement element : LevelElement.values()) {
+      for (int mask = 0; mask < MASKS; mask++) {
+        decode(mask, neighbourhood);
+        String texture =
+            resolve(new LevelPart(element, DesignLabel.DEFAULT, neighbourhood, CENTER));
+        int id = ids.computeIfAbsent(texture, t -> ids.size());
+        if (id == TEXTURES.size()) TEXTURES.add(texture);
+        LOOKUP[element.ordinal()][mask] = (byte) id;
+      }
+    }
+    for (DesignLabel design : DesignLabel.values()) {
+      String prefixPath = "dungeon/" + design.name().toLowerCase() + "/";
+      IPath[] paths = new IPath[TEXTURES.size()];
+      for (int id = 0; id < paths.length; id++)
+        paths[id] = new SimpleIPath(prefixPath + TEXTURES.get(id) + ".png");
+      PATHS.put(design, paths);
+    }
+  }
+
   /**
    * Checks which texture must be used for the passed field based on the surrounding fields.
    *
@@ -13,35 +84,20 @@ public class TileTextureFactory {
    * @return Path to texture
    */
   public static IPath findTexturePath(LevelPart levelPart) {
-    String prefixPath = "dungeon/" + levelPart.design().name().toLowerCase() + "/";
-
-    IPath path = findTexturePathFloor(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathDoor(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathInnerCorner(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathOuterCorner(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathWall(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    // Error state
-    return new SimpleIPath(prefixPath + "floor/empty.png");
+    LevelElement[][] layout = levelPart.layout();
+    int x = levelPart.position().x;
+    int y = levelPart.position().y;
+    int mask =
+        mask(
+            elementAt(layout, x, y + 1),
+            elementAt(layout, x, y - 1),
+            elementAt(layout, x - 1, y),
+            elementAt(layout, x + 1, y),
+            elementAt(layout, x + 1, y + 1),
+            elementAt(layout, x + 1, y - 1),
+            elementAt(layout, x - 1, y - 1),
+            elementAt(layout, x - 1, y + 1));
+    return lookup(levelPart.element(), levelPart.design(), mask);
   }
 
   /**
@@ -58,21 +114,112 @@ public class TileTextureFactory {
   /**
    * Checks which texture must be used for the passed tile based on the surrounding tiles.
    *
+   * <p>Only the eight neighbours of the tile are read.
+   *
    * @param element Tile to check for
    * @param layout The level
    * @param elementType The type ot the tile if different than the attribute
    * @return Path to texture
    */
   public static IPath findTexturePath(Tile element, Tile[][] layout, LevelElement elementType) {
-    LevelElement[][] elementLayout = new LevelElement[layout.length][layout[0].length];
-    for (int x = 0; x < layout[0].length; x++) {
-      for (int y = 0; y < layout.length; y++) {
-        elementLayout[y][x] = layout[y][x].levelElement();
-      }
-    }
-    elementLayout[element.coordinate().y][element.coordinate().x] = elementType;
-    return findTexturePath(
-        new LevelPart(elementType, element.designLabel(), elementLayout, element.coordinate()));
+    Coordinate c = element.coordinate();
+    int mask =
+        mask(
+            elementAt(layout, c.x, c.y + 1),
+            elementAt(layout, c.x, c.y - 1),
+            elementAt(layout, c.x - 1, c.y),
+            elementAt(layout, c.x + 1, c.y),
+            elementAt(layout, c.x + 1, c.y + 1),
+            elementAt(layout, c.x + 1, c.y - 1),
+            elementAt(layout, c.x - 1, c.y - 1),
+            elementAt(layout, c.x - 1, c.y + 1));
+    return lookup(elementType, element.designLabel(), mask);
+  }
+
+  private static IPath lookup(LevelElement element, DesignLabel design, int mask) {
+    return PATHS.get(design)[LOOKUP[element.ordinal()][mask]];
+  }
+
+  private static LevelElement elementAt(LevelElement[][] layout, int x, int y) {
+    if (y < 0 || y >= layout.length || x < 0 || x >= layout[y].length) return null;
+    return layout[y][x];
+  }
+
+  private static LevelElement elementAt(Tile[][] layout, int x, int y) {
+    if (y < 0 || y >= layout.length || x < 0 || x >= layout[y].length) return null;
+    Tile tile = layout[y][x];
+    return tile == null ? null : tile.levelElement();
+  }
+
+  /**
+   * Combines the classes of the orthogonal neighbours and the inside-bits of the diagonal
+   * neighbours to the index in the lookup table.
+   */
+  private static int mask(
+      LevelElement above,
+      LevelElement below,
+      LevelElement left,
+      LevelElement right,
+      LevelElement upperRight,
+      LevelElement bottomRight,
+      LevelElement bottomLeft,
+      LevelElement upperLeft) {
+    int orthogonal = orthogonalClass(above);
+    orthogonal = orthogonal * CLASSES + orthogonalClass(below);
+    orthogonal = orthogonal * CLASSES + orthogonalClass(left);
+    orthogonal = orthogonal * CLASSES + orthogonalClass(right);
+    return orthogonal << 4
+        | isInside(upperRight) << 3
+        | isInside(bottomRight) << 2
+        | isInside(bottomLeft) << 1
+        | isInside(upperLeft);
+  }
+
+  private static int orthogonalClass(LevelElement element) {
+    if (element == null) return CLASS_NONE;
+    return switch (element) {
+      case WALL -> CLASS_WALL;
+      case DOOR -> CLASS_DOOR;
+      case HOLE -> CLASS_HOLE;
+      case PIT -> CLASS_PIT;
+      case FLOOR, EXIT -> CLASS_OPEN;
+      default -> CLASS_NONE;
+    };
+  }
+
+  private static int isInside(LevelElement element) {
+    if (element == null) return 0;
+    return element.value() || element == LevelElement.PIT || element == LevelElement.HOLE ? 1 : 0;
+  }
+
+  /** Fills the 3x3 neighbourhood with representative elements for the given mask. */
+  private static void decode(int mask, LevelElement[][] neighbourhood) {
+    int orthogonal = mask >> 4;
+    neighbourhood[1][2] = CLASS_ELEMENTS[orthogonal % CLASSES];
+    neighbourhood[1][0] = CLASS_ELEMENTS[orthogonal / CLASSES % CLASSES];
+    neighbourhood[0][1] = CLASS_ELEMENTS[orthogonal / (CLASSES * CLASSES) % CLASSES];
+    neighbourhood[2][1] = CLASS_ELEMENTS[orthogonal / (CLASSES * CLASSES * CLASSES)];
+    neighbourhood[2][2] = (mask & 8) != 0 ? LevelElement.FLOOR : LevelElement.SKIP;
+    neighbourhood[0][2] = (mask & 4) != 0 ? LevelElement.FLOOR : LevelElement.SKIP;
+    neighbourhood[0][0] = (mask & 2) != 0 ? LevelElement.FLOOR : LevelElement.SKIP;
+    neighbourhood[2][0] = (mask & 1) != 0 ? LevelElement.FLOOR : LevelElement.SKIP;
+    neighbourhood[1][1] = LevelElement.SKIP;
+  }
+
+  /**
+   * Applies the texture rules to the passed field.
+   *
+   * @param levelPart a part of a level
+   * @return Name of the texture, without design and file extension
+   */
+  private static String resolve(LevelPart levelPart) {
+    IPath path = findTexturePathFloor(levelPart);
+    if (path == null) path = findTexturePathDoor(levelPart);
+    if (path == null) path = findTexturePathInnerCorner(levelPart);
+    if (path == null) path = findTexturePathOuterCorner(levelPart);
+    if (path == null) path = findTexturePathWall(levelPart);
+    // Error state
+    return path == null ? "floor/empty" : path.pathString();
   }
 
   /**
@@ -29,6 +29,9 @@ import java.util.stream.Collectors;
  * <p>This system will not queue animations. This must be done by other systems. The system
  * evaluates the queue and draws the animation with the highest priority in the queue.
  *
+ * <p>The entities are recorded in the {@link Painter}, which draws them together with the level at
+ * the end of the frame.
+ *
  * <p>The DrawSystem can't be paused.
  *
  * @see DrawComponent
@@ -48,10 +51,29 @@ public final class DrawSystem extends System {
 
   private final Map<IPath, PainterConfig> configs;
 
-  /** Create a new DrawSystem. */
+  /**
+   * Create a new DrawSystem.
+   *
+   * <p>The animation frames of each added entity will be packed into the texture atlas, so that
+   * they are ready when the entity is drawn the first time.
+   */
   public DrawSystem() {
     super(DrawComponent.class, PositionComponent.class);
+    // the painter uses OpenGL and the animations are updated while drawing
+    reads(PositionComponent.class);
+    writes(DrawComponent.class);
+    pinToMainThread();
     configs = new HashMap<>();
+    onEntityAdd =
+        entity ->
+            entity
+                .fetch(DrawComponent.class)
+                .ifPresent(
+                    dc ->
+                        PAINTER.preload(
+                            dc.animationMap().values().stream()
+                                .flatMap(animation -> animation.animationFrames().stream())
+                                .toList()));
   }
 
   /**
@@ -88,8 +110,10 @@ public final class DrawSystem extends System {
     List<Entity> players = partitionedEntities.get(true);
     List<Entity> npcs = partitionedEntities.get(false);
 
-    npcs.stream().filter(this::shouldDraw).forEach(entity -> draw(buildDataObject(entity)));
-    players.forEach(entity -> draw(buildDataObject(entity)));
+    npcs.stream()
+        .filter(this::shouldDraw)
+        .forEach(entity -> draw(buildDataObject(entity), Painter.ENTITY_LAYER));
+    players.forEach(entity -> draw(buildDataObject(entity), Painter.PLAYER_LAYER));
   }
 
   /**
@@ -124,7 +148,7 @@ public final class DrawSystem extends System {
     return tile.visible();
   }
 
-  private void draw(final DSData dsd) {
+  private void draw(final DSData dsd, int layer) {
     reduceFrameTimer(dsd.dc);
     setNextAnimation(dsd.dc);
     final Animation animation = dsd.dc.currentAnimation();
@@ -136,7 +160,7 @@ public final class DrawSystem extends System {
     }
     PainterConfig conf = this.configs.get(currentAnimationTexture);
     conf.tintColor(dsd.dc.tintColor());
-    PAINTER.draw(dsd.pc.position(), currentAnimationTexture, conf);
+    PAINTER.draw(dsd.pc.position(), currentAnimationTexture, conf, layer);
   }
 
   /**
@@ -1,24 +1,26 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
+import core.game.PreRunConfiguration;
 import core.level.Tile;
 import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
 import core.level.elements.tile.ExitTile;
-import core.level.elements.tile.PitTile;
 import core.level.generator.IGenerator;
+import core.level.generator.LevelPregenerator;
 import core.level.utils.*;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
 import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import core.utils.components.sound.SoundManager;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -31,10 +33,18 @@ import java.util.logging.Logger;
  * of the entities managed by this system is positioned on the end tile of the level. If so, the
  * next level will be loaded.
  *
+ * <p>The level is drawn from the {@link ILevel#chunkCache()} of the level. Only the chunks that
+ * overlap the viewport of the {@link CameraSystem#camera()} are drawn, and only the chunks with
+ * changed tiles are rebuilt.
+ *
  * <p>The system uses the configured {@link IGenerator} to generate levels in the configured {@link
  * LevelSize}. Use {@link #generator(IGenerator)} to change the used level generator. Use {@link
  * #levelSize(LevelSize)} to set the size of the next levels that get loaded.
  *
+ * <p>If {@link PreRunConfiguration#pregeneratedLevels()} is greater than 0, the next levels are
+ * generated in the background by a {@link LevelPregenerator} while the current level is played, so
+ * loading the next level does not have to wait for its generation.
+ *
  * <p>If a new level is loaded, the system will trigger the onLevelLoad callback given in the
  * constructor of this system.
  *
@@ -56,7 +66,7 @@ public final class LevelSystem extends System {
    */
   private static final float Y_OFFSET = 0.25f;
 
-  private static final String SOUND_EFFECT = "sounds/enterDoor.wav";
+  private static final IPath SOUND_EFFECT = new SimpleIPath("sounds/enterDoor.wav");
 
   /** Currently used level-size configuration for generating new level. */
   private static LevelSize levelSize = LevelSize.MEDIUM;
@@ -64,9 +74,11 @@ public final class LevelSystem extends System {
   private static ILevel currentLevel;
   private final IVoidFunction onLevelLoad;
   private final Painter painter;
+  private final Map<IPath, PainterConfig> configs = new HashMap<>();
   private final Logger levelAPI_logger = Logger.getLogger(this.getClass().getSimpleName());
   private IVoidFunction onEndTile;
   private IGenerator generator;
+  private LevelPregenerator pregenerator;
 
   /**
    * Create a new {@link LevelSystem}.
@@ -75,13 +87,18 @@ public final class LevelSystem extends System {
    * DesignLabel)} if you want to trigger the load of a level manually; otherwise, the first level
    * will be loaded if this system's {@link #execute()} is executed.
    *
-   * @param painter The {@link Painter} to use to draw the level.
+   * @param painter The {@link Painter} to use to draw the level, or null if the level should not be
+   *     drawn (for example, in the {@link core.game.HeadlessGameLoop}).
    * @param generator Level generator to use to generate the level.
    * @param onLevelLoad Callback function that is called if a new level was loaded.
    */
   public LevelSystem(Painter painter, IGenerator generator, IVoidFunction onLevelLoad) {
     super(PlayerComponent.class, PositionComponent.class);
+    // loading a level replaces the systems and the entity storage, so this system is never executed
+    // in parallel (the access is not declared) and uses OpenGL for the level textures
+    pinToMainThread();
     this.generator = generator;
+    this.pregenerator = new LevelPregenerator(generator);
     this.onLevelLoad = onLevelLoad;
     this.painter = painter;
     this.onEndTile = () -> loadLevel(levelSize);
@@ -136,9 +153,7 @@ public final class LevelSystem extends System {
    * @param label The wanted design of the new level.
    */
   public void loadLevel(final LevelSize size, final DesignLabel label) {
-    currentLevel = generator.level(label, size);
-    onLevelLoad.execute();
-    levelAPI_logger.info("A new level was loaded.");
+    loadGeneratedLevel(size, label);
   }
 
   /**
@@ -160,7 +175,7 @@ public final class LevelSystem extends System {
    * @param size Wanted size of the level.
    */
   public void loadLevel(final LevelSize size) {
-    loadLevel(size, DesignLabel.randomDesign());
+    loadGeneratedLevel(size, null);
   }
 
   /**
@@ -169,41 +184,51 @@ public final class LevelSystem extends System {
    * <p>Will trigger the onLevelLoad callback.
    */
   public void loadLevel() {
-    loadLevel(levelSize(), DesignLabel.randomDesign());
-  }
-
-  private void drawLevel() {
-    Map<IPath, PainterConfig> mapping = new HashMap<>();
-
-    Tile[][] layout = currentLevel.layout();
-    for (Tile[] tiles : layout) {
-      for (int x = 0; x < layout[0].length; x++) {
-        Tile t = tiles[x];
-        if (t.levelElement() != LevelElement.SKIP && !isTilePitAndOpen(t) && t.visible()) {
-          IPath texturePath = t.texturePath();
-          if (!mapping.containsKey(texturePath)
-              || (mapping.get(texturePath).tintColor() != t.tintColor())) {
-            mapping.put(
-                texturePath, new PainterConfig(texturePath, X_OFFSET, Y_OFFSET, t.tintColor()));
-          }
-          painter.draw(t.position(), texturePath, mapping.get(texturePath));
-        }
-      }
-    }
+    loadGeneratedLevel(levelSize(), null);
   }
 
   /**
-   * Checks if the provided tile is an instance of PitTile and if it's open.
+   * Load a pregenerated level, or generate a new one if no matching level was pregenerated.
    *
-   * @param tile The tile to check.
-   * @return true if the tile is an instance of PitTile, and it's open, false otherwise.
+   * <p>Afterward, the generation of the next levels is started in the background.
+   *
+   * @param size Wanted size of the level.
+   * @param label Wanted design of the level, or null for a random design.
    */
-  private boolean isTilePitAndOpen(final Tile tile) {
-    if (tile instanceof PitTile) {
-      return ((PitTile) tile).isOpen();
-    } else {
-      return false;
-    }
+  private void loadGeneratedLevel(final LevelSize size, final DesignLabel label) {
+    ILevel level =
+        pregenerator
+            .take(size, label)
+            .orElseGet(
+                () -> generator.level(label != null ? label : DesignLabel.randomDesign(), size));
+    loadLevel(level);
+    pregenerator.fill(size, PreRunConfiguration.pregeneratedLevels());
+  }
+
+  private void drawLevel() {
+    if (painter == null) return;
+    OrthographicCamera camera = CameraSystem.camera();
+    // one tile more on each side, the painter will skip the tiles outside the frustum
+    float halfWidth = camera.viewportWidth * camera.zoom / 2 + 1;
+    float halfHeight = camera.viewportHeight * camera.zoom / 2 + 1;
+    currentLevel
+        .chunkCache()
+        .forEachInView(
+            camera.position.x - halfWidth,
+            camera.position.y - halfHeight,
+            camera.position.x + halfWidth,
+            camera.position.y + halfHeight,
+            this::drawTile);
+  }
+
+  private void drawTile(final LevelChunkCache.Entry tile) {
+    PainterConfig config =
+        configs.computeIfAbsent(
+            tile.texturePath(),
+            path -> new PainterConfig(path, X_OFFSET, Y_OFFSET, tile.tintColor()));
+    // the painter copies the tint color, so one config per texture is enough
+    config.tintColor(tile.tintColor());
+    painter.draw(tile.position(), tile.texturePath(), config, Painter.LEVEL_LAYER);
   }
 
   /**
@@ -222,6 +247,8 @@ public final class LevelSystem extends System {
    */
   public void generator(final IGenerator generator) {
     this.generator = generator;
+    pregenerator.clear();
+    pregenerator = new LevelPregenerator(generator);
   }
 
   /**
@@ -265,10 +292,7 @@ public final class LevelSystem extends System {
   }
 
   private void playSound() {
-    Sound doorSound = Gdx.audio.newSound(Gdx.files.internal(SOUND_EFFECT));
-    long soundId = doorSound.play();
-    doorSound.setLooping(soundId, false);
-    doorSound.setVolume(soundId, 0.3f);
+    SoundManager.play(SOUND_EFFECT, 0.3f, 1f, SoundManager.HIGH_PRIORITY);
   }
 
   /**
@@ -276,7 +300,7 @@ public final class LevelSystem extends System {
    *
    * <p>Will load a new level if no level exists or one of the managed entities are on the end tile.
    *
-   * <p>Will draw the level.
+   * <p>Will draw the level, if a painter is set.
    */
   @Override
   public void execute() {
@@ -4,6 +4,7 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.level.utils.OccupancyMap;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.NoSuchElementException;
@@ -14,6 +15,9 @@ import java.util.NoSuchElementException;
  *
  * <p>Entities with the {@link PositionComponent} will be processed by this system.
  *
+ * <p>The system keeps the {@link OccupancyMap} up to date: each entity processed by this system is
+ * tracked in the map.
+ *
  * <p>If the position of an entity is equal to {@link PositionComponent#ILLEGAL_POSITION}, the
  * position of the entity will be set to a random accessible tile in the current level.
  *
@@ -26,14 +30,19 @@ public final class PositionSystem extends System {
   /** Create a new PositionSystem. */
   public PositionSystem() {
     super(PositionComponent.class);
+    onEntityAdd = entity -> OccupancyMap.track(entity, buildDataObject(entity).pc());
+    onEntityRemove = OccupancyMap::untrack;
   }
 
   @Override
   public void execute() {
-    filteredEntityStream(PositionComponent.class)
-        .map(this::buildDataObject)
-        .filter(data -> data.pc.position().equals(PositionComponent.ILLEGAL_POSITION))
-        .forEach(this::randomPosition);
+    forEachEntity(
+        entity -> {
+          PSData data = buildDataObject(entity);
+          // the position component might have been replaced
+          OccupancyMap.track(entity, data.pc());
+          if (data.pc.position().equals(PositionComponent.ILLEGAL_POSITION)) randomPosition(data);
+        });
   }
 
   /**
@@ -1,6 +1,5 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import core.Entity;
 import core.Game;
@@ -8,6 +7,7 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.GameClock;
 import core.level.Tile;
 import core.level.utils.LevelElement;
 import core.utils.Point;
@@ -51,9 +51,7 @@ public final class VelocitySystem extends System {
   /** Updates the position of all entities based on their velocity. */
   @Override
   public void execute() {
-    filteredEntityStream(VelocityComponent.class, PositionComponent.class, DrawComponent.class)
-        .map(this::buildDataObject)
-        .forEach(this::updatePosition);
+    forEachEntity(entity -> updatePosition(buildDataObject(entity)));
   }
 
   private void updatePosition(VSData vsd) {
@@ -64,8 +62,9 @@ public final class VelocitySystem extends System {
       velocity.nor();
       velocity.scl(maxSpeed);
     }
-    if (Gdx.graphics != null) {
-      velocity.scl(Gdx.graphics.getDeltaTime());
+    // the clock does not run in unit tests without a game loop
+    if (GameClock.frames() > 0) {
+      velocity.scl(GameClock.deltaTime());
     }
 
     float newX = vsd.pc.position().x + velocity.x;
@@ -3,8 +3,15 @@ package core.utils;
 import core.Component;
 import core.Entity;
 import core.System;
+import core.utils.components.ComponentIndex;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -29,16 +36,30 @@ import java.util.stream.Stream;
  * <p>Systems can be added using {@link #add(System)} or removed using {@link #remove(System)}. When
  * a system is added, {@link System#triggerOnAdd(Entity)} is called for each stored entity.
  *
- * <p>You can query the stored entities as a stream using {@link #stream()}.
+ * <p>You can query the stored entities as a stream using {@link #stream()} or iterate over them
+ * using {@link #forEach(Consumer)}.
+ *
+ * <p>The entities are stored densely in an array. The filter rules are stored as archetype mask
+ * (see {@link ComponentIndex}), so checking whether an entity matches the filter does not need any
+ * map lookups. Iteration works on an immutable snapshot of the dense array, which is only rebuilt
+ * after the stored entities have changed. Entities can therefore be added or removed while
+ * iterating, and iterating over an unchanged mapper does not allocate a new collection.
  *
  * <p>The {@link #equals(Object)} and {@link #equals(Set)} methods return true if the filter rules
  * are identical.
  */
 public final class EntitySystemMapper {
 
+  private static final Entity[] EMPTY = new Entity[0];
+
   private final Set<Class<? extends Component>> filterRules;
-  private final Set<Entity> entities;
+  private final BitSet filterMask;
+  private final Map<Entity, Integer> denseIndex;
   private final Set<System> systems;
+  private Entity[] dense;
+  private int size;
+  // immutable copy of the first size elements of dense, null if the entities have changed
+  private Entity[] snapshot;
 
   /**
    * Creates a new EntitySystemMapper with the given filter rules.
@@ -48,15 +69,16 @@ public final class EntitySystemMapper {
    */
   public EntitySystemMapper(final Set<Class<? extends Component>> filterRules) {
     this.filterRules = filterRules;
-    entities = new HashSet<>();
+    filterMask = ComponentIndex.mask(filterRules);
+    denseIndex = new HashMap<>();
     systems = new HashSet<>();
+    dense = EMPTY;
+    snapshot = EMPTY;
   }
 
   /** Creates a new EntitySystemMapper with no filter rules. */
   public EntitySystemMapper() {
-    filterRules = new HashSet<>();
-    entities = new HashSet<>();
-    systems = new HashSet<>();
+    this(new HashSet<>());
   }
 
   /**
@@ -73,7 +95,7 @@ public final class EntitySystemMapper {
    */
   public boolean add(final System system) {
     if (systems.add(system)) {
-      entities.forEach(system::triggerOnAdd);
+      forEach(system::triggerOnAdd);
       return true;
     }
     return false;
@@ -93,7 +115,7 @@ public final class EntitySystemMapper {
    */
   public boolean remove(final System system) {
     if (systems.remove(system)) {
-      entities.forEach(system::triggerOnRemove);
+      forEach(system::triggerOnRemove);
       return true;
     }
     return false;
@@ -112,8 +134,12 @@ public final class EntitySystemMapper {
    *     does not fulfill the filter rules.
    */
   public boolean add(final Entity entity) {
-    if (!entities.contains(entity) && accept(entity)) {
-      entities.add(entity);
+    if (!denseIndex.containsKey(entity) && accept(entity)) {
+      if (size == dense.length) dense = Arrays.copyOf(dense, Math.max(8, size * 2));
+      dense[size] = entity;
+      denseIndex.put(entity, size);
+      size++;
+      snapshot = null;
       systems.forEach(system -> system.triggerOnAdd(entity));
       return true;
     }
@@ -132,8 +158,16 @@ public final class EntitySystemMapper {
    *     EntitySystemMapper and no removal was performed.
    */
   public boolean remove(final Entity entity) {
-    if (entities.contains(entity)) {
-      entities.remove(entity);
+    Integer index = denseIndex.remove(entity);
+    if (index != null) {
+      // move the last entity into the free slot to keep the array dense
+      size--;
+      if (index != size) {
+        dense[index] = dense[size];
+        denseIndex.put(dense[index], index);
+      }
+      dense[size] = null;
+      snapshot = null;
       systems.forEach(system -> system.triggerOnRemove(entity));
       return true;
     }
@@ -161,7 +195,53 @@ public final class EntitySystemMapper {
    * @return A Stream of Entities currently present in the EntitySystemMapper.
    */
   public Stream<Entity> stream() {
-    return new HashSet<>(entities).stream();
+    return Arrays.stream(snapshot());
+  }
+
+  /**
+   * Performs the given action for each Entity in the EntitySystemMapper.
+   *
+   * <p>The action is performed on a snapshot of the stored entities, so it is safe to add or remove
+   * entities (or components) inside the action. Changes will be visible in the next iteration.
+   *
+   * @param action The action to be performed for each Entity.
+   */
+  public void forEach(final Consumer<Entity> action) {
+    for (Entity entity : snapshot()) action.accept(entity);
+  }
+
+  /**
+   * Checks if the given Entity is present in the EntitySystemMapper.
+   *
+   * @param entity The Entity to check for presence in the EntitySystemMapper.
+   * @return true if the Entity is present in the EntitySystemMapper, false otherwise.
+   */
+  public boolean contains(final Entity entity) {
+    return denseIndex.containsKey(entity);
+  }
+
+  /**
+   * Returns the filter rules of the EntitySystemMapper.
+   *
+   * @return An unmodifiable view of the Component classes an Entity needs to be stored in this
+   *     EntitySystemMapper.
+   */
+  public Set<Class<? extends Component>> filterRules() {
+    return Collections.unmodifiableSet(filterRules);
+  }
+
+  /**
+   * Returns the number of Entities in the EntitySystemMapper.
+   *
+   * @return The number of Entities currently present in the EntitySystemMapper.
+   */
+  public int size() {
+    return size;
+  }
+
+  private Entity[] snapshot() {
+    if (snapshot == null) snapshot = Arrays.copyOf(dense, size);
+    return snapshot;
   }
 
   /**
@@ -203,11 +283,7 @@ public final class EntitySystemMapper {
    * @return true if the entity is accepted, false if not.
    */
   private boolean accept(final Entity entity) {
-    for (Class<? extends Component> filter : filterRules)
-      if (!entity.isPresent(filter)) {
-        return false;
-      }
-    return true;
+    return entity.hasAll(filterMask);
   }
 
   /**
@@ -0,0 +1,56 @@
+package core.utils.components;
+
+import core.Component;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns each {@link Component} class a small, dense and stable index.
+ *
+ * <p>The index is used as slot in the component array of an {@link core.Entity} and as bit in the
+ * archetype of an entity. The archetype is a {@link BitSet} that contains one bit for each
+ * component class stored in the entity. Entities with the same set of component classes share the
+ * same archetype.
+ *
+ * <p>Indices are assigned lazily on the first lookup of a class and never change during the
+ * runtime of the game.
+ */
+public final class ComponentIndex {
+
+  private static final AtomicInteger NEXT_INDEX = new AtomicInteger(0);
+
+  private static final ClassValue<Integer> INDICES =
+      new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+          return NEXT_INDEX.getAndIncrement();
+        }
+      };
+
+  private ComponentIndex() {}
+
+  /**
+   * Get the index of the given component class.
+   *
+   * @param klass Class of the component.
+   * @return The index of the given component class.
+   */
+  public static int of(final Class<? extends Component> klass) {
+    return INDICES.get(klass);
+  }
+
+  /**
+   * Create the archetype mask for the given set of component classes.
+   *
+   * <p>Each component class in the given set will set the bit at its {@link #of(Class) index}.
+   *
+   * @param components Set of component classes.
+   * @return BitSet with the bits for the given component classes set.
+   */
+  public static BitSet mask(final Set<Class<? extends Component>> components) {
+    BitSet mask = new BitSet();
+    for (Class<? extends Component> klass : components) mask.set(of(klass));
+    return mask;
+  }
+}
@@ -0,0 +1,145 @@
+package core.utils.components.draw;
+
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import core.utils.logging.CustomLogLevel;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Logger;
+
+/**
+ * Index of the animation frames in the assets.
+ *
+ * <p>An animation directory (e.g. "character/knight") contains one subdirectory for each animation
+ * (e.g. "idle_down"), and each subdirectory contains the frames of the animation. Use {@link
+ * #frames(Class, IPath)} to get the frames of each animation in an animation directory.
+ *
+ * <p>If the game is running in a JAR, the entries of the JAR are read only once, the first time an
+ * animation from this JAR is requested. If the game is running in the IDE (or over the shell), each
+ * animation directory is listed only once. The result for each animation directory is cached, so
+ * each following request is a map lookup. The returned maps and frame lists are immutable and
+ * shared between all callers, {@link Animation}s created from them will share the frame lists.
+ *
+ * <p>Use {@link #clear()} to drop the index, for example, if assets were added at runtime.
+ *
+ * @see core.components.DrawComponent
+ */
+public final class AnimationCatalog {
+  private static final Logger LOGGER = Logger.getLogger(AnimationCatalog.class.getSimpleName());
+
+  /** File names of all files in a JAR, sorted, keyed by the path of the JAR. */
+  private static final Map<String, NavigableSet<String>> JAR_INDEX = new HashMap<>();
+
+  /** Frames of each animation, keyed by the code source and the animation directory. */
+  private static final Map<String, Map<String, List<IPath>>> FRAMES = new HashMap<>();
+
+  private AnimationCatalog() {}
+
+  /**
+   * Get the frames of each animation in the given animation directory.
+   *
+   * <p>The frames of each animation are sorted in lexicographic order (like the most OS), so they
+   * will be played in this order.
+   *
+   * @param source Class that is used to find the JAR or directory that contains the assets.
+   * @param path Path to the animation directory in the assets (e.g. "character/knight").
+   * @return Immutable map of the animation names (the names of the subdirectories) and their
+   *     frames.
+   * @throws IOException if the JAR cannot be read.
+   * @throws FileNotFoundException if the game is not running in a JAR and the given path does not
+   *     exist.
+   */
+  public static synchronized Map<String, List<IPath>> frames(
+      final Class<?> source, final IPath path) throws IOException {
+    File location = new File(source.getProtectionDomain().getCodeSource().getLocation().getPath());
+    String key = location.getPath() + "!" + path.pathString();
+    Map<String, List<IPath>> frames = FRAMES.get(key);
+    if (frames == null) {
+      frames = location.isFile() ? fromJar(location, path) : fromDirectory(path);
+      FRAMES.put(key, frames);
+    }
+    return frames;
+  }
+
+  /** Drop the index, so all animation directories will be read again. */
+  public static synchronized void clear() {
+    JAR_INDEX.clear();
+    FRAMES.clear();
+  }
+
+  private static Map<String, List<IPath>> fromJar(final File jarFile, final IPath path)
+      throws IOException {
+    NavigableSet<String> files = JAR_INDEX.get(jarFile.getPath());
+    if (files == null) {
+      files = indexJar(jarFile);
+      JAR_INDEX.put(jarFile.getPath(), files);
+    }
+
+    // This will be used to map the directory names (e.g., "idle") and the texture files.
+    Map<String, List<IPath>> storage = new HashMap<>();
+    String prefix = path.pathString() + "/";
+    // example: character/knight/idle_down/idle_down_knight_1.png
+    // the set is sorted, so the frames of each animation are sorted too
+    for (String fileName : files.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+      int lastSlashIndex = fileName.lastIndexOf("/");
+      int secondLastSlashIndex = fileName.lastIndexOf("/", lastSlashIndex - 1);
+      // the directory name serves as the key of the animation (e.g. "idle_down")
+      String lastDir = fileName.substring(secondLastSlashIndex + 1, lastSlashIndex);
+      storage.computeIfAbsent(lastDir, k -> new ArrayList<>()).add(new SimpleIPath(fileName));
+    }
+    return freeze(storage);
+  }
+
+  private static NavigableSet<String> indexJar(final File jarFile) throws IOException {
+    NavigableSet<String> files = new TreeSet<>();
+    try (JarFile jar = new JarFile(jarFile)) {
+      Enumeration<JarEntry> entries = jar.entries();
+      while (entries.hasMoreElements()) {
+        JarEntry entry = entries.nextElement();
+        // ignore directories, like character/knight/idle/
+        if (!entry.isDirectory()) files.add(entry.getName());
+      }
+    }
+    LOGGER.info("Indexed " + files.size() + " files in " + jarFile.getName() + ".");
+    return files;
+  }
+
+  private static Map<String, List<IPath>> fromDirectory(final IPath path)
+      throws FileNotFoundException {
+    URL url = AnimationCatalog.class.getResource("/" + path.pathString());
+    if (url == null) throw new FileNotFoundException("Path " + path + " not found.");
+    try {
+      File[] subDirs = new File(url.toURI()).listFiles(File::isDirectory);
+      if (subDirs == null) throw new FileNotFoundException("Path " + path + " not found.");
+      Map<String, List<IPath>> storage = new HashMap<>();
+      for (File subDir : subDirs) storage.put(subDir.getName(), filesInDirectory(subDir));
+      return freeze(storage);
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      LOGGER.log(CustomLogLevel.ERROR, "Could not load animations from directory: " + url, e);
+      throw new FileNotFoundException("Path " + path + " not found.");
+    }
+  }
+
+  private static List<IPath> filesInDirectory(final File subDir) {
+    return Arrays.stream(Objects.requireNonNull(subDir.listFiles()))
+        // only look for direct Files no recursive search
+        .filter(File::isFile)
+        // File object needs to be converted to IPath
+        .map(file -> (IPath) new SimpleIPath(file.getPath()))
+        // sort by name streams may lose the ordering by name
+        .sorted(Comparator.comparing(IPath::pathString))
+        .toList();
+  }
+
+  private static Map<String, List<IPath>> freeze(final Map<String, List<IPath>> storage) {
+    Map<String, List<IPath>> frozen = new HashMap<>();
+    storage.forEach((name, frames) -> frozen.put(name, List.copyOf(frames)));
+    return Collections.unmodifiableMap(frozen);
+  }
+}
@@ -1,11 +1,14 @@
 package core.utils.components.draw;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import core.systems.CameraSystem;
 import core.utils.Point;
 import core.utils.components.path.IPath;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 
 /**
  * Draws the sprites on the batch.
@@ -15,10 +18,25 @@ import core.utils.components.path.IPath;
  * <p>Use {@link #draw(Point, IPath, PainterConfig)} to draw a sprite on the screen.
  *
  * <p>The Painter will only draw sprites that are currently visible on the camera. The Painter uses
- * the {@link TextureMap} to store already loaded textures to save performance and storage.
+ * the {@link TextureMap} to store already loaded textures to save performance and storage. The
+ * textures are drawn from the atlas of the {@link TextureMap}, so sprites with different images
+ * usually share the same texture and do not break the batch. Use {@link #preload(Collection)} to
+ * pack textures into the atlas before they are drawn the first time.
  *
  * <p>Use the {@link PainterConfig} to configure the painting options.
  *
+ * <p>The Painter is a frame-scoped render queue. Calls to {@link #draw} only record the sprite.
+ * {@link #flush()} sorts all recorded sprites by layer and submits them in a single {@link
+ * SpriteBatch} session. The {@link core.game.GameLoop} will flush the painter once per frame, after
+ * all systems are executed. Sprites on a higher layer are drawn on top of sprites on a lower layer.
+ * Inside a layer, sprites are drawn in the order they were recorded, so overlapping sprites keep
+ * their order. Only the tiles on the {@link #LEVEL_LAYER}, which never overlap, are additionally
+ * sorted by texture.
+ *
+ * <p>Use {@link #submittedSprites()} and {@link #renderCalls()} to compare the number of sprites
+ * drawn in the last frame (each of which was its own draw call before the queue existed) with the
+ * number of actual draw calls.
+ *
  * <p>The Painter is used by the {@link core.systems.DrawSystem} and {@link
  * core.systems.LevelSystem}.
  *
@@ -27,7 +45,29 @@ import core.utils.components.path.IPath;
  * @see core.systems.LevelSystem
  */
 public class Painter {
+  /** Layer for the tiles of the level. */
+  public static final int LEVEL_LAYER = 0;
+
+  /** Layer for entities, this is the default layer. */
+  public static final int ENTITY_LAYER = 1;
+
+  /** Layer for the player characters, drawn on top of everything else. */
+  public static final int PLAYER_LAYER = 2;
+
+  // only the tiles may be reordered by texture, entities can overlap and must keep their order
+  private static final Comparator<DrawCommand> ORDER =
+      Comparator.<DrawCommand>comparingInt(c -> c.layer)
+          .thenComparingInt(
+              c -> c.layer == LEVEL_LAYER ? c.region.getTexture().getTextureObjectHandle() : 0)
+          .thenComparingInt(c -> c.sequence);
+
   private final SpriteBatch batch;
+  private final Color tint = new Color();
+  // the command objects are reused in each frame, only the first queued commands are valid
+  private DrawCommand[] commands = new DrawCommand[0];
+  private int queued = 0;
+  private int submittedSprites = 0;
+  private int renderCalls = 0;
 
   /**
    * Create a new Painter.
@@ -43,34 +83,123 @@ public class Painter {
    *
    * <p>Will only draw the texture if it's in the frustum of the camera.
    *
+   * <p>The texture will be drawn on the {@link #ENTITY_LAYER}.
+   *
    * @param position Position of the texture in the game world.
    * @param texturePath Path to the texture to draw.
    * @param config Painting configuration.
    */
   public void draw(final Point position, final IPath texturePath, final PainterConfig config) {
+    draw(position, texturePath, config, ENTITY_LAYER);
+  }
+
+  /**
+   * Draw the given texture on the given point with the given configuration on the given layer.
+   *
+   * <p>Will only draw the texture if it's in the frustum of the camera.
+   *
+   * <p>The texture is recorded and will be drawn with the next {@link #flush()}.
+   *
+   * @param position Position of the texture in the game world.
+   * @param texturePath Path to the texture to draw.
+   * @param config Painting configuration.
+   * @param layer Layer to draw the texture on, higher layers are drawn on top.
+   */
+  public void draw(
+      final Point position, final IPath texturePath, final PainterConfig config, int layer) {
     float realX = position.x + config.xOffset(); // including the drawOffset
     float realY = position.y + config.yOffset(); // including the drawOffset
     if (CameraSystem.isPointInFrustum(realX, realY)) {
-      Sprite sprite = new Sprite(TextureMap.instance().textureAt(texturePath));
-      // set up scaling of textures
-      sprite.setSize(config.xScaling(), config.yScaling());
-      // where to draw the sprite
-      sprite.setPosition(realX, realY);
+      if (queued == commands.length) {
+        commands = Arrays.copyOf(commands, Math.max(64, queued * 2));
+        for (int i = queued; i < commands.length; i++) commands[i] = new DrawCommand();
+      }
+      DrawCommand command = commands[queued];
+      command.region = TextureMap.instance().regionAt(texturePath);
+      command.x = realX;
+      command.y = realY;
+      command.width = config.xScaling();
+      command.height = config.yScaling();
+      command.tintColor = config.tintColor();
+      command.layer = layer;
+      command.sequence = queued;
+      queued++;
+    }
+  }
 
-      // need to be called before drawing
-      batch.begin();
+  /**
+   * Draw all recorded textures in one {@link SpriteBatch} session.
+   *
+   * <p>The textures are sorted by layer. The tiles of the {@link #LEVEL_LAYER} are also sorted by
+   * texture, so that the batch only needs to flush if the texture changes. Afterward, the queue is
+   * empty.
+   */
+  public void flush() {
+    submittedSprites = queued;
+    if (queued == 0) {
+      renderCalls = 0;
+      return;
+    }
+    Arrays.sort(commands, 0, queued, ORDER);
 
+    batch.begin();
+    for (int i = 0; i < queued; i++) {
+      DrawCommand command = commands[i];
       // tint the sprite
-      if (config.tintColor() != -1) {
-        Color color = Color.CLEAR;
-        Color.rgba8888ToColor(color, config.tintColor());
-        sprite.setColor(color);
-      }
-
-      // draw sprite
-      sprite.draw(batch);
-      // need to be called after drawing
-      batch.end();
+      if (command.tintColor != -1) {
+        Color.rgba8888ToColor(tint, command.tintColor);
+        batch.setColor(tint);
+      } else batch.setColor(Color.WHITE);
+      batch.draw(command.region, command.x, command.y, command.width, command.height);
+      command.region = null;
     }
+    batch.setColor(Color.WHITE);
+    batch.end();
+
+    renderCalls = batch.renderCalls;
+    queued = 0;
+  }
+
+  /**
+   * Pack the textures at the given paths into the texture atlas.
+   *
+   * <p>Textures that are not preloaded will be packed the first time they are drawn, which uploads
+   * the atlas page once for each new texture.
+   *
+   * @param texturePaths Paths to the textures that will be drawn.
+   */
+  public void preload(final Collection<? extends IPath> texturePaths) {
+    TextureMap.instance().pack(texturePaths);
+  }
+
+  /**
+   * Get the number of sprites drawn in the last flushed frame.
+   *
+   * <p>Without the render queue, each of these sprites was drawn in its own draw call.
+   *
+   * @return Number of sprites drawn in the last frame.
+   */
+  public int submittedSprites() {
+    return submittedSprites;
+  }
+
+  /**
+   * Get the number of draw calls the {@link SpriteBatch} needed in the last flushed frame.
+   *
+   * @return Number of draw calls in the last frame.
+   */
+  public int renderCalls() {
+    return renderCalls;
+  }
+
+  private static final class DrawCommand {
+    private TextureRegion region;
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+    private int tintColor;
+    private int layer;
+    private int sequence;
   }
 }
@@ -1,6 +1,6 @@
 package core.utils.components.draw;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import core.utils.components.path.IPath;
 
 /**
@@ -30,7 +30,7 @@ public final class PainterConfig {
    */
   public PainterConfig(final IPath texturePath, float xOffset, float yOffset, int tintColor) {
     // half the texture xOffset, yOffset is a quarter texture down
-    this(xOffset, yOffset, 1, TextureMap.instance().textureAt(texturePath), tintColor);
+    this(xOffset, yOffset, 1, TextureMap.instance().regionAt(texturePath), tintColor);
   }
 
   /**
@@ -41,7 +41,7 @@ public final class PainterConfig {
    * @param texturePath Path to the texture.
    */
   public PainterConfig(final IPath texturePath) {
-    this(TextureMap.instance().textureAt(texturePath));
+    this(TextureMap.instance().regionAt(texturePath));
   }
 
   private PainterConfig(
@@ -54,16 +54,16 @@ public final class PainterConfig {
   }
 
   private PainterConfig(
-      float xOffset, float yOffset, float xScaling, final Texture texture, int tintColor) {
+      float xOffset, float yOffset, float xScaling, final TextureRegion texture, int tintColor) {
     this(
         xOffset,
         yOffset,
         xScaling,
-        ((float) texture.getHeight() / (float) texture.getWidth()),
+        ((float) texture.getRegionHeight() / (float) texture.getRegionWidth()),
         tintColor);
   }
 
-  private PainterConfig(Texture texture) {
+  private PainterConfig(final TextureRegion texture) {
     this(0f, 0f, 1, texture, -1);
   }
 
@@ -1,8 +1,18 @@
 package core.utils.components.draw;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import core.utils.components.path.IPath;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Maps Paths to libGDX {@link Texture}s, to reduce unnecessary loading of textures.
@@ -10,11 +20,26 @@ import java.util.HashMap;
  * <p>Use {@link #instance()} to get the only instance of the {@link TextureMap}, and use {@link
  * #textureAt(IPath)} to get the texture that is stored at the given path.
  *
+ * <p>Use {@link #regionAt(IPath)} to get the texture as a region of a texture atlas. All textures
+ * requested this way are packed at runtime into a few shared atlas pages, so the {@link Painter}
+ * can draw sprites with different images without switching the texture. Use {@link
+ * #pack(Collection)} to pack many textures at once (for example, all frames of an animation or all
+ * tiles of a level); this will upload the atlas pages only once.
+ *
+ * <p>Textures that are too large for an atlas page are loaded as standalone texture.
+ *
  * @see Painter
  */
 public final class TextureMap extends HashMap<String, Texture> {
+  /** Width and height of one atlas page in pixels. */
+  public static final int PAGE_SIZE = 2048;
+
+  private static final int PADDING = 2;
   private static final TextureMap INSTANCE = new TextureMap();
 
+  private final Map<String, TextureRegion> regions = new HashMap<>();
+  private PixmapPacker packer;
+
   /**
    * Get the instance of the TextureMap.
    *
@@ -28,6 +53,9 @@ public final class TextureMap extends HashMap<String, Texture> {
    * Searches the HashMap for the matching texture and returns it. If the texture is not stored in
    * the HashMap, it is created and saved.
    *
+   * <p>The returned texture is a standalone texture and not part of the atlas. Prefer {@link
+   * #regionAt(IPath)} for textures that are drawn every frame.
+   *
    * @param path Path to the texture.
    * @return The Texture at the given path.
    */
@@ -43,4 +71,76 @@ public final class TextureMap extends HashMap<String, Texture> {
 
     return get(path.pathString());
   }
+
+  /**
+   * Get the region of the texture atlas that contains the texture at the given path.
+   *
+   * <p>If the texture is not packed yet, it will be packed into the atlas.
+   *
+   * @param path Path to the texture.
+   * @return The region of the atlas containing the texture at the given path.
+   */
+  public TextureRegion regionAt(final IPath path) {
+    TextureRegion region = regions.get(path.pathString());
+    if (region == null) {
+      pack(List.of(path));
+      region = regions.get(path.pathString());
+    }
+    return region;
+  }
+
+  /**
+   * Pack the textures at the given paths into the atlas.
+   *
+   * <p>Textures that are already packed will be ignored. The atlas pages will be uploaded to the
+   * GPU once after all new textures are packed.
+   *
+   * @param paths Paths to the textures.
+   */
+  public void pack(final Collection<? extends IPath> paths) {
+    List<String> packed = new ArrayList<>();
+    for (IPath path : paths) {
+      String name = path.pathString();
+      if (regions.containsKey(name) || packed.contains(name)) continue;
+      Pixmap pixmap = new Pixmap(Gdx.files.internal(name));
+      if (pixmap.getWidth() + 2 * PADDING > PAGE_SIZE
+          || pixmap.getHeight() + 2 * PADDING > PAGE_SIZE) {
+        regions.put(name, new TextureRegion(textureAt(path)));
+      } else {
+        packer().pack(name, pixmap);
+        packed.add(name);
+      }
+      pixmap.dispose();
+    }
+
+    if (!packed.isEmpty()) {
+      packer().updatePageTextures(TextureFilter.Nearest, TextureFilter.Nearest, false);
+      for (String name : packed) {
+        Rectangle rect = packer().getRect(name);
+        regions.put(
+            name,
+            new TextureRegion(
+                packer().getPage(name).getTexture(),
+                (int) rect.x,
+                (int) rect.y,
+                (int) rect.width,
+                (int) rect.height));
+      }
+    }
+  }
+
+  /**
+   * Get the number of atlas pages.
+   *
+   * @return Number of atlas pages created so far.
+   */
+  public int pages() {
+    return packer == null ? 0 : packer.getPages().size;
+  }
+
+  private PixmapPacker packer() {
+    if (packer == null)
+      packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+    return packer;
+  }
 }
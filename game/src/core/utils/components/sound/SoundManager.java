@@ -0,0 +1,183 @@
+package core.utils.components.sound;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import core.utils.components.path.IPath;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads, caches, and plays the sound effects of the game.
+ *
+ * <p>Each sound file is decoded only once, the first time it is {@link #preload(IPath...)
+ * preloaded} or {@link #play(IPath, float, float, int) played}. The {@link Sound} instances are
+ * kept until {@link #dispose()} is called, so use this instead of {@code Gdx.audio.newSound} for
+ * sounds that are played more than once.
+ *
+ * <p>At most {@link #MAX_VOICES} sounds are played at the same time. If all voices are in use, the
+ * voice with the lowest priority (the oldest one, if several have the same priority) is stopped, if
+ * its priority is not higher than the priority of the new sound. Otherwise, the new sound is not
+ * played. The length of a WAV file is read from its header; for other formats, {@link
+ * #DEFAULT_DURATION} is assumed.
+ *
+ * <p>If {@link Gdx#audio} or {@link Gdx#files} is not set (e.g. in tests), no sound is loaded or
+ * played.
+ */
+public final class SoundManager {
+
+  /** Maximum number of sounds that are played at the same time. */
+  public static final int MAX_VOICES = 16;
+
+  /** Priority for ambient sounds, like idle sounds of monsters. */
+  public static final int LOW_PRIORITY = 0;
+
+  /** Priority for most sound effects. */
+  public static final int NORMAL_PRIORITY = 50;
+
+  /** Priority for important sound effects, like level changes or the death of the hero. */
+  public static final int HIGH_PRIORITY = 100;
+
+  /** Assumed length in seconds of sounds whose length can not be read. */
+  public static final float DEFAULT_DURATION = 2f;
+
+  private static final Logger LOGGER = Logger.getLogger(SoundManager.class.getSimpleName());
+  private static final Map<String, LoadedSound> SOUNDS = new HashMap<>();
+  private static final Voice[] VOICES = new Voice[MAX_VOICES];
+
+  private SoundManager() {}
+
+  /**
+   * Load the sounds at the given paths, if they are not loaded yet.
+   *
+   * @param paths Paths to the sound files.
+   */
+  public static synchronized void preload(final IPath... paths) {
+    for (IPath path : paths) load(path);
+  }
+
+  /**
+   * Play the sound at the given path once.
+   *
+   * <p>The sound is loaded first, if it is not loaded yet.
+   *
+   * @param path Path to the sound file.
+   * @param volume Volume in the range [0,1].
+   * @param pitch Pitch multiplier, 1 is the normal speed.
+   * @param priority Priority of the sound, used if all voices are in use.
+   * @return The id of the playing sound instance, or -1 if the sound was not played.
+   */
+  public static synchronized long play(final IPath path, float volume, float pitch, int priority) {
+    LoadedSound loaded = load(path);
+    if (loaded == null) return -1;
+    long now = System.nanoTime();
+    int slot = freeVoice(now);
+    if (slot == -1) {
+      slot = lowestPriorityVoice();
+      Voice victim = VOICES[slot];
+      if (victim.priority() > priority) return -1;
+      victim.sound().stop(victim.id());
+    }
+    long id = loaded.sound().play(volume, pitch, 0f);
+    if (id == -1) return -1;
+    long duration = (long) (loaded.duration() / Math.max(pitch, 0.01f) * 1_000_000_000L);
+    VOICES[slot] = new Voice(loaded.sound(), id, priority, now, now + duration);
+    return id;
+  }
+
+  /**
+   * Get the number of sounds that are currently played.
+   *
+   * @return Number of used voices.
+   */
+  public static synchronized int activeVoices() {
+    long now = System.nanoTime();
+    int active = 0;
+    for (Voice voice : VOICES) if (voice != null && voice.endsAt() > now) active++;
+    return active;
+  }
+
+  /** Stop all sounds and dispose all loaded sounds. */
+  public static synchronized void dispose() {
+    SOUNDS.values().forEach(loaded -> loaded.sound().dispose());
+    SOUNDS.clear();
+    for (int i = 0; i < VOICES.length; i++) VOICES[i] = null;
+  }
+
+  private static LoadedSound load(final IPath path) {
+    if (Gdx.audio == null || Gdx.files == null) return null;
+    LoadedSound loaded = SOUNDS.get(path.pathString());
+    if (loaded == null) {
+      FileHandle file = Gdx.files.internal(path.pathString());
+      loaded = new LoadedSound(Gdx.audio.newSound(file), duration(file));
+      SOUNDS.put(path.pathString(), loaded);
+    }
+    return loaded;
+  }
+
+  private static int freeVoice(long now) {
+    for (int i = 0; i < VOICES.length; i++) {
+      if (VOICES[i] == null || VOICES[i].endsAt() <= now) return i;
+    }
+    return -1;
+  }
+
+  private static int lowestPriorityVoice() {
+    int lowest = 0;
+    for (int i = 1; i < VOICES.length; i++) {
+      Voice voice = VOICES[i];
+      Voice current = VOICES[lowest];
+      if (voice.priority() < current.priority()
+          || (voice.priority() == current.priority() && voice.startedAt() < current.startedAt()))
+        lowest = i;
+    }
+    return lowest;
+  }
+
+  /**
+   * Read the length of a WAV file from its header.
+   *
+   * @param file The sound file.
+   * @return Length in seconds, or {@link #DEFAULT_DURATION} if the file is not a WAV file or can
+   *     not be read.
+   */
+  private static float duration(final FileHandle file) {
+    if (!file.extension().equalsIgnoreCase("wav")) return DEFAULT_DURATION;
+    try (InputStream in = file.read();
+        DataInputStream data = new DataInputStream(in)) {
+      if (readIntLE(data) != 0x46464952) return DEFAULT_DURATION; // "RIFF"
+      readIntLE(data); // size of the file
+      if (readIntLE(data) != 0x45564157) return DEFAULT_DURATION; // "WAVE"
+      int byteRate = 0;
+      while (true) {
+        int tag = readIntLE(data);
+        int size = readIntLE(data);
+        if (tag == 0x20746D66) { // "fmt "
+          data.skipNBytes(8); // format, channels, sample rate
+          byteRate = readIntLE(data);
+          data.skipNBytes(size - 12);
+        } else if (tag == 0x61746164) { // "data"
+          return byteRate > 0 ? (float) (size & 0xFFFFFFFFL) / byteRate : DEFAULT_DURATION;
+        } else {
+          data.skipNBytes(size + (size & 1)); // chunks are padded to an even size
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      LOGGER.log(Level.WARNING, "Could not read the length of " + file.path(), e);
+      return DEFAULT_DURATION;
+    }
+  }
+
+  private static int readIntLE(final DataInputStream data) throws IOException {
+    return Integer.reverseBytes(data.readInt());
+  }
+
+  private record LoadedSound(Sound sound, float duration) {}
+
+  private record Voice(Sound sound, long id, int priority, long startedAt, long endsAt) {}
+}
@@ -0,0 +1,196 @@
+package core.utils.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that passes the log records to another handler on a background thread.
+ *
+ * <p>{@link #publish(LogRecord)} only stores the record in a bounded, lock-free ring buffer. A
+ * daemon thread takes the records out of the buffer and publishes them to the target handler, so
+ * formatting the messages and writing them to the disk does not slow down the logging thread.
+ *
+ * <p>If the buffer is full, new records are dropped, except for records with the level {@link
+ * Level#SEVERE} or higher, which are published to the target handler on the logging thread. The
+ * number of dropped records is logged by the background thread once there is space again.
+ *
+ * <p>The messages are formatted later, on the background thread. Parameters of parameterised
+ * messages (e.g. {@code logger.log(Level.INFO, "{0} was added", name)}) should therefore be
+ * immutable. The caller of a log method can not be inferred on the background thread, and inferring
+ * it on the logging thread needs a stack walk, so the source class of each record is set to the
+ * name of its logger.
+ *
+ * <p>Use {@link #flush()} to wait until all records published so far are written.
+ */
+public final class AsyncLogHandler extends Handler {
+
+  /** Default number of records the buffer can hold. */
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+  private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  private final Handler target;
+  private final int mask;
+  private final AtomicReferenceArray<LogRecord> slots;
+  // sequence number per slot: equal to the next write position if the slot is free, write
+  // position + 1 if the slot holds a record
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final Thread writer;
+  // only used by the writer thread
+  private long head = 0;
+  // number of records passed to the target handler, only written by the writer thread
+  private volatile long written = 0;
+  private volatile boolean closed = false;
+
+  /**
+   * Create a new handler with the {@link #DEFAULT_CAPACITY}.
+   *
+   * @param target Handler the records are published to.
+   */
+  public AsyncLogHandler(final Handler target) {
+    this(target, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a new handler.
+   *
+   * @param target Handler the records are published to.
+   * @param capacity Number of records the buffer can hold, rounded up to a power of two.
+   * @throws IllegalArgumentException if the capacity is not positive.
+   */
+  public AsyncLogHandler(final Handler target, int capacity) {
+    if (capacity < 1) throw new IllegalArgumentException("The capacity must be positive.");
+    this.target = target;
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) size <<= 1;
+    mask = size - 1;
+    slots = new AtomicReferenceArray<>(size);
+    sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) sequences.set(i, i);
+    setLevel(Level.ALL);
+    writer = new Thread(this::drainLoop, "AsyncLogWriter");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @Override
+  public void publish(final LogRecord record) {
+    if (closed || !isLoggable(record)) return;
+    record.setSourceClassName(record.getLoggerName());
+    if (offer(record)) return;
+    if (record.getLevel().intValue() >= Level.SEVERE.intValue()) target.publish(record);
+    else dropped.incrementAndGet();
+  }
+
+  /**
+   * Wait until all records published so far are passed to the target handler, and flush it.
+   *
+   * <p>Waits at most 5 seconds.
+   */
+  @Override
+  public void flush() {
+    long end = tail.get();
+    long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+    while (written < end && writer.isAlive() && System.nanoTime() < deadline) {
+      LockSupport.unpark(writer);
+      Thread.onSpinWait();
+    }
+    target.flush();
+  }
+
+  /** Write all pending records, stop the background thread, and close the target handler. */
+  @Override
+  public void close() {
+    if (closed) return;
+    flush();
+    closed = true;
+    LockSupport.unpark(writer);
+    try {
+      writer.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    target.close();
+  }
+
+  /**
+   * Get the number of records that were dropped because the buffer was full.
+   *
+   * @return Number of dropped records since the creation of this handler.
+   */
+  public long droppedRecords() {
+    return dropped.get();
+  }
+
+  private boolean offer(final LogRecord record) {
+    while (true) {
+      long position = tail.get();
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slots.set(index, record);
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        return false; // the slot still holds a record from the last round, the buffer is full
+      }
+      // another thread claimed this position in the meantime, try the next one
+    }
+  }
+
+  private LogRecord poll() {
+    long position = head;
+    int index = (int) (position & mask);
+    if (sequences.get(index) != position + 1) return null;
+    LogRecord record = slots.get(index);
+    slots.set(index, null);
+    sequences.set(index, position + mask + 1);
+    head = position + 1;
+    return record;
+  }
+
+  private void drainLoop() {
+    long reportedDrops = 0;
+    while (true) {
+      LogRecord record = poll();
+      if (record != null) {
+        write(record);
+        written = head;
+        continue;
+      }
+      long drops = dropped.get();
+      if (drops > reportedDrops) {
+        LogRecord report =
+            new LogRecord(
+                Level.WARNING,
+                (drops - reportedDrops) + " log records were dropped, the log buffer was full.");
+        report.setLoggerName(AsyncLogHandler.class.getSimpleName());
+        report.setSourceClassName(AsyncLogHandler.class.getSimpleName());
+        write(report);
+        reportedDrops = drops;
+      }
+      if (closed) return;
+      LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+    }
+  }
+
+  private void write(final LogRecord record) {
+    try {
+      target.publish(record);
+    } catch (RuntimeException e) {
+      reportError("The target handler failed to publish a record.", e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+}
@@ -18,10 +18,20 @@ import java.util.logging.SimpleFormatter;
  *
  * <p>Will create a new Logfile and write the log messages into it. Disables the output of log
  * messages on the shell.
+ *
+ * <p>The log file is written by an {@link AsyncLogHandler}, so logging does not wait for the disk.
+ * Call {@link #flush()} to write all pending messages; this is done when the game is closed and
+ * when the JVM shuts down.
+ *
+ * <p>Messages of disabled levels cost nothing if the message is only built when needed. Use a
+ * {@code Supplier} (e.g. {@code LOGGER.info(() -> "..." + entity)}) or a parameterised message
+ * with immutable parameters (e.g. {@code LOGGER.log(Level.INFO, "{0} was created", name)})
+ * instead of concatenating the message before the call.
  */
 public final class LoggerConfig {
   private static Logger baseLogger;
   private static FileHandler customFileHandler;
+  private static AsyncLogHandler asyncHandler;
 
   private static void createCustomFileHandler() {
     SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yyyy'T'HH-mm-ss");
@@ -60,6 +70,19 @@ public final class LoggerConfig {
     baseLogger.removeHandler(baseLogger.getHandlers()[0]);
 
     createCustomFileHandler();
-    baseLogger.addHandler(customFileHandler);
+    if (customFileHandler == null) return;
+    if (asyncHandler != null) {
+      baseLogger.removeHandler(asyncHandler);
+      asyncHandler.close();
+    } else {
+      Runtime.getRuntime().addShutdownHook(new Thread(LoggerConfig::flush));
+    }
+    asyncHandler = new AsyncLogHandler(customFileHandler);
+    baseLogger.addHandler(asyncHandler);
+  }
+
+  /** Write all pending log messages into the log file. */
+  public static void flush() {
+    if (asyncHandler != null) asyncHandler.flush();
   }
 }
@@ -0,0 +1,107 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.Component;
+import core.Entity;
+import core.System;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the deferred structural changes of the {@link ECSManagment} class. */
+public class ECSManagmentTest {
+
+  private final List<Entity> added = new ArrayList<>();
+  private final List<Entity> removed = new ArrayList<>();
+
+  /** Register a system that records the callbacks and enable deferred changes. */
+  @BeforeEach
+  public void setup() {
+    ECSManagment.add(
+        new System(DummyComponent.class, OtherComponent.class) {
+          {
+            onEntityAdd = added::add;
+            onEntityRemove = removed::add;
+          }
+
+          @Override
+          public void execute() {}
+        });
+    ECSManagment.deferChanges(true);
+  }
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    ECSManagment.deferChanges(false);
+    ECSManagment.removeAllEntities();
+    ECSManagment.removeAllSystems();
+  }
+
+  /** Recorded changes are not visible before the flush. */
+  @Test
+  public void add_deferred() {
+    Entity e = new Entity();
+    ECSManagment.add(e);
+    assertEquals(0, ECSManagment.entityStream().count());
+    ECSManagment.flushChanges();
+    assertEquals(1, ECSManagment.entityStream().count());
+  }
+
+  /** Adding an entity and its components triggers the system only once. */
+  @Test
+  public void add_singleTrigger() {
+    Entity e = new Entity();
+    ECSManagment.add(e);
+    e.add(new DummyComponent());
+    e.add(new OtherComponent());
+    assertTrue(added.isEmpty());
+    ECSManagment.flushChanges();
+    assertEquals(List.of(e), added);
+  }
+
+  /** Adding and removing an entity in the same frame does not trigger the system at all. */
+  @Test
+  public void addAndRemove_noTrigger() {
+    Entity e = new Entity();
+    e.add(new DummyComponent());
+    e.add(new OtherComponent());
+    ECSManagment.add(e);
+    ECSManagment.remove(e);
+    ECSManagment.flushChanges();
+    assertTrue(added.isEmpty());
+    assertTrue(removed.isEmpty());
+    assertEquals(0, ECSManagment.entityStream().count());
+  }
+
+  /** Component changes of entities that are in the game are applied with the flush. */
+  @Test
+  public void removeComponent_deferred() {
+    Entity e = new Entity();
+    e.add(new DummyComponent());
+    e.add(new OtherComponent());
+    ECSManagment.add(e);
+    ECSManagment.flushChanges();
+    e.remove(DummyComponent.class);
+    e.remove(OtherComponent.class);
+    assertTrue(removed.isEmpty());
+    ECSManagment.flushChanges();
+    assertEquals(List.of(e), removed);
+    assertEquals(1, ECSManagment.entityStream().count());
+  }
+
+  /** Disabling the deferred mode applies all recorded changes. */
+  @Test
+  public void disable_flushes() {
+    ECSManagment.add(new Entity());
+    ECSManagment.deferChanges(false);
+    assertEquals(1, ECSManagment.entityStream().count());
+  }
+
+  private static class DummyComponent implements Component {}
+
+  private static class OtherComponent implements Component {}
+}
@@ -0,0 +1,113 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.System;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link FrameProfiler} class. */
+public class FrameProfilerTest {
+
+  private final System system =
+      new System() {
+        @Override
+        public void execute() {}
+      };
+
+  /** WTF? . */
+  @BeforeEach
+  public void setup() {
+    FrameProfiler.clear();
+    FrameProfiler.enabled(true);
+  }
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    FrameProfiler.enabled(false);
+    FrameProfiler.overlay(false);
+    FrameProfiler.clear();
+  }
+
+  /** WTF? . */
+  @Test
+  public void recordsFrame() {
+    recordFrame(3);
+    FrameProfiler.Frame frame = FrameProfiler.lastFrame().orElseThrow();
+    assertEquals(3, frame.drawCalls());
+    assertTrue(frame.frameMillis() >= 0);
+    assertTrue(frame.systemMillis().containsKey(system.getClass().getSimpleName()));
+    assertFalse(frame.entityCounts().isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void disabled_recordsNothing() {
+    FrameProfiler.enabled(false);
+    recordFrame(0);
+    assertTrue(FrameProfiler.lastFrame().isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void ringBuffer_keepsLastFrames() {
+    for (int i = 0; i < FrameProfiler.CAPACITY + 5; i++) recordFrame(i);
+    List<FrameProfiler.Frame> frames = FrameProfiler.frames();
+    assertEquals(FrameProfiler.CAPACITY, frames.size());
+    assertEquals(5, frames.getFirst().drawCalls());
+    assertEquals(FrameProfiler.CAPACITY + 4, frames.getLast().drawCalls());
+  }
+
+  /** WTF? . */
+  @Test
+  public void systemNotExecuted_missing() {
+    recordFrame(0);
+    FrameProfiler.beginFrame();
+    FrameProfiler.endFrame(0);
+    assertTrue(FrameProfiler.lastFrame().orElseThrow().systemMillis().isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void exportCsv() throws IOException {
+    recordFrame(1);
+    recordFrame(2);
+    StringWriter out = new StringWriter();
+    FrameProfiler.exportCsv(out);
+    String[] lines = out.toString().split("\n");
+    assertEquals(3, lines.length);
+    assertTrue(lines[0].startsWith("frame,frameMillis,allocatedBytes,drawCalls"));
+    assertTrue(lines[0].contains("system:" + system.getClass().getSimpleName()));
+  }
+
+  /** WTF? . */
+  @Test
+  public void exportJson() throws IOException {
+    recordFrame(7);
+    StringWriter out = new StringWriter();
+    FrameProfiler.exportJson(out);
+    String json = out.toString();
+    assertTrue(json.startsWith("["));
+    assertTrue(json.contains("\"drawCalls\": 7"));
+    assertTrue(json.trim().endsWith("]"));
+  }
+
+  /** WTF? . */
+  @Test
+  public void overlay_enablesProfiler() {
+    FrameProfiler.enabled(false);
+    FrameProfiler.overlay(true);
+    assertTrue(FrameProfiler.enabled());
+  }
+
+  private void recordFrame(int drawCalls) {
+    FrameProfiler.beginFrame();
+    FrameProfiler.execute(system);
+    FrameProfiler.endFrame(drawCalls);
+  }
+}
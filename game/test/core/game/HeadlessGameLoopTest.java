@@ -0,0 +1,35 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.Game;
+import core.systems.DrawSystem;
+import core.systems.LevelSystem;
+import core.systems.VelocitySystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link HeadlessGameLoop} class. */
+public class HeadlessGameLoopTest {
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    GameClock.reset();
+  }
+
+  /** The simulation loads a level and advances the clock with a fixed timestep. */
+  @Test
+  public void run() {
+    HeadlessGameLoop.run(10);
+    assertNotNull(Game.currentLevel());
+    assertEquals(10, GameClock.frames());
+    assertEquals(HeadlessGameLoop.timestep(), GameClock.deltaTime());
+    assertEquals(10 * HeadlessGameLoop.timestep(), GameClock.time(), 0.0001f);
+    assertTrue(Game.systems().containsKey(LevelSystem.class));
+    assertTrue(Game.systems().containsKey(VelocitySystem.class));
+    assertFalse(Game.systems().containsKey(DrawSystem.class));
+  }
+}
@@ -0,0 +1,138 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.Component;
+import core.System;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link SystemScheduler} class. */
+public class SystemSchedulerTest {
+
+  private final SystemScheduler scheduler = new SystemScheduler();
+  private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+  /** WTF? . */
+  @BeforeEach
+  public void setup() {
+    PreRunConfiguration.parallelSystems(true);
+  }
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    ECSManagment.deferChanges(false);
+    PreRunConfiguration.parallelSystems(false);
+  }
+
+  /** Systems that write the same component are executed in registration order. */
+  @Test
+  public void conflictingSystems_inOrder() {
+    System first = declared("first", () -> sleep(50));
+    System second = declared("second", () -> {});
+    scheduler.execute(List.of(first, second), () -> false);
+    assertEquals(List.of("first", "second"), executed);
+  }
+
+  /** Systems with disjoint component access are executed at the same time. */
+  @Test
+  public void disjointSystems_parallel() {
+    CountDownLatch latch = new CountDownLatch(2);
+    List<Boolean> results = Collections.synchronizedList(new ArrayList<>());
+    Runnable meet =
+        () -> {
+          latch.countDown();
+          results.add(await(latch));
+        };
+    System first = new TestSystem("first", meet, DummyComponent.class);
+    System second = new TestSystem("second", meet, OtherComponent.class);
+    scheduler.execute(List.of(first, second), () -> false);
+    assertEquals(List.of(true, true), results);
+  }
+
+  /** Systems without declared access are executed on the calling thread. */
+  @Test
+  public void undeclaredSystem_mainThread() {
+    List<Thread> threads = new ArrayList<>();
+    System system =
+        new System() {
+          @Override
+          public void execute() {
+            threads.add(Thread.currentThread());
+          }
+        };
+    scheduler.execute(List.of(system), () -> false);
+    assertEquals(List.of(Thread.currentThread()), threads);
+  }
+
+  /** No more systems are started after the abort condition is met. */
+  @Test
+  public void abort() {
+    System first = declared("first", () -> {});
+    System second = declared("second", () -> {});
+    scheduler.execute(List.of(first, second), () -> !executed.isEmpty());
+    assertEquals(List.of("first"), executed);
+  }
+
+  /** Changes are deferred while systems are executed in parallel and restored afterward. */
+  @Test
+  public void deferChanges_restored() {
+    List<Boolean> deferred = Collections.synchronizedList(new ArrayList<>());
+    System system =
+        new TestSystem(
+            "system", () -> deferred.add(ECSManagment.deferChanges()), DummyComponent.class);
+    scheduler.execute(List.of(system), () -> false);
+    assertEquals(List.of(true), deferred);
+    assertFalse(ECSManagment.deferChanges());
+  }
+
+  private System declared(final String name, final Runnable action) {
+    return new TestSystem(name, action, DummyComponent.class);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static boolean await(final CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private class TestSystem extends System {
+    private final String name;
+    private final Runnable action;
+
+    private TestSystem(
+        final String name, final Runnable action, final Class<? extends Component> written) {
+      this.name = name;
+      this.action = action;
+      writes(written);
+    }
+
+    @Override
+    public void execute() {
+      action.run();
+      executed.add(name);
+    }
+  }
+
+  private static class DummyComponent implements Component {}
+
+  private static class OtherComponent implements Component {}
+}
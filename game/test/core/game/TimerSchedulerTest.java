@@ -0,0 +1,75 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link TimerScheduler} class. */
+public class TimerSchedulerTest {
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    GameClock.paused(false);
+    GameClock.timeScale(1f);
+    GameClock.reset();
+  }
+
+  /** Timers are executed once they are due, in the order of their due time. */
+  @Test
+  public void schedule_executedInOrder() {
+    List<Integer> executed = new ArrayList<>();
+    TimerScheduler.schedule(0.2f, () -> executed.add(2));
+    TimerScheduler.schedule(0.1f, () -> executed.add(1));
+    GameClock.tick(0.15f);
+    assertEquals(List.of(1), executed);
+    GameClock.tick(0.1f);
+    assertEquals(List.of(1, 2), executed);
+    assertEquals(0, TimerScheduler.pending());
+  }
+
+  /** Repeating timers are executed once per period, until they are cancelled. */
+  @Test
+  public void scheduleRepeating() {
+    int[] count = {0};
+    TimerScheduler.Timer timer = TimerScheduler.scheduleRepeating(0f, 0.1f, () -> count[0]++);
+    GameClock.tick(0.05f);
+    assertEquals(1, count[0]);
+    GameClock.tick(0.2f);
+    assertEquals(3, count[0]);
+    timer.cancel();
+    GameClock.tick(1f);
+    assertEquals(3, count[0]);
+    assertTrue(timer.isDone());
+  }
+
+  /** Cancelled timers are not executed. */
+  @Test
+  public void cancel() {
+    int[] count = {0};
+    TimerScheduler.Timer timer = TimerScheduler.schedule(0.1f, () -> count[0]++);
+    timer.cancel();
+    GameClock.tick(1f);
+    assertEquals(0, count[0]);
+    assertTrue(timer.isCancelled());
+    assertEquals(0, TimerScheduler.pending());
+  }
+
+  /** Timers follow the game time, so they stop while the clock is paused. */
+  @Test
+  public void pausedAndScaledClock() {
+    int[] count = {0};
+    TimerScheduler.schedule(1f, () -> count[0]++);
+    GameClock.paused(true);
+    GameClock.tick(5f);
+    assertEquals(0, count[0]);
+    GameClock.paused(false);
+    GameClock.timeScale(2f);
+    GameClock.tick(0.5f);
+    assertEquals(1, count[0]);
+    assertEquals(1000, GameClock.millis());
+  }
+}
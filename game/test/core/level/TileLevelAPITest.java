@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import core.Entity;
 import core.Game;
 import core.components.PlayerComponent;
@@ -15,6 +16,7 @@ import core.level.elements.tile.ExitTile;
 import core.level.generator.IGenerator;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
+import core.level.utils.LevelChunkCache;
 import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
 import core.systems.LevelSystem;
@@ -43,6 +45,7 @@ public class TileLevelAPITest {
   private ILevel level;
 
   private MockedConstruction<Texture> textureMockedConstruction;
+  private MockedStatic<TextureMap> textureMapMock;
 
   /** WTF? . */
   @BeforeEach
@@ -51,15 +54,16 @@ public class TileLevelAPITest {
     TextureMap textureMap = Mockito.mock(TextureMap.class);
     textureMockedConstruction = Mockito.mockConstruction(Texture.class);
 
-    try (MockedStatic<TextureMap> textureMapMock = Mockito.mockStatic(TextureMap.class)) {
-      textureMapMock.when(TextureMap::instance).thenReturn(textureMap);
-    }
+    textureMapMock = Mockito.mockStatic(TextureMap.class);
+    textureMapMock.when(TextureMap::instance).thenReturn(textureMap);
     when(textureMap.textureAt(any())).thenReturn(texture);
+    when(textureMap.regionAt(any())).thenReturn(Mockito.mock(TextureRegion.class));
 
     painter = Mockito.mock(Painter.class);
     generator = Mockito.mock(IGenerator.class);
     onLevelLoader = Mockito.mock(IVoidFunction.class);
     level = Mockito.mock(TileLevel.class);
+    when(level.chunkCache()).thenReturn(new LevelChunkCache(level));
     api = new LevelSystem(painter, generator, onLevelLoader);
     Game.add(api);
   }
@@ -71,6 +75,7 @@ public class TileLevelAPITest {
     Game.removeAllEntities();
     Game.removeAllSystems();
     textureMockedConstruction.close();
+    textureMapMock.close();
   }
 
   /** WTF? . */
@@ -172,6 +177,7 @@ public class TileLevelAPITest {
     api.loadLevel(level);
     api.execute();
 
+    verify(level).chunkCache();
     verify(level).layout();
     verifyNoMoreInteractions(level);
 
@@ -181,7 +187,9 @@ public class TileLevelAPITest {
     verify(layout[0][0]).tintColor();
     verify(layout[0][0]).position();
     // for some reason mockito.verify can't compare the points of the tile correctly
-    verify(painter, times(3)).draw(any(Point.class), any(IPath.class), any(PainterConfig.class));
+    verify(painter, times(3))
+        .draw(
+            any(Point.class), any(IPath.class), any(PainterConfig.class), eq(Painter.LEVEL_LAYER));
     verifyNoMoreInteractions(layout[0][0]);
 
     verify(layout[0][1]).levelElement();
@@ -190,7 +198,9 @@ public class TileLevelAPITest {
     verify(layout[0][1]).tintColor();
     verify(layout[0][1]).position();
     // for some reason mockito.verify can't compare the points of the tile correctly
-    verify(painter, times(3)).draw(any(Point.class), any(IPath.class), any(PainterConfig.class));
+    verify(painter, times(3))
+        .draw(
+            any(Point.class), any(IPath.class), any(PainterConfig.class), eq(Painter.LEVEL_LAYER));
     verifyNoMoreInteractions(layout[0][1]);
     verify(layout[1][0]).levelElement();
     verify(layout[1][0]).visible();
@@ -198,7 +208,9 @@ public class TileLevelAPITest {
     verify(layout[1][0]).tintColor();
     verify(layout[1][0]).position();
     // for some reason mockito.verify can't compare the points of the tile correctly
-    verify(painter, times(3)).draw(any(Point.class), any(IPath.class), any(PainterConfig.class));
+    verify(painter, times(3))
+        .draw(
+            any(Point.class), any(IPath.class), any(PainterConfig.class), eq(Painter.LEVEL_LAYER));
     verifyNoMoreInteractions(layout[1][0]);
 
     // do not draw skip tiles
@@ -503,4 +503,39 @@ public class TileTextureFactoryTest {
                     layout[coordinate.y][coordinate.x], design, layout, coordinate))
             .pathString());
   }
+
+  /** The texture of a tile in a level is the same as for its element in the layout. */
+  @Test
+  public void test_findTexturePath_tileLayout() {
+    TileLevel level = new TileLevel(layout, design);
+    for (int y = 0; y < layout.length; y++) {
+      for (int x = 0; x < layout[y].length; x++) {
+        Coordinate coordinate = new Coordinate(x, y);
+        Tile tile = level.tileAt(coordinate);
+        assertEquals(
+            TileTextureFactory.findTexturePath(
+                    new TileTextureFactory.LevelPart(
+                        tile.levelElement(), design, layout, coordinate))
+                .pathString(),
+            TileTextureFactory.findTexturePath(tile, level.layout()).pathString());
+      }
+    }
+  }
+
+  /** Changing a tile will re-texture its neighbours like a new level with the changed layout. */
+  @Test
+  public void test_changeTileElementType_neighbours() {
+    TileLevel level = new TileLevel(layout, design);
+    level.changeTileElementType(level.tileAt(new Coordinate(5, 5)), LevelElement.WALL);
+    layout[5][5] = LevelElement.WALL;
+    TileLevel expected = new TileLevel(layout, design);
+    for (int y = 0; y < layout.length; y++) {
+      for (int x = 0; x < layout[y].length; x++) {
+        Coordinate coordinate = new Coordinate(x, y);
+        assertEquals(
+            expected.tileAt(coordinate).texturePath().pathString(),
+            level.tileAt(coordinate).texturePath().pathString());
+      }
+    }
+  }
 }
@@ -0,0 +1,64 @@
+package core.level.elements.astar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link PathCache} class. */
+public class PathCacheTest {
+
+  private static final LevelElement W = LevelElement.WALL;
+  private static final LevelElement F = LevelElement.FLOOR;
+
+  private TileLevel level;
+  private Tile start;
+  private Tile end;
+
+  /** Create a level with a wall between start and end. */
+  @BeforeEach
+  public void setup() {
+    // start is at (0,1), end is at (2,1)
+    level =
+        new TileLevel(
+            new LevelElement[][] {{F, F, F}, {F, W, F}, {F, F, F}}, DesignLabel.DEFAULT);
+    start = level.tileAt(new Coordinate(0, 1));
+    end = level.tileAt(new Coordinate(2, 1));
+  }
+
+  /** The second request for the same path is answered from the cache. */
+  @Test
+  public void findPath_hit() {
+    GraphPath<Tile> first = level.findPath(start, end);
+    GraphPath<Tile> second = level.findPath(start, end);
+    assertEquals(1, level.pathCache().misses());
+    assertEquals(1, level.pathCache().hits());
+    assertEquals(5, second.getCount());
+    assertNotSame(first, second);
+    for (int i = 0; i < first.getCount(); i++) assertEquals(first.get(i), second.get(i));
+  }
+
+  /** Modifying a returned path does not change the cached path. */
+  @Test
+  public void findPath_copy() {
+    level.findPath(start, end).clear();
+    assertEquals(5, level.findPath(start, end).getCount());
+  }
+
+  /** Changing a tile removes all cached paths. */
+  @Test
+  public void changeTile_invalidates() {
+    level.findPath(start, end);
+    assertEquals(1, level.pathCache().size());
+    level.changeTileElementType(level.tileAt(new Coordinate(1, 1)), LevelElement.FLOOR);
+    assertEquals(0, level.pathCache().size());
+    assertEquals(3, level.findPath(start, end).getCount());
+    assertEquals(2, level.pathCache().misses());
+  }
+}
@@ -0,0 +1,89 @@
+package core.level.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import core.level.elements.ILevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link LevelPregenerator} class. */
+public class LevelPregeneratorTest {
+
+  private IGenerator generator;
+  private ILevel level;
+  private LevelPregenerator pregenerator;
+
+  /** WTF? . */
+  @BeforeEach
+  public void setup() {
+    generator = mock(IGenerator.class);
+    level = mock(ILevel.class);
+    when(generator.level(any(), any())).thenReturn(level);
+    pregenerator = new LevelPregenerator(generator);
+  }
+
+  /** WTF? . */
+  @Test
+  public void fill_generatesLevels() {
+    pregenerator.fill(LevelSize.SMALL, 3);
+    assertEquals(3, pregenerator.size());
+    pregenerator.fill(LevelSize.SMALL, 1);
+    assertEquals(1, pregenerator.size());
+  }
+
+  /** WTF? . */
+  @Test
+  public void fill_dropsOtherSizes() {
+    pregenerator.fill(LevelSize.SMALL, 2);
+    pregenerator.fill(LevelSize.LARGE, 1);
+    assertEquals(1, pregenerator.size());
+    assertTrue(pregenerator.take(LevelSize.SMALL, null).isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void take_anyDesign() {
+    pregenerator.fill(LevelSize.MEDIUM, 2);
+    assertSame(level, pregenerator.take(LevelSize.MEDIUM, null).orElseThrow());
+    assertEquals(1, pregenerator.size());
+  }
+
+  /** WTF? . */
+  @Test
+  public void take_wrongSize() {
+    pregenerator.fill(LevelSize.MEDIUM, 2);
+    assertTrue(pregenerator.take(LevelSize.SMALL, null).isEmpty());
+    assertEquals(2, pregenerator.size());
+  }
+
+  /** WTF? . */
+  @Test
+  public void take_failedGeneration() {
+    when(generator.level(any(), eq(LevelSize.SMALL))).thenThrow(new IllegalStateException());
+    pregenerator.fill(LevelSize.SMALL, 1);
+    assertTrue(pregenerator.take(LevelSize.SMALL, null).isEmpty());
+    assertEquals(0, pregenerator.size());
+  }
+
+  /** WTF? . */
+  @Test
+  public void take_empty() {
+    assertTrue(pregenerator.take(LevelSize.SMALL, DesignLabel.DEFAULT).isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void clear() {
+    pregenerator.fill(LevelSize.SMALL, 2);
+    pregenerator.clear();
+    assertEquals(0, pregenerator.size());
+  }
+}
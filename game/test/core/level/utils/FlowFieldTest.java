@@ -0,0 +1,93 @@
+package core.level.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.Entity;
+import core.Game;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.generator.IGenerator;
+import core.systems.LevelSystem;
+import core.utils.IVoidFunction;
+import core.utils.Point;
+import core.utils.components.draw.Painter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests for the {@link FlowField} class. */
+public class FlowFieldTest {
+
+  // layout is:
+  //
+  // W W W W W
+  // W F W F W
+  // W F W F W
+  // W F F F W
+  // W W W W W
+
+  private static final LevelElement W = LevelElement.WALL;
+  private static final LevelElement F = LevelElement.FLOOR;
+
+  private PositionComponent heroPosition;
+
+  /** Create the level and place the hero at (1,1). */
+  @BeforeEach
+  public void setup() {
+    Game.add(
+        new LevelSystem(
+            Mockito.mock(Painter.class),
+            Mockito.mock(IGenerator.class),
+            Mockito.mock(IVoidFunction.class)));
+    Game.currentLevel(
+        new TileLevel(
+            new LevelElement[][] {
+              {W, W, W, W, W}, {W, F, W, F, W}, {W, F, W, F, W}, {W, F, F, F, W}, {W, W, W, W, W}
+            },
+            DesignLabel.DEFAULT));
+    heroPosition = new PositionComponent(new Point(1, 1));
+    Entity hero = new Entity();
+    hero.add(new PlayerComponent());
+    hero.add(heroPosition);
+    Game.add(hero);
+  }
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /** The next step follows the shortest way around the wall. */
+  @Test
+  public void nextStepToHero() {
+    Tile start = Game.tileAT(new Coordinate(3, 1));
+    assertEquals(Game.tileAT(new Coordinate(3, 2)), FlowField.nextStepToHero(start).orElseThrow());
+    assertEquals(6, FlowField.distanceToHero(start), 0.001f);
+    assertEquals(7, FlowField.pathToHero(start).getCount());
+  }
+
+  /** The field is calculated again after the hero moved onto another tile. */
+  @Test
+  public void heroMoved() {
+    Tile start = Game.tileAT(new Coordinate(1, 3));
+    assertEquals(Game.tileAT(new Coordinate(1, 2)), FlowField.nextStepToHero(start).orElseThrow());
+    heroPosition.position(new Point(3, 3));
+    assertEquals(Game.tileAT(new Coordinate(2, 3)), FlowField.nextStepToHero(start).orElseThrow());
+    assertEquals(2, FlowField.distanceToHero(start), 0.001f);
+  }
+
+  /** There is no next step on the tile of the hero or if there is no hero. */
+  @Test
+  public void noNextStep() {
+    Tile heroTile = Game.tileAT(new Coordinate(1, 1));
+    assertTrue(FlowField.nextStepToHero(heroTile).isEmpty());
+    Game.removeAllEntities();
+    assertTrue(FlowField.nextStepToHero(Game.tileAT(new Coordinate(3, 1))).isEmpty());
+    assertEquals(0, FlowField.pathToHero(heroTile).getCount());
+  }
+}
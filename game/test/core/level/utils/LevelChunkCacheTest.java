@@ -0,0 +1,80 @@
+package core.level.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link LevelChunkCache} class. */
+public class LevelChunkCacheTest {
+
+  private static final int SIZE = 2 * LevelChunkCache.CHUNK_SIZE;
+
+  private TileLevel level;
+  private LevelChunkCache cache;
+
+  /** Create a level with 2 x 2 chunks that only contains floor tiles. */
+  @BeforeEach
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[SIZE][SIZE];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    cache = level.chunkCache();
+  }
+
+  /** Only the chunks in the view are built and iterated. */
+  @Test
+  public void onlyChunksInView() {
+    List<LevelChunkCache.Entry> entries = firstChunk();
+    int tilesPerChunk = LevelChunkCache.CHUNK_SIZE * LevelChunkCache.CHUNK_SIZE;
+    assertEquals(tilesPerChunk, entries.size());
+    assertEquals(1, cache.rebuilds());
+  }
+
+  /** Unchanged chunks are not built again. */
+  @Test
+  public void unchangedChunk_notRebuilt() {
+    firstChunk();
+    firstChunk();
+    assertEquals(1, cache.rebuilds());
+  }
+
+  /** Hidden tiles are removed after the chunk was rebuilt. */
+  @Test
+  public void hiddenTile_rebuilt() {
+    firstChunk();
+    Tile tile = level.tileAt(new Coordinate(1, 1));
+    tile.visible(false);
+    List<LevelChunkCache.Entry> entries = firstChunk();
+    assertEquals(2, cache.rebuilds());
+    assertTrue(entries.stream().noneMatch(e -> e.position().equals(tile.position())));
+  }
+
+  /** Changes in chunks outside the view do not trigger a rebuild. */
+  @Test
+  public void dirtyChunkOutsideView_notRebuilt() {
+    firstChunk();
+    level.tileAt(new Coordinate(SIZE - 1, SIZE - 1)).tintColor(0x22FF22FF);
+    firstChunk();
+    assertEquals(1, cache.rebuilds());
+  }
+
+  /** The tint color of a tile is updated in the cache. */
+  @Test
+  public void tintColor_updated() {
+    firstChunk();
+    level.tileAt(new Coordinate(0, 0)).tintColor(0x22FF22FF);
+    assertTrue(firstChunk().stream().anyMatch(e -> e.tintColor() == 0x22FF22FF));
+  }
+
+  private List<LevelChunkCache.Entry> firstChunk() {
+    List<LevelChunkCache.Entry> entries = new ArrayList<>();
+    cache.forEachInView(0, 0, 1, 1, entries::add);
+    return entries;
+  }
+}
@@ -0,0 +1,75 @@
+package core.level.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.Entity;
+import core.components.PositionComponent;
+import core.utils.Point;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link OccupancyMap} class. */
+public class OccupancyMapTest {
+
+  private Entity entity;
+  private PositionComponent pc;
+
+  /** WTF? . */
+  @BeforeEach
+  public void setup() {
+    entity = new Entity();
+    pc = new PositionComponent(new Point(2.5f, 3.5f));
+    entity.add(pc);
+    OccupancyMap.track(entity, pc);
+  }
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    OccupancyMap.clear();
+  }
+
+  /** A tracked entity is found on its tile. */
+  @Test
+  public void at_trackedEntity() {
+    assertTrue(OccupancyMap.tracking());
+    assertEquals(List.of(entity), OccupancyMap.at(new Coordinate(2, 3)));
+    assertTrue(OccupancyMap.isOccupied(new Coordinate(2, 3)));
+    assertFalse(OccupancyMap.isOccupied(new Coordinate(3, 3)));
+  }
+
+  /** The index is updated if the entity moves to another tile. */
+  @Test
+  public void move_updatesIndex() {
+    pc.position(new Point(4.2f, 3.5f));
+    assertTrue(OccupancyMap.at(new Coordinate(2, 3)).isEmpty());
+    assertEquals(List.of(entity), OccupancyMap.at(new Coordinate(4, 3)));
+  }
+
+  /** An untracked entity is removed from the index and no longer updated. */
+  @Test
+  public void untrack_removesEntity() {
+    OccupancyMap.untrack(entity);
+    pc.position(new Point(4.2f, 3.5f));
+    assertFalse(OccupancyMap.tracking());
+    assertTrue(OccupancyMap.at(new Coordinate(2, 3)).isEmpty());
+    assertTrue(OccupancyMap.at(new Coordinate(4, 3)).isEmpty());
+  }
+
+  /** Only entities within the radius are returned. */
+  @Test
+  public void inRadius() {
+    assertEquals(List.of(entity), OccupancyMap.inRadius(new Point(3.5f, 3.5f), 1f));
+    assertTrue(OccupancyMap.inRadius(new Point(4.5f, 3.5f), 1.5f).isEmpty());
+  }
+
+  /** All entities on the tiles in the rectangle are returned. */
+  @Test
+  public void inRectangle() {
+    assertEquals(
+        List.of(entity), OccupancyMap.inRectangle(new Coordinate(0, 0), new Coordinate(2, 3)));
+    assertTrue(OccupancyMap.inRectangle(new Coordinate(3, 0), new Coordinate(5, 5)).isEmpty());
+  }
+}
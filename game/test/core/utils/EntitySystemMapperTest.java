@@ -0,0 +1,118 @@
+package core.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.Component;
+import core.Entity;
+import core.System;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link EntitySystemMapper} class. */
+public class EntitySystemMapperTest {
+
+  private EntitySystemMapper mapper;
+  private List<Entity> added;
+  private List<Entity> removed;
+
+  /** Create a mapper with one filter rule and a system that records the callbacks. */
+  @BeforeEach
+  public void setup() {
+    mapper = new EntitySystemMapper(Set.of(DummyComponent.class));
+    added = new ArrayList<>();
+    removed = new ArrayList<>();
+    mapper.add(
+        new System(DummyComponent.class) {
+          {
+            onEntityAdd = added::add;
+            onEntityRemove = removed::add;
+          }
+
+          @Override
+          public void execute() {}
+        });
+  }
+
+  /** Entities with the needed component will be stored. */
+  @Test
+  public void add_accepted() {
+    Entity e = new Entity();
+    e.add(new DummyComponent());
+    assertTrue(mapper.add(e));
+    assertTrue(mapper.contains(e));
+    assertEquals(1, mapper.size());
+    assertEquals(List.of(e), added);
+  }
+
+  /** Entities without the needed component will be ignored. */
+  @Test
+  public void add_notAccepted() {
+    Entity e = new Entity();
+    assertFalse(mapper.add(e));
+    assertFalse(mapper.contains(e));
+    assertEquals(0, mapper.size());
+    assertTrue(added.isEmpty());
+  }
+
+  /** Entities can only be stored once. */
+  @Test
+  public void add_twice() {
+    Entity e = new Entity();
+    e.add(new DummyComponent());
+    mapper.add(e);
+    assertFalse(mapper.add(e));
+    assertEquals(1, mapper.size());
+    assertEquals(1, added.size());
+  }
+
+  /** Removing an entity from the middle keeps the other entities. */
+  @Test
+  public void remove_keepsOthers() {
+    Entity e1 = entity();
+    Entity e2 = entity();
+    Entity e3 = entity();
+    assertTrue(mapper.remove(e1));
+    assertFalse(mapper.remove(e1));
+    assertEquals(2, mapper.size());
+    assertEquals(Set.of(e2, e3), Set.copyOf(mapper.stream().toList()));
+    assertEquals(List.of(e1), removed);
+  }
+
+  /** Update removes entities that lost a needed component. */
+  @Test
+  public void update_removesEntity() {
+    Entity e = entity();
+    e.remove(DummyComponent.class);
+    mapper.update(e);
+    assertFalse(mapper.contains(e));
+    assertEquals(List.of(e), removed);
+  }
+
+  /** Entities can be removed while iterating over the mapper. */
+  @Test
+  public void forEach_removeWhileIterating() {
+    entity();
+    entity();
+    entity();
+    List<Entity> visited = new ArrayList<>();
+    mapper.forEach(
+        e -> {
+          visited.add(e);
+          mapper.remove(e);
+        });
+    assertEquals(3, visited.size());
+    assertEquals(0, mapper.size());
+  }
+
+  private Entity entity() {
+    Entity e = new Entity();
+    e.add(new DummyComponent());
+    mapper.add(e);
+    return e;
+  }
+
+  private static class DummyComponent implements Component {}
+}
@@ -0,0 +1,51 @@
+package core.utils.components.draw;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link AnimationCatalog} class. */
+public class AnimationCatalogTest {
+
+  private static final IPath PATH = new SimpleIPath("textures/test_hero");
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    AnimationCatalog.clear();
+  }
+
+  /** Each subdirectory is an animation with sorted frames. */
+  @Test
+  public void frames() throws IOException {
+    Map<String, List<IPath>> frames = AnimationCatalog.frames(getClass(), PATH);
+    assertTrue(frames.containsKey("idle_left"));
+    assertTrue(frames.containsKey("run_right"));
+    List<IPath> run = frames.get("run_right");
+    for (int i = 1; i < run.size(); i++)
+      assertTrue(run.get(i - 1).pathString().compareTo(run.get(i).pathString()) < 0);
+  }
+
+  /** The same directory is only read once and shared between all callers. */
+  @Test
+  public void frames_shared() throws IOException {
+    Map<String, List<IPath>> first = AnimationCatalog.frames(getClass(), PATH);
+    assertSame(first, AnimationCatalog.frames(getClass(), PATH));
+    assertThrows(UnsupportedOperationException.class, () -> first.get("run_right").clear());
+  }
+
+  /** A missing directory is reported. */
+  @Test
+  public void frames_missing() {
+    assertThrows(
+        FileNotFoundException.class,
+        () -> AnimationCatalog.frames(getClass(), new SimpleIPath("textures/missing")));
+  }
+}
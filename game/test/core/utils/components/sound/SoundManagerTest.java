@@ -0,0 +1,82 @@
+package core.utils.components.sound;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import core.utils.components.path.SimpleIPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link SoundManager} class. */
+public class SoundManagerTest {
+
+  private static final SimpleIPath PATH = new SimpleIPath("sounds/test.ogg");
+
+  private Sound sound;
+
+  /** Mock the audio backend, each sound instance gets a new id. */
+  @BeforeEach
+  public void setup() {
+    Gdx.files = mock(Files.class);
+    Gdx.audio = mock(Audio.class);
+    FileHandle file = mock(FileHandle.class);
+    when(file.extension()).thenReturn("ogg");
+    when(Gdx.files.internal(anyString())).thenReturn(file);
+    sound = mock(Sound.class);
+    long[] ids = {0};
+    when(sound.play(anyFloat(), anyFloat(), anyFloat())).thenAnswer(invocation -> ids[0]++);
+    when(Gdx.audio.newSound(any())).thenReturn(sound);
+  }
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    SoundManager.dispose();
+    Gdx.files = null;
+    Gdx.audio = null;
+  }
+
+  /** Each sound file is loaded only once. */
+  @Test
+  public void play_loadsOnce() {
+    SoundManager.preload(PATH);
+    SoundManager.play(PATH, 1f, 1f, SoundManager.NORMAL_PRIORITY);
+    SoundManager.play(PATH, 1f, 1f, SoundManager.NORMAL_PRIORITY);
+    verify(Gdx.audio, times(1)).newSound(any());
+    assertEquals(2, SoundManager.activeVoices());
+  }
+
+  /** If all voices are in use, the oldest voice with the lowest priority is stopped. */
+  @Test
+  public void play_stealsLowestPriority() {
+    for (int i = 0; i < SoundManager.MAX_VOICES; i++)
+      SoundManager.play(PATH, 1f, 1f, SoundManager.LOW_PRIORITY);
+    long id = SoundManager.play(PATH, 1f, 1f, SoundManager.HIGH_PRIORITY);
+    assertEquals(SoundManager.MAX_VOICES, id);
+    verify(sound).stop(0);
+    assertEquals(SoundManager.MAX_VOICES, SoundManager.activeVoices());
+  }
+
+  /** A sound is not played if all voices have a higher priority. */
+  @Test
+  public void play_rejectedIfAllVoicesHaveHigherPriority() {
+    for (int i = 0; i < SoundManager.MAX_VOICES; i++)
+      SoundManager.play(PATH, 1f, 1f, SoundManager.HIGH_PRIORITY);
+    assertEquals(-1, SoundManager.play(PATH, 1f, 1f, SoundManager.LOW_PRIORITY));
+    verify(sound, never()).stop(anyLong());
+  }
+
+  /** Without audio backend, no sound is played. */
+  @Test
+  public void play_withoutAudio() {
+    Gdx.audio = null;
+    assertEquals(-1, SoundManager.play(PATH, 1f, 1f, SoundManager.NORMAL_PRIORITY));
+  }
+}
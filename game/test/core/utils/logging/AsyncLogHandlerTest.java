@@ -0,0 +1,121 @@
+package core.utils.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link AsyncLogHandler} class. */
+public class AsyncLogHandlerTest {
+
+  private final List<LogRecord> published = Collections.synchronizedList(new ArrayList<>());
+  private final CountDownLatch release = new CountDownLatch(1);
+  private volatile boolean block = false;
+  private volatile boolean closed = false;
+  private AsyncLogHandler handler;
+
+  private final Handler target =
+      new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+          if (block) await();
+          published.add(record);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {
+          closed = true;
+        }
+      };
+
+  /** WTF? . */
+  @AfterEach
+  public void cleanup() {
+    release.countDown();
+    if (handler != null) handler.close();
+  }
+
+  /** WTF? . */
+  @Test
+  public void flush_publishesAllRecords() {
+    handler = new AsyncLogHandler(target, 64);
+    for (int i = 0; i < 50; i++) handler.publish(record(Level.INFO, "message " + i));
+    handler.flush();
+    assertEquals(50, published.size());
+    assertEquals("message 0", published.getFirst().getMessage());
+    assertEquals("message 49", published.getLast().getMessage());
+  }
+
+  /** WTF? . */
+  @Test
+  public void fullBuffer_dropsRecords() {
+    block = true;
+    handler = new AsyncLogHandler(target, 4);
+    for (int i = 0; i < 20; i++) handler.publish(record(Level.INFO, "message " + i));
+    assertTrue(handler.droppedRecords() > 0);
+  }
+
+  /** WTF? . */
+  @Test
+  public void fullBuffer_severePublishedDirectly() {
+    block = true;
+    handler = new AsyncLogHandler(target, 4);
+    for (int i = 0; i < 20; i++) handler.publish(record(Level.INFO, "message " + i));
+    block = false;
+    handler.publish(record(Level.SEVERE, "severe"));
+    assertTrue(published.stream().anyMatch(record -> record.getMessage().equals("severe")));
+  }
+
+  /** WTF? . */
+  @Test
+  public void levelBelowHandlerLevel_ignored() {
+    handler = new AsyncLogHandler(target, 8);
+    handler.setLevel(Level.WARNING);
+    handler.publish(record(Level.INFO, "info"));
+    handler.flush();
+    assertTrue(published.isEmpty());
+  }
+
+  /** WTF? . */
+  @Test
+  public void close_closesTarget() {
+    handler = new AsyncLogHandler(target, 8);
+    handler.publish(record(Level.INFO, "message"));
+    handler.close();
+    assertEquals(1, published.size());
+    assertTrue(closed);
+  }
+
+  /** WTF? . */
+  @Test
+  public void sourceClass_isLoggerName() {
+    handler = new AsyncLogHandler(target, 8);
+    handler.publish(record(Level.INFO, "message"));
+    handler.flush();
+    assertEquals("TestLogger", published.getFirst().getSourceClassName());
+  }
+
+  private LogRecord record(final Level level, final String message) {
+    LogRecord record = new LogRecord(level, message);
+    record.setLoggerName("TestLogger");
+    return record;
+  }
+
+  private void await() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}